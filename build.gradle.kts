@@ -15,6 +15,15 @@ java {
     withJavadocJar()
 }
 
+// Microbenchmarks live in src/jmh and are run with "gradle jmh". Arguments are passed with -Pjmh.args="...".
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     compileOnly("com.google.code.gson:gson:2.11.0")
     compileOnly("org.jetbrains:annotations:26.0.1")
@@ -26,6 +35,10 @@ dependencies {
     testImplementation("com.google.code.gson:gson:2.11.0")
     testImplementation("org.ow2.asm:asm-tree:9.7")
     testImplementation("com.google.guava:guava:33.3.1-jre")
+    testImplementation("org.openjdk.jol:jol-core:0.17")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks {
@@ -48,6 +61,14 @@ tasks.test {
     useJUnitPlatform()
 }
 
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args((findProperty("jmh.args") ?: "").toString().split(" ").filter { it.isNotBlank() })
+}
+
 val testSourcesJar by tasks.registering(Jar::class) {
     archiveClassifier.set("test-sources")
     from(sourceSets["test"].output)
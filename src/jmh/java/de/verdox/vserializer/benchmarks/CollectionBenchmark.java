@@ -0,0 +1,82 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
+import de.verdox.vserializer.json.JsonSerializerContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing and deserializing collections, arrays and maps of different sizes.
+ * Run it with the gc profiler to see the allocations: {@code -Pjmh.args="CollectionBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionBenchmark {
+    private static final Serializer<List<Integer>> LIST = Serializer.Collection.create(Serializer.Primitive.INTEGER, ArrayList::new);
+    private static final Serializer<List<Integer>> PRESIZED_LIST = Serializer.Collection.createWithCapacity(Serializer.Primitive.INTEGER, ArrayList::new);
+    private static final Serializer<Integer[]> ARRAY = Serializer.Array.create(Serializer.Primitive.INTEGER, Integer[]::new);
+    private static final Serializer<Map<Integer, Integer>> MAP = Serializer.Map.create(Serializer.Primitive.INTEGER, Serializer.Primitive.INTEGER, HashMap::new);
+    private static final Serializer<Map<Integer, Integer>> PRESIZED_MAP = Serializer.Map.createWithCapacity(Serializer.Primitive.INTEGER, Serializer.Primitive.INTEGER, HashMap::newHashMap);
+
+    @Param({"10", "1000", "1000000"})
+    public int size;
+
+    private final JsonSerializerContext context = new JsonSerializerContext();
+    private List<Integer> list;
+    private Map<Integer, Integer> map;
+    private SerializationElement serializedList;
+    private SerializationElement serializedMap;
+
+    @Setup
+    public void setup() throws SerializationException {
+        list = new ArrayList<>(size);
+        map = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            map.put(i, i);
+        }
+        serializedList = LIST.serialize(context, list);
+        serializedMap = MAP.serialize(context, map);
+    }
+
+    @Benchmark
+    public SerializationElement serializeList() throws SerializationException {
+        return LIST.serialize(context, list);
+    }
+
+    @Benchmark
+    public List<Integer> deserializeList() throws SerializationException {
+        return LIST.deserialize(serializedList);
+    }
+
+    @Benchmark
+    public List<Integer> deserializePresizedList() throws SerializationException {
+        return PRESIZED_LIST.deserialize(serializedList);
+    }
+
+    @Benchmark
+    public Integer[] deserializeArray() throws SerializationException {
+        return ARRAY.deserialize(serializedList);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> deserializeMap() throws SerializationException {
+        return MAP.deserialize(serializedMap);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> deserializePresizedMap() throws SerializationException {
+        return PRESIZED_MAP.deserialize(serializedMap);
+    }
+}
@@ -0,0 +1,71 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
+import de.verdox.vserializer.generic.SerializerBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing an object of which only one small field changed, completely and incrementally.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IncrementalSerializerBenchmark {
+    private static final SerializerBuilder.IncrementalSerializer<Player> SERIALIZER = SerializerBuilder.create("player", Player.class)
+            .constructor(Player::new)
+            .withField("name", Serializer.Primitive.STRING, player -> player.name, (player, name) -> player.name = name)
+            .withField("level", Serializer.Primitive.INTEGER, player -> player.level, (player, level) -> player.level = level)
+            .withField("health", Serializer.Primitive.DOUBLE, player -> player.health, (player, health) -> player.health = health)
+            .withField("inventory", Serializer.Collection.create(Serializer.Primitive.INTEGER, ArrayList::new), player -> player.inventory, (player, inventory) -> player.inventory = inventory)
+            .buildIncremental();
+    private static final Set<String> DIRTY = Set.of("health");
+
+    private final SerializationContext context = new BlankSerializationContext();
+    private final Player player = new Player();
+
+    @Setup
+    public void setup() throws SerializationException {
+        player.name = "Lisa";
+        player.level = 20;
+        for (int i = 0; i < 500; i++)
+            player.inventory.add(i);
+        SERIALIZER.serializeChanges(context, player);
+    }
+
+    @Benchmark
+    public SerializationElement serialize() throws SerializationException {
+        player.health++;
+        return SERIALIZER.serialize(context, player);
+    }
+
+    @Benchmark
+    public SerializationElement serializeChanges() throws SerializationException {
+        player.health++;
+        return SERIALIZER.serializeChanges(context, player).container();
+    }
+
+    @Benchmark
+    public SerializationElement serializeDirtyKeys() throws SerializationException {
+        player.health++;
+        return SERIALIZER.serializeChanges(context, player, DIRTY).container();
+    }
+
+    public static class Player {
+        private String name;
+        private int level;
+        private double health;
+        private List<Integer> inventory = new ArrayList<>();
+    }
+}
@@ -0,0 +1,70 @@
+package de.verdox.vserializer.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import de.verdox.vserializer.generic.SerializationArray;
+import de.verdox.vserializer.generic.SerializationContainer;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.json.JsonSerializerContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a large json array of objects through fresh wrappers with the cursor and the direct getters of containers.
+ * Run it with the gc profiler to see the allocations per read: {@code -Pjmh.args="JsonAccessBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonAccessBenchmark {
+    private static final int SIZE = 100_000;
+    private final JsonSerializerContext context = new JsonSerializerContext();
+    private SerializationArray array;
+
+    @Setup
+    public void setup() {
+        JsonArray jsonArray = new JsonArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            JsonObject jsonObject = new JsonObject();
+            jsonObject.addProperty("id", i);
+            jsonObject.addProperty("score", i * 0.5);
+            jsonArray.add(jsonObject);
+        }
+        array = context.createArray(jsonArray);
+    }
+
+    @Benchmark
+    public double iterator() {
+        double sum = 0;
+        for (SerializationElement element : array) {
+            sum += readWrapped(element.getAsContainer());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double cursor() {
+        double sum = 0;
+        Iterator<SerializationElement> cursor = array.cursor();
+        while (cursor.hasNext()) {
+            sum += readDirect(cursor.next().getAsContainer());
+        }
+        return sum;
+    }
+
+    // Not inlined like the deserialize method of a serializer, so the wrappers cannot be optimized away
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static double readWrapped(SerializationContainer container) {
+        return container.get("id").getAsInt() + container.get("score").getAsDouble();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static double readDirect(SerializationContainer container) {
+        return container.getInt("id") + container.getDouble("score");
+    }
+}
@@ -0,0 +1,65 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
+import de.verdox.vserializer.json.JsonSerializerContext;
+import de.verdox.vserializer.tests.model.Gender;
+import de.verdox.vserializer.tests.model.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how serializing and deserializing a large list scales with the number of threads.
+ * Run it on a machine with enough cores: {@code -Pjmh.args="ParallelCollectionBenchmark -p threads=1,2,4,8"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelCollectionBenchmark {
+    private static final Serializer.Collection<Person, List<Person>> SEQUENTIAL = Serializer.Collection.create(Person.SERIALIZER, ArrayList::new);
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"1000000"})
+    public int size;
+
+    private final JsonSerializerContext context = new JsonSerializerContext();
+    private ForkJoinPool pool;
+    private Serializer<List<Person>> serializer;
+    private List<Person> people;
+    private SerializationElement serialized;
+
+    @Setup
+    public void setup() throws SerializationException {
+        pool = new ForkJoinPool(threads);
+        serializer = threads == 1 ? SEQUENTIAL : SEQUENTIAL.parallel(4096, pool);
+        people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            people.add(new Person("person" + i, i % 100, i % 2 == 0 ? Gender.MALE : Gender.FEMALE));
+        serialized = SEQUENTIAL.serialize(context, people);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SerializationElement serialize() throws SerializationException {
+        return serializer.serialize(context, people);
+    }
+
+    @Benchmark
+    public List<Person> deserialize() throws SerializationException {
+        return serializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,54 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
+import de.verdox.vserializer.json.JsonSerializerContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing small numbers and booleans to a tree, which mostly uses the shared primitives of the context.
+ * Run it with the gc profiler to see the allocations: {@code -Pjmh.args="PrimitiveCacheBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveCacheBenchmark {
+    private static final Serializer<List<Integer>> INTEGERS = Serializer.Collection.create(Serializer.Primitive.INTEGER, ArrayList::new);
+    private static final Serializer<List<Boolean>> BOOLEANS = Serializer.Collection.create(Serializer.Primitive.BOOLEAN, ArrayList::new);
+
+    @Param({"json", "blank"})
+    public String format;
+
+    private SerializationContext context;
+    private final List<Integer> integers = new ArrayList<>();
+    private final List<Boolean> booleans = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        context = format.equals("json") ? new JsonSerializerContext() : new BlankSerializationContext();
+        for (int i = 0; i < 1000; i++) {
+            integers.add(i % 100);
+            booleans.add(i % 3 == 0);
+        }
+    }
+
+    @Benchmark
+    public SerializationElement serializeSmallIntegers() throws SerializationException {
+        return INTEGERS.serialize(context, integers);
+    }
+
+    @Benchmark
+    public SerializationElement serializeBooleans() throws SerializationException {
+        return BOOLEANS.serialize(context, booleans);
+    }
+}
@@ -0,0 +1,51 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.tests.model.Gender;
+import de.verdox.vserializer.tests.model.Job;
+import de.verdox.vserializer.tests.model.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the field plan of serializers created with {@link de.verdox.vserializer.generic.SerializerBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializerBuilderBenchmark {
+    private final SerializationContext context = new BlankSerializationContext();
+    private Person person;
+    private Person unemployed;
+    private SerializationElement serialized;
+
+    @Setup
+    public void setup() throws SerializationException {
+        person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        unemployed = new Person("Hans", 28, Gender.MALE);
+        serialized = Person.SERIALIZER.serialize(context, person);
+    }
+
+    @Benchmark
+    public SerializationElement serialize() throws SerializationException {
+        return Person.SERIALIZER.serialize(context, person);
+    }
+
+    @Benchmark
+    public SerializationElement serializeNullField() throws SerializationException {
+        return Person.SERIALIZER.serialize(context, unemployed);
+    }
+
+    @Benchmark
+    public Person deserialize() throws SerializationException {
+        return Person.SERIALIZER.deserialize(serialized);
+    }
+}
@@ -0,0 +1,93 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.binary.BinarySerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.Serializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fixed width and the varint number encoding of the {@link BinarySerializationContext}.
+ * The encoded sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VarIntBenchmark {
+    private static final int SIZE = 4096;
+    private static final Serializer<List<Long>> LONG_LIST = Serializer.Collection.create(Serializer.Primitive.LONG, ArrayList::new);
+
+    public enum Distribution {
+        /**
+         * Counters and ids below 1000
+         */
+        SMALL_POSITIVE,
+        /**
+         * Small deltas of either sign
+         */
+        MIXED_SIGN,
+        /**
+         * Uniformly distributed values of the full range
+         */
+        RANDOM
+    }
+
+    @Param
+    public Distribution distribution;
+
+    @Param({"false", "true"})
+    public boolean varInts;
+
+    private BinarySerializationContext context;
+    private int[] ints;
+    private List<Long> longs;
+    private byte[] encodedInts;
+    private byte[] encodedLongs;
+
+    @Setup
+    public void setup() throws SerializationException {
+        context = varInts ? new BinarySerializationContext().withVarInts() : new BinarySerializationContext();
+        SplittableRandom random = new SplittableRandom(42);
+        ints = new int[SIZE];
+        longs = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            long value = switch (distribution) {
+                case SMALL_POSITIVE -> random.nextInt(1000);
+                case MIXED_SIGN -> random.nextInt(-5000, 5000);
+                case RANDOM -> random.nextLong();
+            };
+            ints[i] = (int) value;
+            longs.add(value);
+        }
+        encodedInts = context.toBytes(Serializer.Primitive.INT_ARRAY, ints);
+        encodedLongs = context.toBytes(LONG_LIST, longs);
+        System.out.printf("%n%s, varInts=%s: int[] %d bytes, List<Long> %d bytes for %d values%n", distribution, varInts, encodedInts.length, encodedLongs.length, SIZE);
+    }
+
+    @Benchmark
+    public byte[] encodeIntArray() throws SerializationException {
+        return context.toBytes(Serializer.Primitive.INT_ARRAY, ints);
+    }
+
+    @Benchmark
+    public int[] decodeIntArray() throws SerializationException {
+        return context.fromBytes(Serializer.Primitive.INT_ARRAY, encodedInts);
+    }
+
+    @Benchmark
+    public byte[] encodeLongs() throws SerializationException {
+        return context.toBytes(LONG_LIST, longs);
+    }
+
+    @Benchmark
+    public List<Long> decodeLongs() throws SerializationException {
+        return context.fromBytes(LONG_LIST, encodedLongs);
+    }
+}
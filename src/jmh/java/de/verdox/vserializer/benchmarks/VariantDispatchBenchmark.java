@@ -0,0 +1,70 @@
+package de.verdox.vserializer.benchmarks;
+
+import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how serializing with {@link Serializer.Types} and {@link Serializer.Selection} scales with the number of variants.
+ * Every object is of the last variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariantDispatchBenchmark {
+    /**
+     * Every constant with a body has its own class
+     */
+    public enum Event {
+        E0 {}, E1 {}, E2 {}, E3 {}, E4 {}, E5 {}, E6 {}, E7 {}, E8 {}, E9 {},
+        E10 {}, E11 {}, E12 {}, E13 {}, E14 {}, E15 {}, E16 {}, E17 {}, E18 {}, E19 {},
+        E20 {}, E21 {}, E22 {}, E23 {}, E24 {}, E25 {}, E26 {}, E27 {}, E28 {}, E29 {},
+        E30 {}, E31 {}, E32 {}, E33 {}, E34 {}, E35 {}, E36 {}, E37 {}, E38 {}, E39 {}
+    }
+
+    @Param({"2", "8", "40"})
+    public int variants;
+
+    private final SerializationContext context = new BlankSerializationContext();
+    private Serializer.Types<Event> types;
+    private Serializer.Selection<Event> selection;
+    private Serializer.Selection<Event> compactSelection;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        types = Serializer.Types.create("events", Event.class);
+        selection = Serializer.Selection.create("events", Event.class);
+        compactSelection = Serializer.Selection.<Event>create("events", Event.class).compact();
+        for (int i = 0; i < variants; i++) {
+            Event variant = Event.values()[i];
+            types = types.type(variant.name(), Serializer.Dummy.create(variant));
+            selection = selection.variant(variant.name(), Serializer.Dummy.create(variant));
+            compactSelection = compactSelection.variant(variant.name(), Serializer.Dummy.create(variant));
+        }
+        event = Event.values()[variants - 1];
+    }
+
+    @Benchmark
+    public SerializationElement types() throws SerializationException {
+        return types.serialize(context, event);
+    }
+
+    @Benchmark
+    public SerializationElement selection() throws SerializationException {
+        return selection.serialize(context, event);
+    }
+
+    @Benchmark
+    public SerializationElement compactSelection() throws SerializationException {
+        return compactSelection.serialize(context, event);
+    }
+}
@@ -2,9 +2,13 @@ package de.verdox.vserializer;
 
 import de.verdox.vserializer.exception.SerializationException;
 import de.verdox.vserializer.generic.SerializationContainer;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationReader;
+import de.verdox.vserializer.generic.SerializationWriter;
 import de.verdox.vserializer.generic.Serializer;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 /**
@@ -17,17 +21,37 @@ public abstract class AbstractSerializableField<T, R> {
     protected final String fieldName;
     protected final Serializer<R> serializer;
     protected final Function<T, R> getter;
+    protected final String key;
 
     public AbstractSerializableField(@Nullable String fieldName, Serializer<R> serializer, Function<T, R> getter) {
         this.fieldName = fieldName;
         this.serializer = serializer;
         this.getter = getter;
+        this.key = fieldName != null || serializer == null ? fieldName : serializer.id();
     }
 
     public AbstractSerializableField(Serializer<R> serializer, Function<T, R> getter) {
         this(null, serializer, getter);
     }
 
+    /**
+     * Returns the key this field is stored with inside its parent container
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the serializer of the field type
+     *
+     * @return the serializer
+     */
+    public Serializer<R> getSerializer() {
+        return serializer;
+    }
+
     public T readAndSet(@Nullable T parent, SerializationContainer container) throws SerializationException {
         if (parent == null) {
             return null;
@@ -44,6 +68,37 @@ public abstract class AbstractSerializableField<T, R> {
      */
     public abstract void write(SerializationContainer serializationContainer, T wrapped) throws SerializationException;
 
+    /**
+     * Writes a wrapped object to a serialization writer.
+     * The writer is positioned inside a container, thus the field has to write the key of each value it writes.
+     * The default implementation writes the field into a temporary container and writes all of its entries afterward.
+     *
+     * @param writer  the writer
+     * @param wrapped the wrapped element
+     */
+    public void write(SerializationWriter writer, T wrapped) throws SerializationException, IOException {
+        SerializationContainer container = writer.getContext().createContainer();
+        write(container, wrapped);
+        for (String key : container.getChildKeys()) {
+            writer.name(key);
+            writer.element(container.get(key));
+        }
+    }
+
+    /**
+     * Writes only the value of a wrapped object to a serialization writer without its key.
+     * It is used for positional records where the position of a value replaces its key.
+     * The default implementation writes the field into a temporary container and writes the entry of {@link #getKey()} afterward.
+     *
+     * @param writer  the writer
+     * @param wrapped the wrapped element
+     */
+    public void writeValue(SerializationWriter writer, T wrapped) throws SerializationException, IOException {
+        SerializationContainer container = writer.getContext().createContainer();
+        write(container, wrapped);
+        writer.element(container.get(key));
+    }
+
     /**
      * Reads a wrapped object from a serialization container
      *
@@ -52,6 +107,31 @@ public abstract class AbstractSerializableField<T, R> {
      */
     public abstract R read(SerializationContainer serializationContainer) throws SerializationException;
 
+    /**
+     * Reads a wrapped object from a serialization reader.
+     * The reader is positioned at the value that is stored with the {@link #getKey()} of this field.
+     * The default implementation reads the value into a temporary container and reads the field from it afterward.
+     *
+     * @param reader the reader
+     * @return the wrapped element
+     */
+    public R read(SerializationReader reader) throws SerializationException, IOException {
+        SerializationContainer container = reader.getContext().createContainer();
+        container.set(getKey(), reader.readElement());
+        return read(container);
+    }
+
+    /**
+     * Returns the value of this field if its key was not found while reading with a {@link SerializationReader}.
+     * The default implementation reads the field from an empty container.
+     *
+     * @param context the context of the reader
+     * @return the wrapped element
+     */
+    public R readAbsent(SerializationContext context) throws SerializationException {
+        return read(context.createContainer());
+    }
+
     /**
      * Updates the value on the object.
      * The function either returns the provided object or a newly created object if an immutable pattern creates a new object due to the set method.
@@ -2,10 +2,15 @@ package de.verdox.vserializer;
 
 import de.verdox.vserializer.exception.SerializationException;
 import de.verdox.vserializer.generic.SerializationContainer;
+import de.verdox.vserializer.generic.SerializationContext;
 import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationReader;
+import de.verdox.vserializer.generic.SerializationToken;
+import de.verdox.vserializer.generic.SerializationWriter;
 import de.verdox.vserializer.generic.Serializer;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -63,7 +68,7 @@ public class SerializableField<T, R> extends AbstractSerializableField<T, R> {
     }
 
     @Nullable
-    private BiFunction<T, R, T> setter = null;
+    private final BiFunction<T, R, T> setter;
 
     /**
      * Creates a new serializable field
@@ -82,12 +87,10 @@ public class SerializableField<T, R> extends AbstractSerializableField<T, R> {
     @Deprecated
     public SerializableField(@Nullable String fieldName, Serializer<R> serializer, Function<T, R> getter, @Nullable BiConsumer<T, R> setter) {
         super(fieldName, serializer, getter);
-        if (setter != null) {
-            this.setter = (t, r) -> {
-                setter.accept(t, r);
-                return t;
-            };
-        }
+        this.setter = setter == null ? null : (t, r) -> {
+            setter.accept(t, r);
+            return t;
+        };
     }
 
     /**
@@ -97,6 +100,7 @@ public class SerializableField<T, R> extends AbstractSerializableField<T, R> {
     @Deprecated
     public SerializableField(@Nullable String fieldName, Serializer<R> serializer, Function<T, R> getter) {
         super(fieldName, serializer, getter);
+        this.setter = null;
     }
 
     /**
@@ -106,38 +110,103 @@ public class SerializableField<T, R> extends AbstractSerializableField<T, R> {
     @Deprecated
     public SerializableField(Serializer<R> serializer, Function<T, R> getter) {
         super(serializer, getter);
+        this.setter = null;
     }
 
     @Override
     public void write(SerializationContainer serializationContainer, T wrapped) throws SerializationException {
+        R fieldValue;
         try {
-            R fieldValue = getter.apply(wrapped);
+            fieldValue = getter.apply(wrapped);
+        } catch (Throwable e) {
+            throw new SerializationException("A serialization exception was thrown while serializing a field.", e).atField(key);
+        }
+        writeFieldValue(serializationContainer, fieldValue);
+    }
 
+    /**
+     * Writes a value of this field to a serialization container. It is used by callers that already read the value with {@link #readValueFromObject(Object)}.
+     *
+     * @param serializationContainer the container
+     * @param fieldValue             the value of the field
+     */
+    public void writeFieldValue(SerializationContainer serializationContainer, R fieldValue) throws SerializationException {
+        try {
             SerializationElement serialized;
             if (fieldValue == null && !serializer.acceptsNullValues())
-                serialized = Serializer.Null.create(serializer.getType()).serialize(serializationContainer.getContext(), null);
+                serialized = serializationContainer.getContext().createNull();
             else
                 serialized = serializer.serialize(serializationContainer.getContext(), fieldValue);
 
-            serializationContainer.set(fieldName == null ? serializer.id() : fieldName, serialized);
+            serializationContainer.set(key, serialized);
+        } catch (SerializationException e) {
+            throw e.atField(key);
         } catch (Throwable e) {
-            throw new SerializationException("A serialization exception was thrown while serializing the field " + fieldName + ". " + serializationContainer, e);
+            throw new SerializationException("A serialization exception was thrown while serializing a field.", e).atField(key);
+        }
+    }
+
+    @Override
+    public void write(SerializationWriter writer, T wrapped) throws SerializationException, IOException {
+        writer.name(key);
+        writeValue(writer, wrapped);
+    }
+
+    @Override
+    public void writeValue(SerializationWriter writer, T wrapped) throws SerializationException, IOException {
+        try {
+            R fieldValue = getter.apply(wrapped);
+
+            if (fieldValue == null && !serializer.acceptsNullValues())
+                writer.nullValue();
+            else
+                serializer.write(writer, fieldValue);
+        } catch (IOException e) {
+            throw e;
+        } catch (SerializationException e) {
+            throw e.atField(key);
+        } catch (Throwable e) {
+            throw new SerializationException("A serialization exception was thrown while writing a field.", e).atField(key);
         }
     }
 
     @Override
     public R read(SerializationContainer serializationContainer) throws SerializationException {
         try {
-            SerializationElement serialized = serializationContainer.get(fieldName == null ? serializer.id() : fieldName);
+            SerializationElement serialized = serializationContainer.get(key);
             if (Serializer.Null.isNull(serialized)) {
                 return serializer.defaultValue();
             }
             return serializer.deserialize(serialized);
+        } catch (SerializationException e) {
+            throw e.atField(key);
         } catch (Throwable e) {
-            throw new SerializationException("A serialization exception was thrown while deserializing the field " + fieldName + ". " + serializationContainer, e);
+            throw new SerializationException("A serialization exception was thrown while deserializing a field.", e).atField(key);
         }
     }
 
+    @Override
+    public R read(SerializationReader reader) throws SerializationException, IOException {
+        try {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return serializer.defaultValue();
+            }
+            return serializer.read(reader);
+        } catch (IOException e) {
+            throw e;
+        } catch (SerializationException e) {
+            throw e.atField(key);
+        } catch (Throwable e) {
+            throw new SerializationException("A serialization exception was thrown while reading a field.", e).atField(key);
+        }
+    }
+
+    @Override
+    public R readAbsent(SerializationContext context) {
+        return serializer.defaultValue();
+    }
+
     @Override
     public @Nullable T setValueOnObject(T object, R value) {
         if (setter != null) {
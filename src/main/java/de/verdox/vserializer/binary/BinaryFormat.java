@@ -0,0 +1,51 @@
+package de.verdox.vserializer.binary;
+
+/**
+ * Constants of the binary format written by {@link BinarySerializationWriter}.
+ * <p>
+ * A document starts with a header of the {@link #MAGIC} bytes, the format {@link #VERSION} and a flag byte.
+ * It is followed by a single value. Every value starts with a tag byte.
+ * Numbers are written with their native width in big endian order and strings are written as an int length followed by their UTF-8 bytes.
+ * Containers and arrays are terminated by an {@link #END} tag. Each value inside a container is preceded by a {@link #NAME} tag and its key.
+ * <p>
+ * If the {@link #FLAG_POSITIONAL} flag is set, objects with a known field layout are written as a {@link #RECORD} tag, an int fingerprint of the layout
+ * and an unsigned short field count, followed by the values of the fields in order and without any keys.
+ * <p>
+ * If the {@link #FLAG_VARINTS} flag is set, the payloads of {@link #SHORT}, {@link #INT} and {@link #LONG} values are ZigZag encoded LEB128 varints instead of fixed width numbers.
+ * Small values of either sign then only take one or two bytes. Short, int and long arrays are written as a {@link #SHORT_ARRAY}, {@link #INT_ARRAY} or {@link #LONG_ARRAY} tag,
+ * an unsigned varint length, the unsigned varint byte length of the payloads and the varint payloads of their values without any tags.
+ */
+final class BinaryFormat {
+    static final byte[] MAGIC = {'V', 'S', 'B'};
+    static final byte VERSION = 1;
+
+    static final byte FLAG_POSITIONAL = 1;
+    static final byte FLAG_VARINTS = 2;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte INT = 5;
+    static final byte LONG = 6;
+    static final byte FLOAT = 7;
+    static final byte DOUBLE = 8;
+    static final byte CHAR = 9;
+    static final byte STRING = 10;
+    /**
+     * A number that does not fit into a native type. It is written as its decimal string representation.
+     */
+    static final byte DECIMAL = 11;
+    static final byte BEGIN_CONTAINER = 12;
+    static final byte BEGIN_ARRAY = 13;
+    static final byte NAME = 14;
+    static final byte END = 15;
+    static final byte RECORD = 16;
+    static final byte SHORT_ARRAY = 17;
+    static final byte INT_ARRAY = 18;
+    static final byte LONG_ARRAY = 19;
+
+    private BinaryFormat() {
+    }
+}
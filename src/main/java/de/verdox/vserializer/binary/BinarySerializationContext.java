@@ -0,0 +1,167 @@
+package de.verdox.vserializer.binary;
+
+import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
+
+import java.io.*;
+
+/**
+ * A serialization context that stores data in a compact, self describing binary format.
+ * <p>
+ * In memory the data is represented by blank serialization elements. Those are encoded with a {@link BinarySerializationWriter} and decoded with a {@link BinarySerializationReader}.
+ * The format is described in {@link BinaryFormat}. Keys of containers are case-sensitive.
+ */
+public class BinarySerializationContext extends BlankSerializationContext {
+    private final byte flags;
+
+    public BinarySerializationContext() {
+        this((byte) 0);
+    }
+
+    private BinarySerializationContext(byte flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Returns a context that writes objects of serializers with a known field layout as positional records.
+     * Those are written without any keys, in the field order of the serializer and with a fingerprint of the layout.
+     * Data can only be read by serializers with the same field layout. Readers of every binary context are able to read records.
+     * <p>
+     * Records that are read as a tree, for example with {@link #fromBytes(byte[])} or {@link #readFromFile(File)}, become a container with their fingerprint and an array of their values.
+     * Serializers of a {@link de.verdox.vserializer.generic.SerializerBuilder} check the fingerprint of such containers and deserialize the values by the position of their fields.
+     *
+     * @return the context
+     */
+    public BinarySerializationContext withPositionalRecords() {
+        return new BinarySerializationContext((byte) (flags | BinaryFormat.FLAG_POSITIONAL));
+    }
+
+    /**
+     * Returns a context that writes short, int and long values as ZigZag encoded varints.
+     * Small values of either sign take one or two bytes instead of their full width. Short, int and long arrays are additionally packed without a tag per value.
+     * Readers of every binary context are able to read varints.
+     *
+     * @return the context
+     */
+    public BinarySerializationContext withVarInts() {
+        return new BinarySerializationContext((byte) (flags | BinaryFormat.FLAG_VARINTS));
+    }
+
+    @Override
+    public boolean hasCaseSensitiveKeys() {
+        return true;
+    }
+
+    @Override
+    public BinarySerializationWriter createWriter(OutputStream outputStream) throws IOException {
+        return new BinarySerializationWriter(this, new UnsynchronizedBufferedOutputStream(outputStream), flags);
+    }
+
+    @Override
+    public BinarySerializationReader createReader(InputStream inputStream) throws IOException {
+        return new BinarySerializationReader(this, new UnsynchronizedBufferedInputStream(inputStream));
+    }
+
+    @Override
+    public void writeToFile(SerializationElement element, File file) throws IOException {
+        if (file.getParentFile() != null)
+            file.getParentFile().mkdirs();
+        try (BinarySerializationWriter writer = createWriter(new FileOutputStream(file))) {
+            writer.element(element);
+        }
+    }
+
+    @Override
+    public SerializationElement readFromFile(File file) throws IOException {
+        if (!file.exists())
+            return createContainer();
+        try (BinarySerializationReader reader = createReader(new FileInputStream(file))) {
+            return reader.readElement();
+        }
+    }
+
+    @Override
+    public <T> void writeToFile(Serializer<T> serializer, T object, File file) throws IOException, SerializationException {
+        if (file.getParentFile() != null)
+            file.getParentFile().mkdirs();
+        try (BinarySerializationWriter writer = createWriter(new FileOutputStream(file))) {
+            serializer.write(writer, object);
+        }
+    }
+
+    @Override
+    public <T> T readFromFile(Serializer<T> serializer, File file) throws IOException, SerializationException {
+        if (!file.exists())
+            return serializer.deserialize(createContainer());
+        try (BinarySerializationReader reader = createReader(new FileInputStream(file))) {
+            return serializer.read(reader);
+        }
+    }
+
+    /**
+     * Encodes a serialization element
+     *
+     * @param element the element
+     * @return the encoded bytes
+     */
+    public byte[] toBytes(SerializationElement element) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (BinarySerializationWriter writer = createWriter(outputStream)) {
+            writer.element(element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Decodes a serialization element
+     *
+     * @param bytes the encoded bytes
+     * @return the element
+     * @throws IOException if the bytes are not in the binary format
+     */
+    public SerializationElement fromBytes(byte[] bytes) throws IOException {
+        try (BinarySerializationReader reader = createReader(new ByteArrayInputStream(bytes))) {
+            return reader.readElement();
+        }
+    }
+
+    /**
+     * Serializes an object and encodes it without building a tree of {@link SerializationElement}s first
+     *
+     * @param serializer the serializer of the object
+     * @param object     the object
+     * @param <T>        the object type
+     * @return the encoded bytes
+     * @throws SerializationException if any error happens during serialization
+     */
+    public <T> byte[] toBytes(Serializer<T> serializer, T object) throws SerializationException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (BinarySerializationWriter writer = createWriter(outputStream)) {
+            serializer.write(writer, object);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write the object to bytes with the serializer " + serializer.id(), e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Decodes an object without building a tree of {@link SerializationElement}s first
+     *
+     * @param serializer the serializer of the object
+     * @param bytes      the encoded bytes
+     * @param <T>        the object type
+     * @return the object
+     * @throws SerializationException if any error happens during deserialization
+     */
+    public <T> T fromBytes(Serializer<T> serializer, byte[] bytes) throws SerializationException {
+        try (BinarySerializationReader reader = createReader(new ByteArrayInputStream(bytes))) {
+            return serializer.read(reader);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read the object from bytes with the serializer " + serializer.id(), e);
+        }
+    }
+}
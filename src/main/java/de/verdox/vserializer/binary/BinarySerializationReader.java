@@ -0,0 +1,494 @@
+package de.verdox.vserializer.binary;
+
+import com.google.gson.internal.LazilyParsedNumber;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationArray;
+import de.verdox.vserializer.generic.SerializationContainer;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationReader;
+import de.verdox.vserializer.generic.SerializationToken;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A {@link SerializationReader} that reads the compact binary format described in {@link BinaryFormat}.
+ */
+public class BinarySerializationReader implements SerializationReader {
+    private static final int NONE = -2;
+    private static final int END_OF_STREAM = -1;
+
+    private final BinarySerializationContext serializerContext;
+    private final DataInputStream input;
+    private final boolean varInts;
+    private int peeked = NONE;
+    // The tag of the values of the packed array that is currently read or NONE
+    private int packedTag = NONE;
+    private int packedRemaining;
+    // The varint payloads of the packed array that is currently read or null
+    private byte[] packedBytes;
+    private int packedPosition;
+    // true for containers, false for arrays
+    private boolean[] scopes = new boolean[16];
+    private int depth;
+
+    protected BinarySerializationReader(BinarySerializationContext serializerContext, InputStream inputStream) throws IOException {
+        this.serializerContext = serializerContext;
+        this.input = new DataInputStream(inputStream);
+
+        byte[] magic = new byte[BinaryFormat.MAGIC.length];
+        input.readFully(magic);
+        if (!Arrays.equals(magic, BinaryFormat.MAGIC))
+            throw new IOException("The provided data is not in the binary serialization format.");
+        byte version = input.readByte();
+        if (version != BinaryFormat.VERSION)
+            throw new IOException("The binary serialization format version " + version + " is not supported.");
+        // Records are recognized by their tag, so only the encoding of numbers depends on the flags.
+        byte flags = input.readByte();
+        this.varInts = (flags & BinaryFormat.FLAG_VARINTS) != 0;
+    }
+
+    @Override
+    public BinarySerializationContext getContext() {
+        return serializerContext;
+    }
+
+    @Override
+    public SerializationToken peek() throws IOException {
+        return toToken(peekTag());
+    }
+
+    @Override
+    public void beginContainer() throws IOException {
+        expect(BinaryFormat.BEGIN_CONTAINER);
+        push(true);
+    }
+
+    @Override
+    public void endContainer() throws IOException {
+        expectEnd(true);
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        int tag = consume();
+        switch (tag) {
+            case BinaryFormat.BEGIN_ARRAY -> {
+            }
+            case BinaryFormat.SHORT_ARRAY, BinaryFormat.INT_ARRAY, BinaryFormat.LONG_ARRAY -> {
+                packedRemaining = readPacked();
+                packedTag = elementTag(tag);
+            }
+            default -> throw unexpected(SerializationToken.BEGIN_ARRAY, tag);
+        }
+        push(false);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expectEnd(false);
+    }
+
+    @Override
+    public void beginRecord(int fingerprint, int fieldCount) throws IOException, SerializationException {
+        expect(BinaryFormat.RECORD);
+        int writtenFingerprint = input.readInt();
+        int writtenFieldCount = input.readUnsignedShort();
+        if (writtenFingerprint != fingerprint || writtenFieldCount != fieldCount)
+            throw new SerializationException("The positional record was written with another field layout (fingerprint " + Integer.toHexString(writtenFingerprint) + " with " + writtenFieldCount + " fields) than expected (fingerprint " + Integer.toHexString(fingerprint) + " with " + fieldCount + " fields).");
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        int tag = peekTag();
+        return tag != BinaryFormat.END && tag != END_OF_STREAM;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(BinaryFormat.NAME);
+        return readString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        int tag = consume();
+        return switch (tag) {
+            case BinaryFormat.TRUE -> true;
+            case BinaryFormat.FALSE -> false;
+            case BinaryFormat.STRING -> Boolean.parseBoolean(readString());
+            default -> throw unexpected(SerializationToken.BOOLEAN, tag);
+        };
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        int tag = consume();
+        return switch (tag) {
+            case BinaryFormat.STRING, BinaryFormat.DECIMAL -> readString();
+            case BinaryFormat.CHAR -> String.valueOf(input.readChar());
+            case BinaryFormat.TRUE -> "true";
+            case BinaryFormat.FALSE -> "false";
+            case BinaryFormat.BYTE, BinaryFormat.SHORT, BinaryFormat.INT, BinaryFormat.LONG, BinaryFormat.FLOAT, BinaryFormat.DOUBLE -> readNumber(tag).toString();
+            default -> throw unexpected(SerializationToken.STRING, tag);
+        };
+    }
+
+    @Override
+    public char nextCharacter() throws IOException {
+        if (peekTag() == BinaryFormat.CHAR) {
+            consume();
+            return input.readChar();
+        }
+        return SerializationReader.super.nextCharacter();
+    }
+
+    @Override
+    public Number nextNumber() throws IOException {
+        int tag = consume();
+        if (tag == BinaryFormat.STRING)
+            return new LazilyParsedNumber(readString());
+        return readNumber(tag);
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return (int) readIntegral(consume());
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return readIntegral(consume());
+    }
+
+    @Override
+    public float nextFloat() throws IOException {
+        int tag = consume();
+        if (tag == BinaryFormat.FLOAT)
+            return input.readFloat();
+        return (float) readFloating(tag);
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return readFloating(consume());
+    }
+
+    @Override
+    public short[] nextShortArray() throws IOException {
+        if (peekTag() != BinaryFormat.SHORT_ARRAY)
+            return SerializationReader.super.nextShortArray();
+        consume();
+        short[] array = new short[readPacked()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = readShort();
+        packedBytes = null;
+        return array;
+    }
+
+    @Override
+    public int[] nextIntArray() throws IOException {
+        if (peekTag() != BinaryFormat.INT_ARRAY)
+            return SerializationReader.super.nextIntArray();
+        consume();
+        int[] array = new int[readPacked()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = readInt();
+        packedBytes = null;
+        return array;
+    }
+
+    @Override
+    public long[] nextLongArray() throws IOException {
+        if (peekTag() != BinaryFormat.LONG_ARRAY)
+            return SerializationReader.super.nextLongArray();
+        consume();
+        long[] array = new long[readPacked()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = readLong();
+        packedBytes = null;
+        return array;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(BinaryFormat.NULL);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int tag = consume();
+        switch (tag) {
+            case BinaryFormat.NULL, BinaryFormat.TRUE, BinaryFormat.FALSE -> {
+            }
+            case BinaryFormat.BYTE -> skip(Byte.BYTES);
+            case BinaryFormat.CHAR -> skip(Short.BYTES);
+            case BinaryFormat.FLOAT -> skip(Integer.BYTES);
+            case BinaryFormat.DOUBLE -> skip(Long.BYTES);
+            case BinaryFormat.SHORT -> readShort();
+            case BinaryFormat.INT -> readInt();
+            case BinaryFormat.LONG -> readLong();
+            case BinaryFormat.SHORT_ARRAY, BinaryFormat.INT_ARRAY, BinaryFormat.LONG_ARRAY -> {
+                readLength();
+                skip(readLength());
+            }
+            case BinaryFormat.STRING, BinaryFormat.DECIMAL -> skip(readStringLength());
+            case BinaryFormat.NAME -> {
+                skip(readStringLength());
+                skipValue();
+            }
+            case BinaryFormat.BEGIN_CONTAINER, BinaryFormat.BEGIN_ARRAY -> {
+                while (peekTag() != BinaryFormat.END)
+                    skipValue();
+                consume();
+            }
+            case BinaryFormat.RECORD -> {
+                skip(Integer.BYTES);
+                int fieldCount = input.readUnsignedShort();
+                for (int i = 0; i < fieldCount; i++)
+                    skipValue();
+            }
+            default -> throw new IllegalStateException("Expected a value but was " + toToken(tag));
+        }
+    }
+
+    /**
+     * Reads the next value as an element. The keys of positional records are not known, so they are read as a container with their fingerprint and an array of their values.
+     */
+    @Override
+    public SerializationElement readElement() throws IOException {
+        if (peekTag() != BinaryFormat.RECORD)
+            return SerializationReader.super.readElement();
+        consume();
+        int fingerprint = input.readInt();
+        int fieldCount = input.readUnsignedShort();
+        SerializationArray values = getContext().createArray(fieldCount);
+        for (int i = 0; i < fieldCount; i++)
+            values.add(readElement());
+        SerializationContainer record = getContext().createContainer();
+        record.set(RECORD_FINGERPRINT, getContext().create(fingerprint));
+        record.set(RECORD_VALUES, values);
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private int peekTag() throws IOException {
+        if (peeked == NONE) {
+            if (packedTag != NONE)
+                peeked = packedRemaining > 0 ? packedTag : BinaryFormat.END;
+            else
+                peeked = input.read();
+        }
+        return peeked;
+    }
+
+    private int consume() throws IOException {
+        int tag = peekTag();
+        peeked = NONE;
+        if (packedTag != NONE) {
+            if (tag == BinaryFormat.END) {
+                packedTag = NONE;
+                packedBytes = null;
+            }
+            else
+                packedRemaining--;
+        }
+        if (tag == END_OF_STREAM)
+            throw new EOFException("Unexpected end of the binary stream");
+        return tag;
+    }
+
+    private void expect(byte expected) throws IOException {
+        int tag = consume();
+        if (tag != expected)
+            throw unexpected(toToken(expected), tag);
+    }
+
+    private void expectEnd(boolean container) throws IOException {
+        SerializationToken expected = container ? SerializationToken.END_CONTAINER : SerializationToken.END_ARRAY;
+        if (depth == 0 || scopes[depth - 1] != container)
+            throw new IllegalStateException("Expected " + expected + " outside of a matching scope");
+        int tag = consume();
+        if (tag != BinaryFormat.END)
+            throw unexpected(expected, tag);
+        depth--;
+    }
+
+    private void push(boolean container) {
+        if (depth == scopes.length)
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        scopes[depth++] = container;
+    }
+
+    private Number readNumber(int tag) throws IOException {
+        return switch (tag) {
+            case BinaryFormat.BYTE -> input.readByte();
+            case BinaryFormat.SHORT -> readShort();
+            case BinaryFormat.INT -> readInt();
+            case BinaryFormat.LONG -> readLong();
+            case BinaryFormat.FLOAT -> input.readFloat();
+            case BinaryFormat.DOUBLE -> input.readDouble();
+            case BinaryFormat.DECIMAL -> new LazilyParsedNumber(readString());
+            default -> throw unexpected(SerializationToken.NUMBER, tag);
+        };
+    }
+
+    private long readIntegral(int tag) throws IOException {
+        return switch (tag) {
+            case BinaryFormat.BYTE -> input.readByte();
+            case BinaryFormat.SHORT -> readShort();
+            case BinaryFormat.INT -> readInt();
+            case BinaryFormat.LONG -> readLong();
+            case BinaryFormat.FLOAT -> (long) input.readFloat();
+            case BinaryFormat.DOUBLE -> (long) input.readDouble();
+            case BinaryFormat.DECIMAL, BinaryFormat.STRING -> new LazilyParsedNumber(readString()).longValue();
+            default -> throw unexpected(SerializationToken.NUMBER, tag);
+        };
+    }
+
+    private double readFloating(int tag) throws IOException {
+        return switch (tag) {
+            case BinaryFormat.BYTE -> input.readByte();
+            case BinaryFormat.SHORT -> readShort();
+            case BinaryFormat.INT -> readInt();
+            case BinaryFormat.LONG -> readLong();
+            case BinaryFormat.FLOAT -> input.readFloat();
+            case BinaryFormat.DOUBLE -> input.readDouble();
+            case BinaryFormat.DECIMAL, BinaryFormat.STRING -> new LazilyParsedNumber(readString()).doubleValue();
+            default -> throw unexpected(SerializationToken.NUMBER, tag);
+        };
+    }
+
+    private short readShort() throws IOException {
+        if (!varInts)
+            return input.readShort();
+        int value = readUnsignedVarInt();
+        return (short) ((value >>> 1) ^ -(value & 1));
+    }
+
+    private int readInt() throws IOException {
+        if (!varInts)
+            return input.readInt();
+        int value = readUnsignedVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readLong() throws IOException {
+        if (!varInts)
+            return input.readLong();
+        long value = readUnsignedVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readLength() throws IOException {
+        int length = readUnsignedVarInt();
+        if (length < 0)
+            throw new IOException("Invalid array length " + Integer.toUnsignedString(length) + " in the binary stream");
+        return length;
+    }
+
+    /**
+     * Reads the length and the payloads of a packed array. The values are then decoded from the payloads.
+     */
+    private int readPacked() throws IOException {
+        int length = readLength();
+        int byteLength = readLength();
+        // Every varint takes at least one byte
+        if (length > byteLength)
+            throw new IOException("The packed array of " + length + " values only has " + byteLength + " bytes in the binary stream");
+        packedBytes = readBytes(byteLength);
+        packedPosition = 0;
+        return length;
+    }
+
+    private byte readVarIntByte() throws IOException {
+        if (packedBytes == null)
+            return input.readByte();
+        if (packedPosition == packedBytes.length)
+            throw new EOFException("Unexpected end of a packed array");
+        return packedBytes[packedPosition++];
+    }
+
+    private int readUnsignedVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = readVarIntByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IOException("Malformed varint in the binary stream");
+    }
+
+    private long readUnsignedVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = readVarIntByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IOException("Malformed varint in the binary stream");
+    }
+
+    private int elementTag(int arrayTag) {
+        return switch (arrayTag) {
+            case BinaryFormat.SHORT_ARRAY -> BinaryFormat.SHORT;
+            case BinaryFormat.INT_ARRAY -> BinaryFormat.INT;
+            default -> BinaryFormat.LONG;
+        };
+    }
+
+    private String readString() throws IOException {
+        return new String(readBytes(readStringLength()), StandardCharsets.UTF_8);
+    }
+
+    private int readStringLength() throws IOException {
+        int length = input.readInt();
+        if (length < 0)
+            throw new IOException("Invalid string length " + length + " in the binary stream");
+        return length;
+    }
+
+    /**
+     * Reads a number of bytes that was read from the stream. The buffer grows with the read data, so a corrupt length cannot allocate more memory than the stream has.
+     */
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length != length)
+            throw new EOFException("Unexpected end of the binary stream");
+        return bytes;
+    }
+
+    private void skip(int bytes) throws IOException {
+        input.skipNBytes(bytes);
+    }
+
+    private IllegalStateException unexpected(SerializationToken expected, int tag) {
+        return new IllegalStateException("Expected " + expected + " but was " + toToken(tag));
+    }
+
+    private SerializationToken toToken(int tag) {
+        return switch (tag) {
+            case END_OF_STREAM -> SerializationToken.END_DOCUMENT;
+            case BinaryFormat.NULL -> SerializationToken.NULL;
+            case BinaryFormat.TRUE, BinaryFormat.FALSE -> SerializationToken.BOOLEAN;
+            case BinaryFormat.BYTE, BinaryFormat.SHORT, BinaryFormat.INT, BinaryFormat.LONG, BinaryFormat.FLOAT, BinaryFormat.DOUBLE, BinaryFormat.DECIMAL -> SerializationToken.NUMBER;
+            case BinaryFormat.CHAR, BinaryFormat.STRING -> SerializationToken.STRING;
+            case BinaryFormat.BEGIN_CONTAINER -> SerializationToken.BEGIN_CONTAINER;
+            case BinaryFormat.BEGIN_ARRAY, BinaryFormat.SHORT_ARRAY, BinaryFormat.INT_ARRAY, BinaryFormat.LONG_ARRAY -> SerializationToken.BEGIN_ARRAY;
+            case BinaryFormat.NAME -> SerializationToken.NAME;
+            case BinaryFormat.RECORD -> SerializationToken.BEGIN_RECORD;
+            case BinaryFormat.END -> depth > 0 && scopes[depth - 1] ? SerializationToken.END_CONTAINER : SerializationToken.END_ARRAY;
+            default -> throw new IllegalStateException("Unknown tag " + tag + " in the binary stream");
+        };
+    }
+}
@@ -0,0 +1,296 @@
+package de.verdox.vserializer.binary;
+
+import de.verdox.vserializer.generic.SerializationWriter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link SerializationWriter} that writes the compact binary format described in {@link BinaryFormat}.
+ */
+public class BinarySerializationWriter implements SerializationWriter {
+    private final BinarySerializationContext serializerContext;
+    private final DataOutputStream output;
+    private final byte flags;
+    // Packed arrays are encoded into this buffer first to write them with a single call
+    private byte[] packed = new byte[0];
+
+    protected BinarySerializationWriter(BinarySerializationContext serializerContext, OutputStream outputStream, byte flags) throws IOException {
+        this.serializerContext = serializerContext;
+        this.output = new DataOutputStream(outputStream);
+        this.flags = flags;
+        output.write(BinaryFormat.MAGIC);
+        output.writeByte(BinaryFormat.VERSION);
+        output.writeByte(flags);
+    }
+
+    @Override
+    public BinarySerializationContext getContext() {
+        return serializerContext;
+    }
+
+    @Override
+    public BinarySerializationWriter beginContainer() throws IOException {
+        output.writeByte(BinaryFormat.BEGIN_CONTAINER);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter endContainer() throws IOException {
+        output.writeByte(BinaryFormat.END);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter beginArray() throws IOException {
+        output.writeByte(BinaryFormat.BEGIN_ARRAY);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter endArray() throws IOException {
+        output.writeByte(BinaryFormat.END);
+        return this;
+    }
+
+    @Override
+    public boolean isPositional() {
+        return (flags & BinaryFormat.FLAG_POSITIONAL) != 0;
+    }
+
+    @Override
+    public BinarySerializationWriter beginRecord(int fingerprint, int fieldCount) throws IOException {
+        if (!isPositional())
+            return (BinarySerializationWriter) SerializationWriter.super.beginRecord(fingerprint, fieldCount);
+        if (fieldCount > 0xFFFF)
+            throw new IllegalArgumentException("A positional record cannot contain more than " + 0xFFFF + " fields.");
+        output.writeByte(BinaryFormat.RECORD);
+        output.writeInt(fingerprint);
+        output.writeShort(fieldCount);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter name(String name) throws IOException {
+        output.writeByte(BinaryFormat.NAME);
+        writeString(name);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(boolean value) throws IOException {
+        output.writeByte(value ? BinaryFormat.TRUE : BinaryFormat.FALSE);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(char value) throws IOException {
+        output.writeByte(BinaryFormat.CHAR);
+        output.writeChar(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(String value) throws IOException {
+        if (value == null)
+            return nullValue();
+        output.writeByte(BinaryFormat.STRING);
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(Number value) throws IOException {
+        if (value == null)
+            return nullValue();
+        if (value instanceof Byte number)
+            return value((byte) number);
+        else if (value instanceof Short number)
+            return value((short) number);
+        else if (value instanceof Integer number)
+            return value((int) number);
+        else if (value instanceof Long number)
+            return value((long) number);
+        else if (value instanceof Float number)
+            return value((float) number);
+        else if (value instanceof Double number)
+            return value((double) number);
+        output.writeByte(BinaryFormat.DECIMAL);
+        writeString(value.toString());
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(byte value) throws IOException {
+        output.writeByte(BinaryFormat.BYTE);
+        output.writeByte(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(short value) throws IOException {
+        output.writeByte(BinaryFormat.SHORT);
+        writeShort(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(int value) throws IOException {
+        output.writeByte(BinaryFormat.INT);
+        writeInt(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(long value) throws IOException {
+        output.writeByte(BinaryFormat.LONG);
+        writeLong(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(float value) throws IOException {
+        output.writeByte(BinaryFormat.FLOAT);
+        output.writeFloat(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(double value) throws IOException {
+        output.writeByte(BinaryFormat.DOUBLE);
+        output.writeDouble(value);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(short[] values) throws IOException {
+        if (values == null || !usesVarInts())
+            return (BinarySerializationWriter) SerializationWriter.super.value(values);
+        byte[] buffer = packedBuffer(values.length * 3);
+        int position = 0;
+        for (short value : values)
+            position = putVarInt(buffer, position, (value << 1) ^ (value >> 15));
+        writePacked(BinaryFormat.SHORT_ARRAY, values.length, buffer, position);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(int[] values) throws IOException {
+        if (values == null || !usesVarInts())
+            return (BinarySerializationWriter) SerializationWriter.super.value(values);
+        byte[] buffer = packedBuffer(values.length * 5);
+        int position = 0;
+        for (int value : values)
+            position = putVarInt(buffer, position, (value << 1) ^ (value >> 31));
+        writePacked(BinaryFormat.INT_ARRAY, values.length, buffer, position);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter value(long[] values) throws IOException {
+        if (values == null || !usesVarInts())
+            return (BinarySerializationWriter) SerializationWriter.super.value(values);
+        byte[] buffer = packedBuffer(values.length * 10);
+        int position = 0;
+        for (long value : values)
+            position = putVarLong(buffer, position, (value << 1) ^ (value >> 63));
+        writePacked(BinaryFormat.LONG_ARRAY, values.length, buffer, position);
+        return this;
+    }
+
+    @Override
+    public BinarySerializationWriter nullValue() throws IOException {
+        output.writeByte(BinaryFormat.NULL);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private boolean usesVarInts() {
+        return (flags & BinaryFormat.FLAG_VARINTS) != 0;
+    }
+
+    private void writeShort(short value) throws IOException {
+        if (usesVarInts())
+            writeUnsignedVarInt((value << 1) ^ (value >> 15));
+        else
+            output.writeShort(value);
+    }
+
+    private void writeInt(int value) throws IOException {
+        if (usesVarInts())
+            writeUnsignedVarInt((value << 1) ^ (value >> 31));
+        else
+            output.writeInt(value);
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (usesVarInts())
+            writeUnsignedVarLong((value << 1) ^ (value >> 63));
+        else
+            output.writeLong(value);
+    }
+
+    private void writeUnsignedVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private void writeUnsignedVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte(((int) value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private void writePacked(byte tag, int length, byte[] buffer, int byteLength) throws IOException {
+        output.writeByte(tag);
+        writeUnsignedVarInt(length);
+        writeUnsignedVarInt(byteLength);
+        output.write(buffer, 0, byteLength);
+    }
+
+    private byte[] packedBuffer(int capacity) {
+        if (packed.length < capacity)
+            packed = new byte[capacity];
+        return packed;
+    }
+
+    private static int putVarInt(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static int putVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) (((int) value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
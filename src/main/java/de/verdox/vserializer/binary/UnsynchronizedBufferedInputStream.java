@@ -0,0 +1,74 @@
+package de.verdox.vserializer.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A buffered input stream without the locking of {@link java.io.BufferedInputStream}.
+ * The binary reader reads many single bytes, so every read should be as cheap as an array access. Instances must not be shared between threads.
+ */
+final class UnsynchronizedBufferedInputStream extends InputStream {
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    UnsynchronizedBufferedInputStream(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[8192];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !fill())
+            return -1;
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0)
+            return 0;
+        int buffered = limit - position;
+        if (buffered == 0) {
+            if (length >= buffer.length)
+                return in.read(bytes, offset, length);
+            if (!fill())
+                return -1;
+            buffered = limit - position;
+        }
+        int read = Math.min(buffered, length);
+        System.arraycopy(buffer, position, bytes, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0)
+            return 0;
+        int buffered = limit - position;
+        if (buffered == 0)
+            return in.skip(n);
+        int skipped = (int) Math.min(buffered, n);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (limit - position) + in.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
@@ -0,0 +1,59 @@
+package de.verdox.vserializer.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A buffered output stream without the locking of {@link java.io.BufferedOutputStream}.
+ * The binary writer writes many single bytes, so every write should be as cheap as an array access. Instances must not be shared between threads.
+ */
+final class UnsynchronizedBufferedOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count;
+
+    UnsynchronizedBufferedOutputStream(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[8192];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == buffer.length)
+            flushBuffer();
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length >= buffer.length) {
+            flushBuffer();
+            out.write(bytes, offset, length);
+            return;
+        }
+        if (length > buffer.length - count)
+            flushBuffer();
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (out) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
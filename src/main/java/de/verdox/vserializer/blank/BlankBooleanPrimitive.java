@@ -0,0 +1,60 @@
+package de.verdox.vserializer.blank;
+
+import de.verdox.vserializer.generic.SerializationContext;
+
+/**
+ * An unboxed boolean primitive. Every {@link BlankSerializationContext} shares one instance for true and one for false.
+ */
+final class BlankBooleanPrimitive extends BlankSerializationPrimitive {
+    private final boolean value;
+
+    BlankBooleanPrimitive(SerializationContext serializationContext, boolean value) {
+        super(serializationContext);
+        this.value = value;
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return true;
+    }
+
+    @Override
+    public boolean isNumber() {
+        return false;
+    }
+
+    @Override
+    public boolean isString() {
+        return false;
+    }
+
+    @Override
+    public boolean isCharacter() {
+        return false;
+    }
+
+    @Override
+    boolean isIntegral() {
+        return false;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return value;
+    }
+
+    @Override
+    public String getAsString() {
+        return Boolean.toString(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Boolean.toString(value);
+    }
+}
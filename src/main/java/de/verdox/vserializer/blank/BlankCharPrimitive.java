@@ -0,0 +1,61 @@
+package de.verdox.vserializer.blank;
+
+import de.verdox.vserializer.generic.SerializationContext;
+
+/**
+ * An unboxed char primitive. Like before it behaves like a string of length one, but the string is only created when it is requested.
+ */
+final class BlankCharPrimitive extends BlankSerializationPrimitive {
+    private final char value;
+
+    BlankCharPrimitive(SerializationContext serializationContext, char value) {
+        super(serializationContext);
+        this.value = value;
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean isNumber() {
+        return false;
+    }
+
+    @Override
+    public boolean isString() {
+        return true;
+    }
+
+    @Override
+    public boolean isCharacter() {
+        return true;
+    }
+
+    @Override
+    boolean isIntegral() {
+        return false;
+    }
+
+    @Override
+    public char getAsCharacter() {
+        return value;
+    }
+
+    @Override
+    public String getAsString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public int hashCode() {
+        // The hash code of the string of length one
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,129 @@
+package de.verdox.vserializer.blank;
+
+import de.verdox.vserializer.generic.SerializationContext;
+
+/**
+ * An unboxed float or double primitive. Floats are stored as the double of the same value.
+ */
+final class BlankDoublePrimitive extends BlankSerializationPrimitive {
+    private final double value;
+    private final boolean isFloat;
+
+    BlankDoublePrimitive(SerializationContext serializationContext, double value, boolean isFloat) {
+        super(serializationContext);
+        this.value = value;
+        this.isFloat = isFloat;
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    @Override
+    public boolean isString() {
+        return false;
+    }
+
+    @Override
+    public boolean isCharacter() {
+        return false;
+    }
+
+    @Override
+    public boolean isByte() {
+        return false;
+    }
+
+    @Override
+    public boolean isShort() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+
+    @Override
+    public boolean isLong() {
+        return false;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return isFloat;
+    }
+
+    @Override
+    public boolean isDouble() {
+        return !isFloat;
+    }
+
+    @Override
+    boolean isIntegral() {
+        return false;
+    }
+
+    @Override
+    public Number getAsNumber() {
+        if (isFloat)
+            return (float) value;
+        return value;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return false;
+    }
+
+    @Override
+    public String getAsString() {
+        return isFloat ? Float.toString((float) value) : Double.toString(value);
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    public float getAsFloat() {
+        return (float) value;
+    }
+
+    @Override
+    public long getAsLong() {
+        return (long) value;
+    }
+
+    @Override
+    public int getAsInt() {
+        return (int) value;
+    }
+
+    @Override
+    public short getAsShort() {
+        return (short) (int) value;
+    }
+
+    @Override
+    public byte getAsByte() {
+        return (byte) (int) value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return getAsString();
+    }
+}
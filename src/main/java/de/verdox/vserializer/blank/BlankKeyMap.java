@@ -0,0 +1,234 @@
+package de.verdox.vserializer.blank;
+
+import de.verdox.vserializer.generic.SerializationElement;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The insertion ordered map of a {@link BlankSerializationContainer}.
+ * <p>
+ * Case-insensitive keys are stored in lower case. Lookups hash and compare ASCII keys case-insensitively, so they are found in any case without creating a lower case copy of the key.
+ * Keys with other characters are lower cased with {@link Locale#ROOT} before they are looked up.
+ */
+final class BlankKeyMap {
+    private static final String[] NO_KEYS = {};
+    private static final SerializationElement[] NO_VALUES = {};
+    private static final int[] NO_INTS = {};
+
+    private final boolean caseSensitive;
+    // The entries in insertion order
+    private String[] keys = NO_KEYS;
+    private SerializationElement[] values = NO_VALUES;
+    private int[] hashes = NO_INTS;
+    private int size;
+    // An open addressing table of entry indices plus one. Zero marks a free slot.
+    private int[] table = NO_INTS;
+    private Collection<String> keyView;
+
+    BlankKeyMap(boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+    }
+
+    int size() {
+        return size;
+    }
+
+    SerializationElement get(String key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    void put(String key, SerializationElement value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        // toLowerCase returns the key itself if it is lower case already
+        String stored = caseSensitive ? key : key.toLowerCase(Locale.ROOT);
+        if (size == keys.length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        keys[size] = stored;
+        values[size] = value;
+        hashes[size] = stored.hashCode();
+        size++;
+        if (size * 2 > table.length)
+            rehash(Math.max(8, table.length * 2));
+        else
+            insert(size - 1);
+    }
+
+    void remove(String key) {
+        int index = indexOf(key);
+        if (index >= 0)
+            removeAt(index);
+    }
+
+    /**
+     * Returns a live view of the stored keys in insertion order
+     */
+    Collection<String> keys() {
+        if (keyView == null)
+            keyView = new KeyView();
+        return keyView;
+    }
+
+    private int indexOf(String key) {
+        if (size == 0)
+            return -1;
+        if (caseSensitive)
+            return find(key, key.hashCode(), true);
+        // Lower case ASCII hashes like String#hashCode, so the hash matches the one of the stored lower case key
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                String lowerCase = key.toLowerCase(Locale.ROOT);
+                return find(lowerCase, lowerCase.hashCode(), true);
+            }
+            hash = 31 * hash + toLowerCase(c);
+        }
+        return find(key, hash, false);
+    }
+
+    private int find(String key, int hash, boolean exact) {
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0)
+                return -1;
+            int index = entry - 1;
+            if (hashes[index] == hash && (exact ? keys[index].equals(key) : matchesAscii(keys[index], key)))
+                return index;
+        }
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        System.arraycopy(hashes, index + 1, hashes, index, size - index - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        // Removing shifts all following entries, so the table is rebuilt
+        rehash(table.length);
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        for (int i = 0; i < size; i++)
+            insert(i);
+    }
+
+    private void insert(int index) {
+        int mask = table.length - 1;
+        int slot = spread(hashes[index]) & mask;
+        while (table[slot] != 0)
+            slot = (slot + 1) & mask;
+        table[slot] = index + 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matchesAscii(String stored, String key) {
+        if (stored.length() != key.length())
+            return false;
+        for (int i = 0; i < key.length(); i++) {
+            if (stored.charAt(i) != toLowerCase(key.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BlankKeyMap that) || size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            int index = that.indexOf(keys[i]);
+            if (index < 0 || !Objects.equals(values[i], that.values[index]))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Like Map#hashCode the result does not depend on the order of the entries
+        int hashCode = 0;
+        for (int i = 0; i < size; i++)
+            hashCode += hashes[i] ^ Objects.hashCode(values[i]);
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < size; i++)
+            joiner.add(keys[i] + "=" + values[i]);
+        return joiner.toString();
+    }
+
+    private final class KeyView extends AbstractCollection<String> {
+        @Override
+        public @NotNull Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int index;
+                private boolean removable;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    removable = true;
+                    return keys[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (!removable)
+                        throw new IllegalStateException();
+                    removable = false;
+                    removeAt(--index);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String key && containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package de.verdox.vserializer.blank;
+
+import de.verdox.vserializer.generic.ElementKind;
+import de.verdox.vserializer.generic.SerializationContext;
+
+/**
+ * An unboxed byte, short, int or long primitive. The value is stored as a long and the kind remembers the type it was created with.
+ */
+final class BlankLongPrimitive extends BlankSerializationPrimitive {
+    private final long value;
+    // One of BYTE, SHORT, INTEGER and LONG
+    private final ElementKind kind;
+
+    BlankLongPrimitive(SerializationContext serializationContext, long value, ElementKind kind) {
+        super(serializationContext);
+        this.value = value;
+        this.kind = kind;
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    @Override
+    public boolean isString() {
+        return false;
+    }
+
+    @Override
+    public boolean isCharacter() {
+        return false;
+    }
+
+    @Override
+    public boolean isByte() {
+        return kind == ElementKind.BYTE;
+    }
+
+    @Override
+    public boolean isShort() {
+        return kind == ElementKind.SHORT;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return kind == ElementKind.INTEGER;
+    }
+
+    @Override
+    public boolean isLong() {
+        return kind == ElementKind.LONG;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isDouble() {
+        return false;
+    }
+
+    @Override
+    boolean isIntegral() {
+        return true;
+    }
+
+    @Override
+    public Number getAsNumber() {
+        return switch (kind) {
+            case BYTE -> (byte) value;
+            case SHORT -> (short) value;
+            case INTEGER -> (int) value;
+            default -> value;
+        };
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return false;
+    }
+
+    @Override
+    public String getAsString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    public float getAsFloat() {
+        return value;
+    }
+
+    @Override
+    public long getAsLong() {
+        return value;
+    }
+
+    @Override
+    public int getAsInt() {
+        return (int) value;
+    }
+
+    @Override
+    public short getAsShort() {
+        return (short) value;
+    }
+
+    @Override
+    public byte getAsByte() {
+        return (byte) value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
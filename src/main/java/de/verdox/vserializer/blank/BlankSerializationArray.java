@@ -1,5 +1,7 @@
 package de.verdox.vserializer.blank;
 
+import de.verdox.vserializer.generic.ElementKind;
+import de.verdox.vserializer.generic.ElementKindCounter;
 import de.verdox.vserializer.generic.SerializationArray;
 import de.verdox.vserializer.generic.SerializationContext;
 import de.verdox.vserializer.generic.SerializationElement;
@@ -10,21 +12,23 @@ import java.util.*;
 /**
  * A blank implementation of a serialization array.
  * Check out {@link BlankSerializationElement} for further information
+ * <p>
+ * Arrays that only consist of boolean, byte, int, long or double values are stored packed in a primitive array.
+ * Their elements are only created when they are accessed. The array switches to an array of elements as soon as a value of another type is added.
+ * <p>
+ * Nothing is allocated for empty arrays. The storage is created with the requested capacity when the first element is added and grows by half of its size afterwards.
  */
 public class BlankSerializationArray extends BlankSerializationElement implements SerializationArray {
-    private final List<SerializationElement> elements;
-    private int boolCounter;
-    private int charCounter;
-    private int stringCounter;
-    private int byteCounter;
-    private int shortCounter;
-    private int intCounter;
-    private int longCounter;
-    private int floatCounter;
-    private int doubleCounter;
-    private int arrayCounter;
-    private int containerCounter;
-    private boolean isConflicting;
+    private static final SerializationElement[] EMPTY = {};
+
+    // The expected number of elements or 0 if it is not known
+    private final int initialCapacity;
+    // Exactly one of both is set
+    private SerializationElement[] elements;
+    private int size;
+    private PackedBlankArray packed;
+    // Counts the kinds of the elements while they are not packed. It is created with the first element.
+    private ElementKindCounter kinds;
 
     /**
      * A basic constructor with no standard elements
@@ -32,8 +36,26 @@ public class BlankSerializationArray extends BlankSerializationElement implement
      * @param serializationContext the context used for this element
      */
     public BlankSerializationArray(SerializationContext serializationContext) {
+        this(serializationContext, 0);
+    }
+
+    /**
+     * A basic constructor with no standard elements and room for a known number of elements
+     *
+     * @param serializationContext the context used for this element
+     * @param initialCapacity      the number of elements that can be added without growing the array
+     */
+    public BlankSerializationArray(SerializationContext serializationContext, int initialCapacity) {
+        super(serializationContext);
+        this.initialCapacity = Math.max(initialCapacity, 0);
+        // The storage is only allocated when the first value is added
+        this.elements = EMPTY;
+    }
+
+    private BlankSerializationArray(SerializationContext serializationContext, PackedBlankArray packed) {
         super(serializationContext);
-        this.elements = new ArrayList<>(128);
+        this.initialCapacity = packed.length();
+        this.packed = packed;
     }
 
     /**
@@ -43,7 +65,7 @@ public class BlankSerializationArray extends BlankSerializationElement implement
      * @param serializationContext the context used for this element
      */
     public BlankSerializationArray(SerializationContext serializationContext, SerializationElement... elements) {
-        this(serializationContext);
+        this(serializationContext, elements.length);
         for (SerializationElement element : elements) {
             add(element);
         }
@@ -57,7 +79,7 @@ public class BlankSerializationArray extends BlankSerializationElement implement
      * @return the array
      */
     public static BlankSerializationArray byNumbers(SerializationContext serializationContext, Collection<? extends Number> values) {
-        BlankSerializationArray array = new BlankSerializationArray(serializationContext);
+        BlankSerializationArray array = new BlankSerializationArray(serializationContext, values.size());
         for (Number value : values)
             array.add(serializationContext.create(value));
         return array;
@@ -71,12 +93,67 @@ public class BlankSerializationArray extends BlankSerializationElement implement
      * @return the array
      */
     public static BlankSerializationArray byBooleans(SerializationContext serializationContext, Collection<? extends Boolean> values) {
-        BlankSerializationArray array = new BlankSerializationArray(serializationContext);
+        BlankSerializationArray array = new BlankSerializationArray(serializationContext, values.size());
         for (Boolean value : values)
             array.add(serializationContext.create(value));
         return array;
     }
 
+    /**
+     * Returns a packed serialization array consisting of bool values
+     *
+     * @param serializationContext the serialization context
+     * @param values               the values
+     * @return the array
+     */
+    public static BlankSerializationArray byBooleans(SerializationContext serializationContext, boolean[] values) {
+        return new BlankSerializationArray(serializationContext, PackedBlankArray.Booleans.of(values));
+    }
+
+    /**
+     * Returns a packed serialization array consisting of byte values
+     *
+     * @param serializationContext the serialization context
+     * @param values               the values
+     * @return the array
+     */
+    public static BlankSerializationArray byBytes(SerializationContext serializationContext, byte[] values) {
+        return new BlankSerializationArray(serializationContext, new PackedBlankArray.Bytes(values.clone(), values.length));
+    }
+
+    /**
+     * Returns a packed serialization array consisting of int values
+     *
+     * @param serializationContext the serialization context
+     * @param values               the values
+     * @return the array
+     */
+    public static BlankSerializationArray byInts(SerializationContext serializationContext, int[] values) {
+        return new BlankSerializationArray(serializationContext, new PackedBlankArray.Ints(values.clone(), values.length));
+    }
+
+    /**
+     * Returns a packed serialization array consisting of long values
+     *
+     * @param serializationContext the serialization context
+     * @param values               the values
+     * @return the array
+     */
+    public static BlankSerializationArray byLongs(SerializationContext serializationContext, long[] values) {
+        return new BlankSerializationArray(serializationContext, new PackedBlankArray.Longs(values.clone(), values.length));
+    }
+
+    /**
+     * Returns a packed serialization array consisting of double values
+     *
+     * @param serializationContext the serialization context
+     * @param values               the values
+     * @return the array
+     */
+    public static BlankSerializationArray byDoubles(SerializationContext serializationContext, double[] values) {
+        return new BlankSerializationArray(serializationContext, new PackedBlankArray.Doubles(values.clone(), values.length));
+    }
+
     /**
      * Returns a serialization array consisting of string values
      *
@@ -85,7 +162,7 @@ public class BlankSerializationArray extends BlankSerializationElement implement
      * @return the array
      */
     public static BlankSerializationArray byStrings(SerializationContext serializationContext, Collection<? extends String> values) {
-        BlankSerializationArray array = new BlankSerializationArray(serializationContext);
+        BlankSerializationArray array = new BlankSerializationArray(serializationContext, values.size());
         for (String value : values)
             array.add(serializationContext.create(value));
         return array;
@@ -93,175 +170,191 @@ public class BlankSerializationArray extends BlankSerializationElement implement
 
     @Override
     public int length() {
-        return elements.size();
+        return packed != null ? packed.length() : size;
     }
 
     @Override
     public SerializationElement get(int index) {
-        return elements.get(index);
+        if (packed != null)
+            return packed.get(getContext(), index);
+        Objects.checkIndex(index, size);
+        return elements[index];
     }
 
     @Override
     public void add(SerializationElement serializationElement) {
-        elements.add(getContext().convert(serializationElement, false));
+        SerializationElement element = getContext().convert(serializationElement, false);
+        if (packed != null) {
+            if (packed.add(element))
+                return;
+            unpack();
+        } else if (size == 0) {
+            packed = PackedBlankArray.of(element, initialCapacity);
+            if (packed != null) {
+                elements = null;
+                kinds = null;
+                return;
+            }
+        }
+        if (size == elements.length)
+            grow(size + 1);
+        elements[size++] = element;
+        if (kinds == null)
+            kinds = new ElementKindCounter();
+        kinds.add(ElementKind.of(element));
     }
 
     @Override
     public void set(int index, SerializationElement serializationElement) {
-        elements.set(index, getContext().convert(serializationElement, false));
-
-        if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isBoolean())
-            boolCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isCharacter())
-            charCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isString())
-            stringCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isByte())
-            byteCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isShort())
-            shortCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isInteger())
-            intCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isLong())
-            longCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isFloat())
-            floatCounter++;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isDouble())
-            doubleCounter++;
-        else if (serializationElement.isArray())
-            arrayCounter++;
-        else if (serializationElement.isContainer())
-            containerCounter++;
-
-        searchForAnyConflicts();
+        SerializationElement element = getContext().convert(serializationElement, false);
+        if (packed != null) {
+            if (packed.set(index, element))
+                return;
+            unpack();
+        }
+        Objects.checkIndex(index, size);
+        SerializationElement replaced = elements[index];
+        elements[index] = element;
+        kinds.replace(ElementKind.of(replaced), ElementKind.of(element));
     }
 
     @Override
     public SerializationElement remove(int index) {
-        SerializationElement serializationElement = elements.remove(index);
-        if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isBoolean())
-            boolCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isCharacter())
-            charCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isString())
-            stringCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isByte())
-            byteCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isShort())
-            shortCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isInteger())
-            intCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isLong())
-            longCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isFloat())
-            floatCounter--;
-        else if (serializationElement.isPrimitive() && serializationElement.getAsPrimitive().isDouble())
-            doubleCounter--;
-        else if (serializationElement.isArray())
-            arrayCounter--;
-        else if (serializationElement.isContainer())
-            containerCounter--;
+        if (packed != null) {
+            SerializationElement removed = packed.get(getContext(), index);
+            packed.remove(index);
+            return removed;
+        }
+        Objects.checkIndex(index, size);
+        SerializationElement serializationElement = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, --size - index);
+        elements[size] = null;
+        kinds.remove(ElementKind.of(serializationElement));
         return serializationElement;
     }
 
     @NotNull
     @Override
     public Iterator<SerializationElement> iterator() {
-        return elements.iterator();
+        return new Iterator<>() {
+            private int index;
+            private boolean removable;
+
+            @Override
+            public boolean hasNext() {
+                return index < length();
+            }
+
+            @Override
+            public SerializationElement next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                removable = true;
+                return get(index++);
+            }
+
+            @Override
+            public void remove() {
+                if (!removable)
+                    throw new IllegalStateException();
+                removable = false;
+                BlankSerializationArray.this.remove(--index);
+            }
+        };
     }
 
     @Override
-    public boolean isBoolArray() {
-        return boolCounter == 1 && !isConflicting;
+    public boolean[] getAsBooleanArray() {
+        if (packed instanceof PackedBlankArray.Booleans booleans)
+            return booleans.toArray();
+        return SerializationArray.super.getAsBooleanArray();
     }
 
     @Override
-    public boolean isCharArray() {
-        return charCounter == 1 && !isConflicting;
+    public byte[] getAsByteArray() {
+        if (packed instanceof PackedBlankArray.Bytes bytes)
+            return bytes.toArray();
+        return SerializationArray.super.getAsByteArray();
     }
 
     @Override
-    public boolean isStringArray() {
-        return stringCounter == 1 && !isConflicting;
+    public int[] getAsIntArray() {
+        if (packed instanceof PackedBlankArray.Ints ints)
+            return ints.toArray();
+        return SerializationArray.super.getAsIntArray();
     }
 
     @Override
-    public boolean isByteArray() {
-        return byteCounter == 1 && !isConflicting;
+    public long[] getAsLongArray() {
+        if (packed instanceof PackedBlankArray.Longs longs)
+            return longs.toArray();
+        return SerializationArray.super.getAsLongArray();
     }
 
     @Override
-    public boolean isShortArray() {
-        return shortCounter == 1 && !isConflicting;
+    public double[] getAsDoubleArray() {
+        if (packed instanceof PackedBlankArray.Doubles doubles)
+            return doubles.toArray();
+        return SerializationArray.super.getAsDoubleArray();
     }
 
     @Override
-    public boolean isIntArray() {
-        return intCounter == 1 && !isConflicting;
+    public ElementKind elementKind() {
+        if (packed != null)
+            return packed.length() == 0 ? ElementKind.EMPTY : packed.kind();
+        return kinds == null ? ElementKind.EMPTY : kinds.elementKind();
     }
 
-    @Override
-    public boolean isLongArray() {
-        return longCounter == 1 && !isConflicting;
-    }
-
-    @Override
-    public boolean isFloatArray() {
-        return floatCounter == 1 && !isConflicting;
-    }
-
-    @Override
-    public boolean isDoubleArray() {
-        return doubleCounter == 1 && !isConflicting;
-    }
-
-    @Override
-    public boolean isArrayOfArrays() {
-        return arrayCounter == 1 && !isConflicting;
-    }
-
-    @Override
-    public boolean isContainerArray() {
-        return containerCounter == 1 && !isConflicting;
+    /**
+     * Grows the storage of the elements. The first allocation uses the requested capacity, all further ones grow geometrically.
+     */
+    private void grow(int minimum) {
+        int capacity = elements.length == 0 && initialCapacity >= minimum ? initialCapacity : PackedBlankArray.grow(elements.length, minimum);
+        elements = Arrays.copyOf(elements, capacity);
     }
 
     /**
-     * @return true if any conflict was found
+     * Switches from the packed storage to an array of elements
      */
-    private void searchForAnyConflicts() {
-        if (isConflicting)
-            return;
-        int trueCount = 0;
-
-        if (isBoolArray()) trueCount++;
-        if (isCharArray()) trueCount++;
-        if (isStringArray()) trueCount++;
-        if (isByteArray()) trueCount++;
-        if (isShortArray()) trueCount++;
-        if (isIntArray()) trueCount++;
-        if (isFloatArray()) trueCount++;
-        if (isDoubleArray()) trueCount++;
-        if (isArrayOfArrays()) trueCount++;
-        if (isContainerArray()) trueCount++;
-
-        isConflicting = trueCount >= 2;
+    private void unpack() {
+        int length = packed.length();
+        elements = new SerializationElement[PackedBlankArray.grow(length, Math.max(initialCapacity, length + 1))];
+        for (int i = 0; i < length; i++)
+            elements[i] = packed.get(getContext(), i);
+        size = length;
+        kinds = new ElementKindCounter();
+        kinds.add(packed.kind(), length);
+        packed = null;
     }
 
     @Override
     public String toString() {
-        return "{" + elements + "}";
+        StringJoiner joiner = new StringJoiner(", ", "{[", "]}");
+        for (SerializationElement element : this)
+            joiner.add(String.valueOf(element));
+        return joiner.toString();
     }
 
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         BlankSerializationArray that = (BlankSerializationArray) o;
-        return Objects.equals(elements, that.elements);
+        if (length() != that.length()) return false;
+        if (packed != null && that.packed != null && packed.getClass() == that.packed.getClass())
+            return packed.sameValues(that.packed);
+        for (int i = 0; i < length(); i++) {
+            if (!Objects.equals(get(i), that.get(i)))
+                return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(elements);
+        int hashCode = 1;
+        for (SerializationElement element : this)
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        return hashCode;
     }
 }
 
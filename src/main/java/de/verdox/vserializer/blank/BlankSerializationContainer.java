@@ -6,17 +6,16 @@ import de.verdox.vserializer.generic.SerializationElement;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Locale;
 import java.util.Objects;
 
 /**
  * A blank implementation of a serialization container.
  * Check out {@link BlankSerializationElement} for further information
+ * <p>
+ * Case-insensitive containers store their keys in lower case. Keys are looked up without creating a lower case copy of them.
  */
 public class BlankSerializationContainer extends BlankSerializationElement implements SerializationContainer {
-    private final LinkedHashMap<String, SerializationElement> map = new LinkedHashMap<>();
-    private final boolean caseSensitive;
+    private final BlankKeyMap map;
 
     /**
      * Standard constructor accepting the serialization context for this container
@@ -25,7 +24,7 @@ public class BlankSerializationContainer extends BlankSerializationElement imple
      */
     public BlankSerializationContainer(SerializationContext serializationContext, boolean caseSensitive) {
         super(serializationContext);
-        this.caseSensitive = caseSensitive;
+        this.map = new BlankKeyMap(caseSensitive);
     }
 
     public BlankSerializationContainer(SerializationContext serializationContext) {
@@ -34,27 +33,33 @@ public class BlankSerializationContainer extends BlankSerializationElement imple
 
     @Override
     public Collection<String> getChildKeys() {
-        return map.keySet();
+        return map.keys();
     }
 
     @Override
     public @NotNull SerializationElement get(String key) {
-        return map.getOrDefault(wrapKey(key), getContext().createNull());
+        SerializationElement element = map.get(key);
+        return element != null ? element : getContext().createNull();
     }
 
     @Override
     public boolean contains(String key) {
-        return map.containsKey(wrapKey(key));
+        return map.containsKey(key);
     }
 
     @Override
     public void set(String key, SerializationElement serializationElement) {
-        map.put(wrapKey(key), getContext().convert(serializationElement, false));
+        map.put(key, getContext().convert(serializationElement, false));
     }
 
     @Override
     public void remove(String key) {
-        map.remove(wrapKey(key));
+        map.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
     }
 
     @Override
@@ -70,10 +75,6 @@ public class BlankSerializationContainer extends BlankSerializationElement imple
         return Objects.hash(map);
     }
 
-    private String wrapKey(String key) {
-        return caseSensitive ? key : key.toLowerCase(Locale.ROOT);
-    }
-
     @Override
     public String toString() {
         return "{" + map + "}";
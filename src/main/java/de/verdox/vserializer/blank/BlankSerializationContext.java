@@ -3,65 +3,116 @@ package de.verdox.vserializer.blank;
 import de.verdox.vserializer.generic.*;
 
 import java.io.File;
+import java.io.IOException;
 
 /**
  * A blank implementation of a serialization context.
  * Check out {@link BlankSerializationElement} for further information
  */
 public class BlankSerializationContext implements SerializationContext {
+    // Blank elements are immutable, so these instances are shared by all trees of this context
+    private final BlankSerializationNull nullElement = new BlankSerializationNull(this);
+    private final BlankSerializationPrimitive trueElement = new BlankBooleanPrimitive(this, true);
+    private final BlankSerializationPrimitive falseElement = new BlankBooleanPrimitive(this, false);
+    private final BlankSerializationPrimitive emptyString = new BlankSerializationPrimitive(this, "");
+    private final PrimitiveCache<BlankSerializationPrimitive> ints = new PrimitiveCache<>() {
+        @Override
+        protected BlankSerializationPrimitive create(int value) {
+            return new BlankLongPrimitive(BlankSerializationContext.this, value, ElementKind.INTEGER);
+        }
+    };
+
     @Override
     public SerializationPrimitive create(boolean value) {
-        return new BlankSerializationPrimitive(this, value);
+        return value ? trueElement : falseElement;
     }
 
     @Override
     public SerializationPrimitive create(char value) {
-        return new BlankSerializationPrimitive(this, value);
+        return new BlankCharPrimitive(this, value);
     }
 
     @Override
     public SerializationPrimitive create(String value) {
+        if ("".equals(value))
+            return emptyString;
         return new BlankSerializationPrimitive(this, value);
     }
 
     @Override
     public SerializationPrimitive create(Number value) {
-        return new BlankSerializationPrimitive(this, value);
+        // Numbers of the fixed size types are stored unboxed
+        return switch (value) {
+            case Integer i -> create(i.intValue());
+            case Long l -> create(l.longValue());
+            case Double d -> create(d.doubleValue());
+            case Float f -> create(f.floatValue());
+            case Short s -> create(s.shortValue());
+            case Byte b -> create(b.byteValue());
+            default -> new BlankSerializationPrimitive(this, value);
+        };
     }
 
     @Override
     public SerializationPrimitive create(byte value) {
-        return new BlankSerializationPrimitive(this, value);
+        return new BlankLongPrimitive(this, value, ElementKind.BYTE);
     }
 
     @Override
     public SerializationPrimitive create(short value) {
-        return new BlankSerializationPrimitive(this, value);
+        return new BlankLongPrimitive(this, value, ElementKind.SHORT);
     }
 
     @Override
     public SerializationPrimitive create(int value) {
-        return new BlankSerializationPrimitive(this, value);
+        if (PrimitiveCache.isCached(value))
+            return ints.get(value);
+        return new BlankLongPrimitive(this, value, ElementKind.INTEGER);
     }
 
     @Override
     public SerializationPrimitive create(long value) {
-        return new BlankSerializationPrimitive(this, value);
+        return new BlankLongPrimitive(this, value, ElementKind.LONG);
     }
 
     @Override
     public SerializationPrimitive create(float value) {
-        return new BlankSerializationPrimitive(this, value);
+        return new BlankDoublePrimitive(this, value, true);
     }
 
     @Override
     public SerializationPrimitive create(double value) {
-        return new BlankSerializationPrimitive(this, value);
+        return new BlankDoublePrimitive(this, value, false);
+    }
+
+    @Override
+    public SerializationArray create(boolean[] array) {
+        return BlankSerializationArray.byBooleans(this, array);
+    }
+
+    @Override
+    public SerializationArray create(byte[] array) {
+        return BlankSerializationArray.byBytes(this, array);
+    }
+
+    @Override
+    public SerializationArray create(int[] array) {
+        return BlankSerializationArray.byInts(this, array);
+    }
+
+    @Override
+    public SerializationArray create(long[] array) {
+        return BlankSerializationArray.byLongs(this, array);
+    }
+
+    @Override
+    public SerializationArray create(double[] array) {
+        return BlankSerializationArray.byDoubles(this, array);
     }
 
     @Override
     public SerializationArray createArray(int length) {
-        return new BlankSerializationArray(this);
+        return new BlankSerializationArray(this, length);
     }
 
     @Override
@@ -76,16 +127,16 @@ public class BlankSerializationContext implements SerializationContext {
 
     @Override
     public SerializationNull createNull() {
-        return new BlankSerializationNull(this);
+        return nullElement;
     }
 
     @Override
-    public void writeToFile(SerializationElement element, File file) {
+    public void writeToFile(SerializationElement element, File file) throws IOException {
         throw new UnsupportedOperationException();
     }
 
     @Override
-    public SerializationElement readFromFile(File file) {
+    public SerializationElement readFromFile(File file) throws IOException {
         throw new UnsupportedOperationException();
     }
 
@@ -94,6 +145,12 @@ public class BlankSerializationContext implements SerializationContext {
         return obj instanceof BlankSerializationContext && obj.getClass().equals(this.getClass());
     }
 
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
     public boolean hasCaseSensitiveKeys() {
         return false;
     }
@@ -22,6 +22,11 @@ public class BlankSerializationNull extends BlankSerializationElement implements
         return obj instanceof BlankSerializationNull;
     }
 
+    @Override
+    public int hashCode() {
+        return BlankSerializationNull.class.hashCode();
+    }
+
     @Override
     public String toString() {
         return "null";
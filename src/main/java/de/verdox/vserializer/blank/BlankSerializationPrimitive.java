@@ -12,10 +12,24 @@ import java.util.Objects;
 /**
  * A blank implementation of a serialization primitive.
  * Check out {@link BlankSerializationElement} for further information
+ * <p>
+ * The {@link BlankSerializationContext} creates unboxed subclasses for booleans, characters and fixed size numbers.
+ * They answer the typed getters without boxing. Instances of this class store strings and other numbers, or the boxed values passed to the constructors.
  */
 public class BlankSerializationPrimitive extends BlankSerializationElement implements SerializationPrimitive {
+    // Null for the unboxed subclasses that store their value themselves
     private final Object value;
 
+    /**
+     * The constructor of the unboxed subclasses
+     *
+     * @param serializationContext the context
+     */
+    BlankSerializationPrimitive(SerializationContext serializationContext) {
+        super(serializationContext);
+        this.value = null;
+    }
+
     /**
      * A direct constructor to construct the primitive from a primitive value
      *
@@ -142,10 +156,10 @@ public class BlankSerializationPrimitive extends BlankSerializationElement imple
 
     @Override
     public Number getAsNumber() {
-        if (value instanceof Number) {
-            return (Number) value;
-        } else if (value instanceof String) {
-            return new LazilyParsedNumber((String) value);
+        if (value instanceof Number number) {
+            return number;
+        } else if (isString()) {
+            return new LazilyParsedNumber(getAsString());
         }
         throw new UnsupportedOperationException("Primitive is neither a number nor a string");
     }
@@ -157,12 +171,12 @@ public class BlankSerializationPrimitive extends BlankSerializationElement imple
 
     @Override
     public String getAsString() {
-        if (value instanceof String) {
-            return (String) value;
+        if (value instanceof String string) {
+            return string;
         } else if (isNumber()) {
             return getAsNumber().toString();
         } else if (isBoolean()) {
-            return ((Boolean) value).toString();
+            return Boolean.toString(getAsBoolean());
         }
         throw new AssertionError("Unexpected value type: " + value.getClass());
     }
@@ -190,8 +204,8 @@ public class BlankSerializationPrimitive extends BlankSerializationElement imple
     public BigInteger getAsBigInteger() {
         return value instanceof BigInteger
                 ? (BigInteger) value
-                : isIntegral(this)
-                ? BigInteger.valueOf(this.getAsNumber().longValue())
+                : isIntegral()
+                ? BigInteger.valueOf(getAsLong())
                 : NumberLimits.parseBigInteger(this.getAsString());
     }
 
@@ -236,12 +250,12 @@ public class BlankSerializationPrimitive extends BlankSerializationElement imple
             return 31;
         }
         // Using recommended hashing algorithm from Effective Java for longs and doubles
-        if (isIntegral(this)) {
-            long value = getAsNumber().longValue();
+        if (isIntegral()) {
+            long value = getAsLong();
             return (int) (value ^ (value >>> 32));
         }
         if (value instanceof Number) {
-            long value = Double.doubleToLongBits(getAsNumber().doubleValue());
+            long value = Double.doubleToLongBits(getAsDouble());
             return (int) (value ^ (value >>> 32));
         }
         return value.hashCode();
@@ -249,26 +263,22 @@ public class BlankSerializationPrimitive extends BlankSerializationElement imple
 
     /**
      * Returns whether the other object is equal to this. This method only considers the other object
-     * to be equal if it is an instance of {@code JsonPrimitive} and has an equal value.
+     * to be equal if it is a {@code BlankSerializationPrimitive} and has an equal value. Unboxed and boxed primitives of the same value are equal.
      */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null || getClass() != obj.getClass()) {
+        if (!(obj instanceof BlankSerializationPrimitive other)) {
             return false;
         }
-        BlankSerializationPrimitive other = (BlankSerializationPrimitive) obj;
-        if (value == null) {
-            return other.value == null;
-        }
-        if (isIntegral(this) && isIntegral(other)) {
-            return (this.value instanceof BigInteger || other.value instanceof BigInteger)
-                    ? this.getAsBigInteger().equals(other.getAsBigInteger())
-                    : this.getAsNumber().longValue() == other.getAsNumber().longValue();
-        }
-        if (value instanceof Number && other.value instanceof Number) {
+        if (isNumber() && other.isNumber()) {
+            if (isIntegral() && other.isIntegral()) {
+                return (this.value instanceof BigInteger || other.value instanceof BigInteger)
+                        ? this.getAsBigInteger().equals(other.getAsBigInteger())
+                        : this.getAsLong() == other.getAsLong();
+            }
             if (value instanceof BigDecimal && other.value instanceof BigDecimal) {
                 // Uses compareTo to ignore scale of values, e.g. `0` and `0.00` should be considered equal
                 return this.getAsBigDecimal().compareTo(other.getAsBigDecimal()) == 0;
@@ -280,19 +290,21 @@ public class BlankSerializationPrimitive extends BlankSerializationElement imple
             return (thisAsDouble == otherAsDouble)
                     || (Double.isNaN(thisAsDouble) && Double.isNaN(otherAsDouble));
         }
-        return value.equals(other.value);
+        if (isBoolean() && other.isBoolean()) {
+            return getAsBoolean() == other.getAsBoolean();
+        }
+        return isString() && other.isString() && getAsString().equals(other.getAsString());
     }
 
-    private static boolean isIntegral(BlankSerializationPrimitive primitive) {
-        if (primitive.value instanceof Number) {
-            Number number = (Number) primitive.value;
-            return number instanceof BigInteger
-                    || number instanceof Long
-                    || number instanceof Integer
-                    || number instanceof Short
-                    || number instanceof Byte;
-        }
-        return false;
+    /**
+     * Returns true if the value is a whole number that fits into a long or a {@link BigInteger}
+     */
+    boolean isIntegral() {
+        return value instanceof BigInteger
+                || value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte;
     }
 
     @Override
@@ -0,0 +1,390 @@
+package de.verdox.vserializer.blank;
+
+import de.verdox.vserializer.generic.ElementKind;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationPrimitive;
+
+import java.util.Arrays;
+
+/**
+ * The packed storage of a {@link BlankSerializationArray} that only consists of values of one primitive type.
+ * Values are stored in a primitive array and wrapped into unboxed {@link BlankSerializationPrimitive}s only when they are accessed as elements.
+ */
+abstract class PackedBlankArray {
+    protected int size;
+
+    /**
+     * Creates a packed storage for the type of the provided element
+     *
+     * @param element  the first element
+     * @param capacity the expected number of elements
+     * @return the storage containing the element or null if the element cannot be packed
+     */
+    static PackedBlankArray of(SerializationElement element, int capacity) {
+        if (!element.isPrimitive())
+            return null;
+        SerializationPrimitive primitive = element.getAsPrimitive();
+        PackedBlankArray packed;
+        if (primitive.isBoolean())
+            packed = new Booleans(new long[(capacity + 63) >>> 6], 0);
+        else if (primitive.isByte())
+            packed = new Bytes(new byte[capacity], 0);
+        else if (primitive.isInteger())
+            packed = new Ints(new int[capacity], 0);
+        else if (primitive.isLong())
+            packed = new Longs(new long[capacity], 0);
+        else if (primitive.isDouble())
+            packed = new Doubles(new double[capacity], 0);
+        else
+            return null;
+        packed.add(primitive);
+        return packed;
+    }
+
+    int length() {
+        return size;
+    }
+
+    /**
+     * Appends the value if it has the type of this storage
+     *
+     * @return false if the value has another type
+     */
+    abstract boolean add(SerializationElement element);
+
+    /**
+     * Replaces the value if it has the type of this storage
+     *
+     * @return false if the value has another type
+     */
+    abstract boolean set(int index, SerializationElement element);
+
+    abstract SerializationElement get(SerializationContext context, int index);
+
+    abstract void remove(int index);
+
+    abstract boolean sameValues(PackedBlankArray other);
+
+    /**
+     * Returns the kind of all values in this storage
+     */
+    abstract ElementKind kind();
+
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+
+    protected static int grow(int length, int minimum) {
+        return Math.max(minimum, Math.max(length + (length >> 1), 8));
+    }
+
+    static final class Booleans extends PackedBlankArray {
+        private long[] bits;
+
+        Booleans(long[] bits, int size) {
+            this.bits = bits;
+            this.size = size;
+        }
+
+        @Override
+        ElementKind kind() {
+            return ElementKind.BOOLEAN;
+        }
+
+        static Booleans of(boolean[] values) {
+            Booleans booleans = new Booleans(new long[(values.length + 63) >>> 6], values.length);
+            for (int i = 0; i < values.length; i++)
+                booleans.put(i, values[i]);
+            return booleans;
+        }
+
+        boolean getBoolean(int index) {
+            return (bits[index >>> 6] & (1L << index)) != 0;
+        }
+
+        boolean[] toArray() {
+            boolean[] array = new boolean[size];
+            for (int i = 0; i < size; i++)
+                array[i] = getBoolean(i);
+            return array;
+        }
+
+        private void put(int index, boolean value) {
+            if (value)
+                bits[index >>> 6] |= 1L << index;
+            else
+                bits[index >>> 6] &= ~(1L << index);
+        }
+
+        @Override
+        boolean add(SerializationElement element) {
+            if (!element.isPrimitive() || !element.getAsPrimitive().isBoolean())
+                return false;
+            if (size == bits.length << 6)
+                bits = Arrays.copyOf(bits, bits.length == 0 ? 1 : bits.length << 1);
+            put(size++, element.getAsBoolean());
+            return true;
+        }
+
+        @Override
+        boolean set(int index, SerializationElement element) {
+            checkIndex(index);
+            if (!element.isPrimitive() || !element.getAsPrimitive().isBoolean())
+                return false;
+            put(index, element.getAsBoolean());
+            return true;
+        }
+
+        @Override
+        SerializationElement get(SerializationContext context, int index) {
+            checkIndex(index);
+            return context.create(getBoolean(index));
+        }
+
+        @Override
+        void remove(int index) {
+            checkIndex(index);
+            for (int i = index; i < size - 1; i++)
+                put(i, getBoolean(i + 1));
+            put(--size, false);
+        }
+
+        @Override
+        boolean sameValues(PackedBlankArray other) {
+            if (!(other instanceof Booleans booleans) || size != other.size)
+                return false;
+            for (int i = 0; i < size; i++) {
+                if (getBoolean(i) != booleans.getBoolean(i))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    static final class Bytes extends PackedBlankArray {
+        private byte[] values;
+
+        Bytes(byte[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        ElementKind kind() {
+            return ElementKind.BYTE;
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        boolean add(SerializationElement element) {
+            if (!element.isPrimitive() || !element.getAsPrimitive().isByte())
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = element.getAsByte();
+            return true;
+        }
+
+        @Override
+        boolean set(int index, SerializationElement element) {
+            checkIndex(index);
+            if (!element.isPrimitive() || !element.getAsPrimitive().isByte())
+                return false;
+            values[index] = element.getAsByte();
+            return true;
+        }
+
+        @Override
+        SerializationElement get(SerializationContext context, int index) {
+            checkIndex(index);
+            return new BlankLongPrimitive(context, values[index], ElementKind.BYTE);
+        }
+
+        @Override
+        void remove(int index) {
+            checkIndex(index);
+            System.arraycopy(values, index + 1, values, index, --size - index);
+        }
+
+        @Override
+        boolean sameValues(PackedBlankArray other) {
+            return other instanceof Bytes bytes && Arrays.equals(values, 0, size, bytes.values, 0, bytes.size);
+        }
+    }
+
+    static final class Ints extends PackedBlankArray {
+        private int[] values;
+
+        Ints(int[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        ElementKind kind() {
+            return ElementKind.INTEGER;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        boolean add(SerializationElement element) {
+            if (!element.isPrimitive() || !element.getAsPrimitive().isInteger())
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = element.getAsInt();
+            return true;
+        }
+
+        @Override
+        boolean set(int index, SerializationElement element) {
+            checkIndex(index);
+            if (!element.isPrimitive() || !element.getAsPrimitive().isInteger())
+                return false;
+            values[index] = element.getAsInt();
+            return true;
+        }
+
+        @Override
+        SerializationElement get(SerializationContext context, int index) {
+            checkIndex(index);
+            return context.create(values[index]);
+        }
+
+        @Override
+        void remove(int index) {
+            checkIndex(index);
+            System.arraycopy(values, index + 1, values, index, --size - index);
+        }
+
+        @Override
+        boolean sameValues(PackedBlankArray other) {
+            return other instanceof Ints ints && Arrays.equals(values, 0, size, ints.values, 0, ints.size);
+        }
+    }
+
+    static final class Longs extends PackedBlankArray {
+        private long[] values;
+
+        Longs(long[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        ElementKind kind() {
+            return ElementKind.LONG;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        boolean add(SerializationElement element) {
+            if (!element.isPrimitive() || !element.getAsPrimitive().isLong())
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = element.getAsLong();
+            return true;
+        }
+
+        @Override
+        boolean set(int index, SerializationElement element) {
+            checkIndex(index);
+            if (!element.isPrimitive() || !element.getAsPrimitive().isLong())
+                return false;
+            values[index] = element.getAsLong();
+            return true;
+        }
+
+        @Override
+        SerializationElement get(SerializationContext context, int index) {
+            checkIndex(index);
+            return new BlankLongPrimitive(context, values[index], ElementKind.LONG);
+        }
+
+        @Override
+        void remove(int index) {
+            checkIndex(index);
+            System.arraycopy(values, index + 1, values, index, --size - index);
+        }
+
+        @Override
+        boolean sameValues(PackedBlankArray other) {
+            return other instanceof Longs longs && Arrays.equals(values, 0, size, longs.values, 0, longs.size);
+        }
+    }
+
+    static final class Doubles extends PackedBlankArray {
+        private double[] values;
+
+        Doubles(double[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        ElementKind kind() {
+            return ElementKind.DOUBLE;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        boolean add(SerializationElement element) {
+            if (!element.isPrimitive() || !element.getAsPrimitive().isDouble())
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = element.getAsDouble();
+            return true;
+        }
+
+        @Override
+        boolean set(int index, SerializationElement element) {
+            checkIndex(index);
+            if (!element.isPrimitive() || !element.getAsPrimitive().isDouble())
+                return false;
+            values[index] = element.getAsDouble();
+            return true;
+        }
+
+        @Override
+        SerializationElement get(SerializationContext context, int index) {
+            checkIndex(index);
+            return new BlankDoublePrimitive(context, values[index], false);
+        }
+
+        @Override
+        void remove(int index) {
+            checkIndex(index);
+            System.arraycopy(values, index + 1, values, index, --size - index);
+        }
+
+        @Override
+        boolean sameValues(PackedBlankArray other) {
+            if (!(other instanceof Doubles doubles) || size != other.size)
+                return false;
+            // Compared like the elements are compared: -0.0 equals 0.0 and NaN equals NaN
+            for (int i = 0; i < size; i++) {
+                double a = values[i];
+                double b = doubles.values[i];
+                if (a != b && !(Double.isNaN(a) && Double.isNaN(b)))
+                    return false;
+            }
+            return true;
+        }
+    }
+}
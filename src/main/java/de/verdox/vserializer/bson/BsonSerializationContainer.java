@@ -1,5 +1,6 @@
 package de.verdox.vserializer.bson;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import de.verdox.vserializer.generic.SerializationElement;
@@ -7,16 +8,36 @@ import de.verdox.vserializer.json.JsonSerializationContainer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * A json container whose keys are stored bson conform.
+ * Keys are escaped once when a json tree enters the {@link BsonSerializerContext}. Children of an escaped tree are wrapped without touching them again.
+ */
 public class BsonSerializationContainer extends JsonSerializationContainer {
+    private static final String DOLLAR = "___dollar___";
+    private static final String DOT = "___dot___";
+
     public BsonSerializationContainer(BsonSerializerContext serializerContext, JsonObject jsonElement) {
-        super(serializerContext, convertKeys(jsonElement));
+        this(serializerContext, convertKeys(jsonElement), true);
+    }
+
+    /**
+     * Wraps a json object whose keys are already bson conform
+     */
+    BsonSerializationContainer(BsonSerializerContext serializerContext, JsonObject jsonElement, boolean converted) {
+        super(serializerContext, jsonElement);
     }
 
     @Override
     public Collection<String> getChildKeys() {
-        return super.getChildKeys().stream().map(BsonSerializationContainer::fromBsonConformKey).toList();
+        Collection<String> keys = super.getChildKeys();
+        for (String key : keys) {
+            if (isEscaped(key))
+                return keys.stream().map(BsonSerializationContainer::fromBsonConformKey).toList();
+        }
+        return keys;
     }
 
     @Override
@@ -24,6 +45,11 @@ public class BsonSerializationContainer extends JsonSerializationContainer {
         return super.get(toBsonConformKey(key));
     }
 
+    @Override
+    protected JsonElement getJsonChild(String key) {
+        return super.getJsonChild(toBsonConformKey(key));
+    }
+
     @Override
     public boolean contains(String key) {
         return super.contains(toBsonConformKey(key));
@@ -39,28 +65,60 @@ public class BsonSerializationContainer extends JsonSerializationContainer {
         super.remove(toBsonConformKey(key));
     }
 
+    /**
+     * Escapes all keys of the json object and of its nested objects and arrays in place.
+     * Objects without any key that needs escaping keep their entries untouched.
+     *
+     * @param jsonObject the json object
+     * @return the same json object
+     */
     public static JsonObject convertKeys(JsonObject jsonObject) {
-        for (String s : Set.copyOf(jsonObject.keySet())) {
-            JsonElement removed = jsonObject.remove(s);
-            if(removed.isJsonObject()) {
-                removed = convertKeys(removed.getAsJsonObject());
-            }
-            jsonObject.add(toBsonConformKey(s), removed);
+        boolean escape = false;
+        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+            convertKeys(entry.getValue());
+            escape |= needsEscaping(entry.getKey());
+        }
+        if (escape) {
+            // Re-added in the original order
+            Map<String, JsonElement> entries = new LinkedHashMap<>(jsonObject.asMap());
+            jsonObject.asMap().clear();
+            entries.forEach((key, value) -> jsonObject.add(toBsonConformKey(key), value));
         }
         return jsonObject;
     }
 
+    static void convertKeys(JsonElement jsonElement) {
+        if (jsonElement.isJsonObject())
+            convertKeys(jsonElement.getAsJsonObject());
+        else if (jsonElement.isJsonArray()) {
+            for (JsonElement child : jsonElement.getAsJsonArray())
+                convertKeys(child);
+        }
+    }
+
     public static String toBsonConformKey(String key) {
+        if (!needsEscaping(key))
+            return key;
         if (key.startsWith("$")) {
-            key = "___dollar___" + key.substring(1);
+            key = DOLLAR + key.substring(1);
         }
-        return key.replace(".", "___dot___");
+        return key.replace(".", DOT);
     }
 
     public static String fromBsonConformKey(String key) {
-        if (key.startsWith("___dollar___")) {
-            key = "$" + key.substring("___dollar___".length());
+        if (!isEscaped(key))
+            return key;
+        if (key.startsWith(DOLLAR)) {
+            key = "$" + key.substring(DOLLAR.length());
         }
-        return key.replace("___dot___", ".");
+        return key.replace(DOT, ".");
+    }
+
+    private static boolean needsEscaping(String key) {
+        return key.indexOf('.') >= 0 || key.startsWith("$");
+    }
+
+    private static boolean isEscaped(String key) {
+        return key.startsWith(DOLLAR) || key.contains(DOT);
     }
 }
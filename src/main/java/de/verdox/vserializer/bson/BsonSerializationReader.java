@@ -0,0 +1,20 @@
+package de.verdox.vserializer.bson;
+
+import com.google.gson.stream.JsonReader;
+import de.verdox.vserializer.json.JsonSerializationReader;
+
+import java.io.IOException;
+
+/**
+ * A {@link JsonSerializationReader} that reads bson conform keys.
+ */
+public class BsonSerializationReader extends JsonSerializationReader {
+    BsonSerializationReader(BsonSerializerContext serializerContext, JsonReader jsonReader) {
+        super(serializerContext, jsonReader);
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return BsonSerializationContainer.fromBsonConformKey(super.nextName());
+    }
+}
@@ -0,0 +1,21 @@
+package de.verdox.vserializer.bson;
+
+import com.google.gson.stream.JsonWriter;
+import de.verdox.vserializer.json.JsonSerializationWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link JsonSerializationWriter} that writes bson conform keys.
+ */
+public class BsonSerializationWriter extends JsonSerializationWriter {
+    BsonSerializationWriter(BsonSerializerContext serializerContext, JsonWriter jsonWriter) {
+        super(serializerContext, jsonWriter);
+    }
+
+    @Override
+    public BsonSerializationWriter name(String name) throws IOException {
+        super.name(BsonSerializationContainer.toBsonConformKey(name));
+        return this;
+    }
+}
@@ -1,10 +1,17 @@
 package de.verdox.vserializer.bson;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import de.verdox.vserializer.json.JsonSerializationArray;
 import de.verdox.vserializer.json.JsonSerializationContainer;
 import de.verdox.vserializer.json.JsonSerializationElement;
 import de.verdox.vserializer.json.JsonSerializerContext;
+import de.verdox.vserializer.util.gson.JsonUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 
 public class BsonSerializerContext extends JsonSerializerContext {
     @Override
@@ -12,11 +19,34 @@ public class BsonSerializerContext extends JsonSerializerContext {
         return new BsonSerializationContainer(this, jsonObject);
     }
 
+    @Override
+    public BsonSerializationWriter createWriter(Writer writer) throws IOException {
+        return new BsonSerializationWriter(this, JsonUtil.newJsonWriter(writer));
+    }
+
+    @Override
+    public BsonSerializationReader createReader(Reader reader) throws IOException {
+        return new BsonSerializationReader(this, JsonUtil.newJsonReader(reader));
+    }
+
+    @Override
+    public JsonSerializationArray createArray(JsonArray jsonElements) {
+        BsonSerializationContainer.convertKeys(jsonElements);
+        return super.createArray(jsonElements);
+    }
+
     @Override
     public JsonSerializationElement toElement(JsonElement jsonElement) {
-        if(jsonElement == null || !jsonElement.isJsonObject()) {
-            return super.toElement(jsonElement);
+        if (jsonElement != null)
+            BsonSerializationContainer.convertKeys(jsonElement);
+        return wrap(jsonElement);
+    }
+
+    @Override
+    protected JsonSerializationElement wrap(JsonElement jsonElement) {
+        if (jsonElement == null || !jsonElement.isJsonObject()) {
+            return super.wrap(jsonElement);
         }
-        return new BsonSerializationContainer(this, jsonElement.getAsJsonObject());
+        return new BsonSerializationContainer(this, jsonElement.getAsJsonObject(), true);
     }
 }
@@ -1,22 +1,186 @@
 package de.verdox.vserializer.exception;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Thrown if an object cannot be serialized or deserialized.
+ * <p>
+ * While the exception unwinds through nested serializers, every field and collection adds its key or index to the {@link #getPath() path} of the exception instead of wrapping it again.
+ * The message is only rendered when {@link #getMessage()} is called.
+ * <p>
+ * Exceptions that are created inside {@link #withoutStackTraces(Action)} do not capture a stack trace. This makes failing fast cheap when a lot of data is validated.
+ * <p>
+ * When the exception is serialized with Java serialization, its message is rendered and written as a string.
+ */
 public class SerializationException extends Exception {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<Boolean> STACKLESS = ThreadLocal.withInitial(() -> false);
+
+    // Written as the rendered string by writeObject
+    private transient Supplier<String> detail;
+    // The innermost segment comes first
+    private ArrayList<String> segments;
+    private String message;
+
     public SerializationException() {
+        this(null, null, true);
     }
 
     public SerializationException(String message) {
-        super(message);
+        this(message, null);
     }
 
     public SerializationException(String message, Throwable cause) {
-        super(message, cause);
+        this(message == null ? null : () -> message, cause, true);
     }
 
     public SerializationException(Throwable cause) {
-        super(cause);
+        this(cause == null ? null : cause::toString, cause, true);
     }
 
     public SerializationException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
+        this.detail = message == null ? null : () -> message;
+    }
+
+    private SerializationException(Supplier<String> detail, Throwable cause, boolean lazy) {
+        super(null, cause);
+        this.detail = detail;
+    }
+
+    /**
+     * Creates an exception whose message is only built if it is requested
+     *
+     * @param message the supplier of the message
+     * @param cause   the cause or null
+     * @return the exception
+     */
+    public static SerializationException lazy(Supplier<String> message, Throwable cause) {
+        return new SerializationException(message, cause, true);
+    }
+
+    /**
+     * Adds the key of a field to the path of this exception. It is called while the exception unwinds, so the fields are added from the inside out.
+     *
+     * @param key the key of the field
+     * @return this exception
+     */
+    public SerializationException atField(String key) {
+        return addSegment(key == null ? "?" : key);
+    }
+
+    /**
+     * Adds the index of an element of an array or collection to the path of this exception
+     *
+     * @param index the index
+     * @return this exception
+     */
+    public SerializationException atIndex(int index) {
+        return addSegment("[" + index + "]");
+    }
+
+    /**
+     * Returns the path to the value that could not be serialized, for example {@code job.salary} or {@code people[3].name}
+     *
+     * @return the path or an empty string if the value is not nested
+     */
+    public String getPath() {
+        if (segments == null)
+            return "";
+        StringBuilder builder = new StringBuilder();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            String segment = segments.get(i);
+            if (!builder.isEmpty() && !segment.startsWith("["))
+                builder.append('.');
+            builder.append(segment);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            String text = detail == null ? null : detail.get();
+            if (segments == null)
+                return text;
+            message = (text == null ? "" : text + " ") + "(at " + getPath() + ")";
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (STACKLESS.get())
+            return this;
+        return super.fillInStackTrace();
+    }
+
+    private SerializationException addSegment(String segment) {
+        if (segments == null)
+            segments = new ArrayList<>(4);
+        segments.add(segment);
+        message = null;
+        return this;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(detail == null ? null : detail.get());
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        String text = (String) in.readObject();
+        this.detail = text == null ? null : () -> text;
+    }
+
+    /**
+     * Returns true if serialization exceptions created by the current thread do not capture stack traces.
+     * Code that hands work to other threads uses it to run that work inside {@link #withoutStackTraces(Action)} as well.
+     *
+     * @return true if the current thread runs inside {@link #withoutStackTraces(Action)}
+     */
+    public static boolean areStackTracesDisabled() {
+        return STACKLESS.get();
+    }
+
+    /**
+     * Runs the action while serialization exceptions created by the current thread do not capture stack traces.
+     * The flag belongs to the current thread. Parallel serializers carry it into the threads that serialize their chunks.
+     *
+     * @param action the action
+     * @param <T>    the result type
+     * @param <E>    the exception type of the action
+     * @return the result of the action
+     * @throws E if the action throws
+     */
+    public static <T, E extends Exception> T withoutStackTraces(Action<T, E> action) throws E {
+        if (STACKLESS.get())
+            return action.run();
+        STACKLESS.set(true);
+        try {
+            return action.run();
+        } finally {
+            STACKLESS.set(false);
+        }
+    }
+
+    /**
+     * An action that may throw a checked exception
+     *
+     * @param <T> the result type
+     * @param <E> the exception type
+     */
+    @FunctionalInterface
+    public interface Action<T, E extends Exception> {
+        T run() throws E;
     }
 }
@@ -0,0 +1,110 @@
+package de.verdox.vserializer.generic;
+
+/**
+ * The kind of the elements inside a {@link SerializationArray}.
+ * It is returned by {@link SerializationArray#elementKind()} and describes whether all elements of an array share the same type.
+ */
+public enum ElementKind {
+    /**
+     * The array does not contain any elements
+     */
+    EMPTY,
+    NULL,
+    BOOLEAN,
+    /**
+     * Strings with a length of one. Arrays of characters and longer strings are {@link #STRING} arrays.
+     */
+    CHARACTER,
+    STRING,
+    BYTE,
+    SHORT,
+    INTEGER,
+    LONG,
+    FLOAT,
+    DOUBLE,
+    /**
+     * Numbers without a fixed width like {@link java.math.BigDecimal} or numbers that were parsed from text
+     */
+    NUMBER,
+    ARRAY,
+    CONTAINER,
+    /**
+     * The array contains elements of different kinds
+     */
+    MIXED;
+
+    private static final ElementKind[] VALUES = values();
+
+    /**
+     * Returns the kind of a single element
+     *
+     * @param element the element
+     * @return the kind
+     */
+    public static ElementKind of(SerializationElement element) {
+        if (element == null || element.isNull())
+            return NULL;
+        else if (element.isArray())
+            return ARRAY;
+        else if (element.isContainer())
+            return CONTAINER;
+        SerializationPrimitive primitive = element.getAsPrimitive();
+        if (primitive.isBoolean())
+            return BOOLEAN;
+        else if (primitive.isNumber())
+            return ofNumber(primitive.getAsNumber());
+        return ofString(primitive.getAsString());
+    }
+
+    /**
+     * Returns the kind of a number value
+     *
+     * @param number the number
+     * @return the kind
+     */
+    public static ElementKind ofNumber(Number number) {
+        if (number instanceof Integer)
+            return INTEGER;
+        else if (number instanceof Long)
+            return LONG;
+        else if (number instanceof Double)
+            return DOUBLE;
+        else if (number instanceof Byte)
+            return BYTE;
+        else if (number instanceof Short)
+            return SHORT;
+        else if (number instanceof Float)
+            return FLOAT;
+        return NUMBER;
+    }
+
+    /**
+     * Returns the kind of a string value
+     *
+     * @param value the string
+     * @return the kind
+     */
+    public static ElementKind ofString(String value) {
+        return value.length() == 1 ? CHARACTER : STRING;
+    }
+
+    /**
+     * Returns the kind of an array that contains elements of this and of the other kind
+     *
+     * @param other the other kind
+     * @return the combined kind
+     */
+    public ElementKind combine(ElementKind other) {
+        if (this == other || other == EMPTY)
+            return this;
+        if (this == EMPTY)
+            return other;
+        if ((this == CHARACTER && other == STRING) || (this == STRING && other == CHARACTER))
+            return STRING;
+        return MIXED;
+    }
+
+    static ElementKind byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,71 @@
+package de.verdox.vserializer.generic;
+
+/**
+ * Counts the elements of an array by their {@link ElementKind}.
+ * Implementations of {@link SerializationArray} update it on every mutation to answer {@link SerializationArray#elementKind()} in constant time.
+ */
+public final class ElementKindCounter {
+    private final int[] counts = new int[ElementKind.values().length];
+    private ElementKind kind = ElementKind.EMPTY;
+
+    /**
+     * Counts all elements of an array
+     *
+     * @param array the array
+     * @return the counter
+     */
+    public static ElementKindCounter of(Iterable<? extends SerializationElement> array) {
+        ElementKindCounter counter = new ElementKindCounter();
+        for (SerializationElement element : array)
+            counter.add(ElementKind.of(element));
+        return counter;
+    }
+
+    public void add(ElementKind kind) {
+        add(kind, 1);
+    }
+
+    /**
+     * Counts several elements of the same kind
+     *
+     * @param kind   the kind of the elements
+     * @param amount the number of elements
+     */
+    public void add(ElementKind kind, int amount) {
+        if (amount == 0)
+            return;
+        counts[kind.ordinal()] += amount;
+        this.kind = this.kind.combine(kind);
+    }
+
+    public void remove(ElementKind kind) {
+        // The summary only changes if the last element of a kind is removed
+        if (--counts[kind.ordinal()] == 0)
+            this.kind = summarize();
+    }
+
+    public void replace(ElementKind removed, ElementKind added) {
+        if (removed == added)
+            return;
+        add(added);
+        remove(removed);
+    }
+
+    /**
+     * Returns the kind shared by all counted elements
+     *
+     * @return the kind
+     */
+    public ElementKind elementKind() {
+        return kind;
+    }
+
+    private ElementKind summarize() {
+        ElementKind summary = ElementKind.EMPTY;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0)
+                summary = summary.combine(ElementKind.byOrdinal(i));
+        }
+        return summary;
+    }
+}
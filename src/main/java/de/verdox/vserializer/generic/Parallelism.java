@@ -0,0 +1,100 @@
+package de.verdox.vserializer.generic;
+
+import de.verdox.vserializer.exception.SerializationException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Splits the elements of large collections, arrays and maps into chunks that are serialized or deserialized in parallel by a {@link ForkJoinPool}.
+ * Every element is written to its own index, so the results keep the order of the elements.
+ * If the caller runs inside {@link SerializationException#withoutStackTraces(SerializationException.Action)}, the chunks are run inside it as well.
+ */
+final class Parallelism {
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    Parallelism(ForkJoinPool pool, int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("The threshold must be positive but was " + threshold);
+        this.pool = Objects.requireNonNull(pool);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns true if a number of elements is large enough to be split
+     */
+    boolean splits(int length) {
+        return length > threshold;
+    }
+
+    /**
+     * Runs the action for every index. Chunks of at most threshold indices are run by the pool.
+     * If actions fail, one of their exceptions is thrown after all chunks finished.
+     */
+    void forEach(int length, IndexAction action) throws SerializationException {
+        AtomicReference<SerializationException> failure = new AtomicReference<>();
+        pool.invoke(new Chunk(action, failure, SerializationException.areStackTracesDisabled(), 0, length));
+        SerializationException exception = failure.get();
+        if (exception != null)
+            throw exception;
+    }
+
+    @FunctionalInterface
+    interface IndexAction {
+        void run(int index) throws SerializationException;
+    }
+
+    /**
+     * Chunks are only run by the pool and never serialized, even though ForkJoinTask is Serializable.
+     */
+    @SuppressWarnings("serial")
+    private final class Chunk extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final IndexAction action;
+        private final AtomicReference<SerializationException> failure;
+        private final boolean stackless;
+        private final int from;
+        private final int to;
+
+        private Chunk(IndexAction action, AtomicReference<SerializationException> failure, boolean stackless, int from, int to) {
+            this.action = action;
+            this.failure = failure;
+            this.stackless = stackless;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunk(action, failure, stackless, from, middle), new Chunk(action, failure, stackless, middle, to));
+                return;
+            }
+            if (stackless) {
+                SerializationException.<Void, RuntimeException>withoutStackTraces(() -> {
+                    runIndices();
+                    return null;
+                });
+            } else {
+                runIndices();
+            }
+        }
+
+        private void runIndices() {
+            for (int i = from; i < to && failure.get() == null; i++) {
+                try {
+                    action.run(i);
+                } catch (SerializationException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+    }
+}
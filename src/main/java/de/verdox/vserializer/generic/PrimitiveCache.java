@@ -0,0 +1,60 @@
+package de.verdox.vserializer.generic;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A cache of the primitives of small int values, used by a {@link SerializationContext} to share them instead of creating a new primitive for every value.
+ * Booleans and small numbers make up most of the serialized data, so most ints are served from this cache.
+ * <p>
+ * The cached primitives are shared by every tree of the context. They must be immutable.
+ * Primitives are {@link #create(int) created} the first time their value is requested and are safely published to other threads.
+ *
+ * @param <P> the primitive type of the context
+ */
+public abstract class PrimitiveCache<P extends SerializationPrimitive> {
+    /**
+     * The smallest cached value
+     */
+    public static final int LOW = -128;
+    /**
+     * The largest cached value
+     */
+    public static final int HIGH = 1023;
+
+    private final AtomicReferenceArray<P> primitives = new AtomicReferenceArray<>(HIGH - LOW + 1);
+
+    /**
+     * Creates the primitive of a value. It is called at most once per value unless several threads request the same value at the same time.
+     *
+     * @param value the value
+     * @return the primitive
+     */
+    protected abstract P create(int value);
+
+    /**
+     * Returns true if the primitive of the value is cached
+     *
+     * @param value the value
+     * @return true if the value is between {@link #LOW} and {@link #HIGH}
+     */
+    public static boolean isCached(int value) {
+        return value >= LOW && value <= HIGH;
+    }
+
+    /**
+     * Returns the shared primitive of a cached value
+     *
+     * @param value the value, it must be {@link #isCached(int) cached}
+     * @return the primitive
+     */
+    public P get(int value) {
+        int index = value - LOW;
+        P primitive = primitives.get(index);
+        if (primitive != null)
+            return primitive;
+        primitive = create(value);
+        // Another thread may have been faster, all threads use the primitive that was stored first
+        P witness = primitives.compareAndExchange(index, null, primitive);
+        return witness != null ? witness : primitive;
+    }
+}
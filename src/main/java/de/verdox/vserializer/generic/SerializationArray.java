@@ -1,5 +1,6 @@
 package de.verdox.vserializer.generic;
 
+import java.util.Iterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -69,6 +70,17 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
         return true;
     }
 
+    /**
+     * Returns an iterator over the array elements that may reuse the returned element objects.
+     * An element returned by the cursor is only valid until the next call of {@link Iterator#next()} and must not be kept.
+     * It is meant for code that reads each element right away, because it avoids allocating a wrapper per element.
+     *
+     * @return the cursor
+     */
+    default Iterator<SerializationElement> cursor() {
+        return iterator();
+    }
+
     /**
      * Returns a stream consisting of the array elements
      *
@@ -78,17 +90,29 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Returns the kind shared by all elements of this array.
+     * Implementations that own their elements keep track of it on every mutation, so this is a constant time check. The default implementation scans the array until it finds elements of different kinds.
+     *
+     * @return the kind or {@link ElementKind#MIXED} if the elements have different kinds
+     */
+    default ElementKind elementKind() {
+        ElementKind kind = ElementKind.EMPTY;
+        for (SerializationElement element : this) {
+            kind = kind.combine(ElementKind.of(element));
+            if (kind == ElementKind.MIXED)
+                break;
+        }
+        return kind;
+    }
+
     /**
      * Checks whether the array consists of bool values
      *
      * @return the result of the check
      */
     default boolean isBoolArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isBoolean())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.BOOLEAN;
     }
 
     /**
@@ -97,11 +121,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isCharArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isCharacter())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.CHARACTER;
     }
 
     /**
@@ -110,11 +130,8 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isStringArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isString())
-                return false;
-        }
-        return true;
+        ElementKind kind = elementKind();
+        return kind == ElementKind.STRING || kind == ElementKind.CHARACTER;
     }
 
     /**
@@ -123,11 +140,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isByteArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isByte())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.BYTE;
     }
 
     /**
@@ -136,11 +149,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isShortArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isShort())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.SHORT;
     }
 
     /**
@@ -149,11 +158,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isIntArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isInteger())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.INTEGER;
     }
 
     /**
@@ -162,11 +167,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isLongArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isLong())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.LONG;
     }
 
     /**
@@ -175,11 +176,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isFloatArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isFloat())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.FLOAT;
     }
 
     /**
@@ -188,11 +185,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isDoubleArray() {
-        for (SerializationElement element : this) {
-            if (!element.isPrimitive() || !element.getAsPrimitive().isDouble())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.DOUBLE;
     }
 
     /**
@@ -201,11 +194,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isArrayOfArrays() {
-        for (SerializationElement element : this) {
-            if (!element.isArray())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.ARRAY;
     }
 
     /**
@@ -214,11 +203,7 @@ public interface SerializationArray extends SerializationElement, Iterable<Seria
      * @return the result of the check
      */
     default boolean isContainerArray() {
-        for (SerializationElement element : this) {
-            if (!element.isContainer())
-                return false;
-        }
-        return true;
+        return elementKind() == ElementKind.CONTAINER;
     }
 
     /**
@@ -48,6 +48,105 @@ public interface SerializationContainer extends SerializationElement {
      */
     void remove(String key);
 
+    /**
+     * Returns the value that is mapped to the specified key as a boolean.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default boolean getBoolean(String key) {
+        return get(key).getAsBoolean();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a byte.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default byte getByte(String key) {
+        return get(key).getAsByte();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a short.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default short getShort(String key) {
+        return get(key).getAsShort();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as an int.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default int getInt(String key) {
+        return get(key).getAsInt();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a long.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default long getLong(String key) {
+        return get(key).getAsLong();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a float.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default float getFloat(String key) {
+        return get(key).getAsFloat();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a double.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default double getDouble(String key) {
+        return get(key).getAsDouble();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a char.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default char getCharacter(String key) {
+        return get(key).getAsCharacter();
+    }
+
+    /**
+     * Returns the value that is mapped to the specified key as a string.
+     * Implementations may read the value without wrapping it into a {@link SerializationElement} first.
+     *
+     * @param key the key
+     * @return the value
+     */
+    default String getString(String key) {
+        return get(key).getAsString();
+    }
+
     @Override
     default SerializationContainer getAsContainer() {
         return this;
@@ -1,10 +1,23 @@
 package de.verdox.vserializer.generic;
 
+import de.verdox.vserializer.exception.SerializationException;
+
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 
 /**
  * A serialization context implements the representation of the various serialization elements.
+ * <p>
+ * Serializers may create elements from several threads at the same time, for example when a {@link Serializer.Collection#parallel(int) parallel} serializer splits a large collection.
+ * Thus, implementations must follow these rules:
+ * <ul>
+ *     <li>All create methods and {@link #convert(SerializationElement, boolean)} must be safe to call from several threads at the same time. Shared state like caches of primitives must be thread safe.</li>
+ *     <li>Elements do not have to be thread safe. A new element is only modified by the thread that created it until it is handed over to another thread.</li>
+ *     <li>Reading an element that is not modified, for example with {@link SerializationArray#get(int)} or {@link SerializationContainer#get(String)}, must be safe from several threads at the same time.</li>
+ * </ul>
  */
 public interface SerializationContext {
     /**
@@ -91,7 +104,7 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(boolean[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (boolean value : array) {
             serializationArray.add(create(value));
         }
@@ -102,7 +115,7 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(byte[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (byte value : array) {
             serializationArray.add(create(value));
         }
@@ -113,7 +126,7 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(short[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (short value : array) {
             serializationArray.add(create(value));
         }
@@ -124,7 +137,7 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(int[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (int value : array) {
             serializationArray.add(create(value));
         }
@@ -135,7 +148,7 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(long[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (long value : array) {
             serializationArray.add(create(value));
         }
@@ -146,7 +159,7 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(float[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (float value : array) {
             serializationArray.add(create(value));
         }
@@ -157,13 +170,24 @@ public interface SerializationContext {
      * Creates context specific element for a primitive array
      */
     default SerializationArray create(double[] array) {
-        SerializationArray serializationArray = createArray();
+        SerializationArray serializationArray = createArray(array.length);
         for (double value : array) {
             serializationArray.add(create(value));
         }
         return serializationArray;
     }
 
+    /**
+     * Creates context specific element for a primitive array
+     */
+    default SerializationArray create(char[] array) {
+        SerializationArray serializationArray = createArray(array.length);
+        for (char value : array) {
+            serializationArray.add(create(value));
+        }
+        return serializationArray;
+    }
+
     /**
      * Creates a context specific array
      *
@@ -194,6 +218,16 @@ public interface SerializationContext {
      */
     SerializationNull createNull();
 
+    /**
+     * Returns true if the keys of the containers of this context are case-sensitive.
+     * Containers with case-insensitive keys may change the case of their keys, thus such keys cannot hold data like the keys of a map.
+     *
+     * @return true if the keys are case-sensitive
+     */
+    default boolean hasCaseSensitiveKeys() {
+        return true;
+    }
+
     /**
      * Writes a serialization element into a file
      *
@@ -212,6 +246,62 @@ public interface SerializationContext {
      */
     SerializationElement readFromFile(File file) throws IOException;
 
+    /**
+     * Creates a {@link SerializationWriter} that writes serialized data of this context directly into an output stream.
+     * The writer does not close the stream until {@link SerializationWriter#close()} is called.
+     *
+     * @param outputStream the output stream
+     * @return the writer
+     * @throws IOException                   if any io exception happens
+     * @throws UnsupportedOperationException if this context does not support streaming
+     */
+    default SerializationWriter createWriter(OutputStream outputStream) throws IOException {
+        throw new UnsupportedOperationException("The serialization context " + getClass().getName() + " does not support streaming.");
+    }
+
+    /**
+     * Serializes an object and writes it into a file.
+     * Contexts that support streaming write the object without building a tree of {@link SerializationElement}s first.
+     *
+     * @param serializer the serializer of the object
+     * @param object     the object to save
+     * @param file       the file
+     * @param <T>        the object type
+     * @throws IOException            if any io exception happens
+     * @throws SerializationException if any error happens during serialization
+     */
+    default <T> void writeToFile(Serializer<T> serializer, T object, File file) throws IOException, SerializationException {
+        writeToFile(serializer.serialize(this, object), file);
+    }
+
+    /**
+     * Creates a {@link SerializationReader} that reads serialized data of this context directly from an input stream.
+     * The reader does not close the stream until {@link SerializationReader#close()} is called.
+     *
+     * @param inputStream the input stream
+     * @return the reader
+     * @throws IOException                   if any io exception happens
+     * @throws UnsupportedOperationException if this context does not support streaming
+     */
+    default SerializationReader createReader(InputStream inputStream) throws IOException {
+        throw new UnsupportedOperationException("The serialization context " + getClass().getName() + " does not support streaming.");
+    }
+
+    /**
+     * Reads an object from a file.
+     * Contexts that support streaming read the object without building a tree of {@link SerializationElement}s first.
+     *
+     * @param serializer the serializer of the object
+     * @param file       the file
+     * @param <T>        the object type
+     * @return the object read from the file
+     * @throws IOException            if any io exception happens
+     * @throws SerializationException if any error happens during deserialization
+     */
+    default <T> T readFromFile(Serializer<T> serializer, File file) throws IOException, SerializationException {
+        return serializer.deserialize(readFromFile(file));
+    }
+
     /**
      * Converts a {@link SerializationElement} from possibly another {@link SerializationContext} into a {@link SerializationElement} from this {@link SerializationContext}.
      *
@@ -234,10 +324,39 @@ public interface SerializationContext {
                 return create(primitive.getAsNumber());
         } else if (element.isArray()) {
             SerializationArray serializationArray = element.getAsArray();
+            // Arrays of one primitive type are copied in bulk
+            switch (serializationArray.elementKind()) {
+                case BOOLEAN -> {
+                    return create(serializationArray.getAsBooleanArray());
+                }
+                case CHARACTER -> {
+                    return create(serializationArray.getAsCharArray());
+                }
+                case BYTE -> {
+                    return create(serializationArray.getAsByteArray());
+                }
+                case SHORT -> {
+                    return create(serializationArray.getAsShortArray());
+                }
+                case INTEGER -> {
+                    return create(serializationArray.getAsIntArray());
+                }
+                case LONG -> {
+                    return create(serializationArray.getAsLongArray());
+                }
+                case FLOAT -> {
+                    return create(serializationArray.getAsFloatArray());
+                }
+                case DOUBLE -> {
+                    return create(serializationArray.getAsDoubleArray());
+                }
+            }
             SerializationElement[] array = new SerializationElement[serializationArray.length()];
             int counter = 0;
-            for (SerializationElement serializationElement : serializationArray) {
-                array[counter++] = convert(serializationElement, force);
+            // The children belong to another context or are forced, so they are always copied and never kept
+            Iterator<SerializationElement> cursor = serializationArray.cursor();
+            while (cursor.hasNext()) {
+                array[counter++] = convert(cursor.next(), force);
             }
             return createArray(array);
         } else if (element.isContainer()) {
@@ -0,0 +1,438 @@
+package de.verdox.vserializer.generic;
+
+import de.verdox.vserializer.exception.SerializationException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compares two {@link SerializationElement} trees and creates a patch that turns the first tree into the second one.
+ * The trees may belong to any {@link SerializationContext}. A patch is a {@link SerializationContainer} itself, so it can be stored and sent with any context.
+ * <p>
+ * A patch only contains the parts of the tree that changed:
+ * <ul>
+ *     <li>{@code set} replaces the element with a new value</li>
+ *     <li>{@code fields} contains the patches of the changed children of a container, {@code remove} removes a child from its container</li>
+ *     <li>{@code items} contains the patches of the changed elements of an array by their index, {@code length} truncates an array and {@code append} adds new elements to it</li>
+ * </ul>
+ * A diff {@link #keyedBy(String) keyed by a field} identifies the containers of an array by the value of that field instead of their index.
+ * Then {@code items} contains the patches by the key of the element and {@code order} the keys of the new array if elements were added, removed or moved.
+ * <p>
+ * An empty container is the patch of two equal trees.
+ * The keys of a patch are stored as container keys, so a patch that is applied to the tree of another context should be created by a context with case-sensitive keys.
+ */
+public final class SerializationDiff {
+    private static final String SET = "set";
+    private static final String FIELDS = "fields";
+    private static final String REMOVE = "remove";
+    private static final String ITEMS = "items";
+    private static final String LENGTH = "length";
+    private static final String APPEND = "append";
+    private static final String KEY = "key";
+    private static final String ORDER = "order";
+
+    private static final SerializationDiff POSITIONAL = new SerializationDiff(null);
+
+    @Nullable
+    private final String arrayKey;
+
+    private SerializationDiff(@Nullable String arrayKey) {
+        this.arrayKey = arrayKey;
+    }
+
+    /**
+     * Returns a diff that compares the elements of arrays by their index
+     *
+     * @return the diff
+     */
+    public static SerializationDiff create() {
+        return POSITIONAL;
+    }
+
+    /**
+     * Returns a diff that identifies the containers of arrays by the value of a field.
+     * Moving, adding or removing an element of such an array only changes the {@code order} of the patch instead of the patches of all following elements.
+     * Arrays whose elements are not all containers with a unique primitive value of the field are compared by their index.
+     *
+     * @param arrayKey the key of the field that identifies the containers of an array
+     * @return the diff
+     */
+    public static SerializationDiff keyedBy(String arrayKey) {
+        return new SerializationDiff(Objects.requireNonNull(arrayKey));
+    }
+
+    /**
+     * Creates a patch between two objects by serializing both of them
+     *
+     * @param context    the context of the patch
+     * @param serializer the serializer of the objects
+     * @param before     the old object
+     * @param after      the new object
+     * @param <T>        the object type
+     * @return the patch
+     * @throws SerializationException if an object cannot be serialized
+     */
+    public <T> SerializationContainer diff(SerializationContext context, Serializer<T> serializer, T before, T after) throws SerializationException {
+        return diff(context, serializer.serialize(context, before), serializer.serialize(context, after));
+    }
+
+    /**
+     * Creates a patch that turns the element before into the element after
+     *
+     * @param context the context of the patch
+     * @param before  the old element
+     * @param after   the new element
+     * @return the patch, an empty container if both elements are equal
+     */
+    public SerializationContainer diff(SerializationContext context, SerializationElement before, SerializationElement after) {
+        SerializationContainer patch = diffElement(context, before, after);
+        return patch != null ? patch : context.createContainer();
+    }
+
+    /**
+     * Checks if a patch does not change anything
+     *
+     * @param patch the patch
+     * @return true if the patch is empty
+     */
+    public static boolean isEmpty(SerializationElement patch) {
+        return patch.isContainer() && patch.getAsContainer().isEmpty();
+    }
+
+    /**
+     * Returns the patches of the children of a container by their keys
+     *
+     * @param patch the patch
+     * @return the patches of the children or null if the patch does not patch the children of a container
+     */
+    @Nullable
+    static SerializationContainer fieldPatches(SerializationElement patch) {
+        if (!patch.isContainer() || !patch.getAsContainer().contains(FIELDS))
+            return null;
+        return patch.getAsContainer().get(FIELDS).getAsContainer();
+    }
+
+    /**
+     * Applies a patch to an element. Containers and arrays are changed in place, new values are copied into the context of the target.
+     *
+     * @param target the element that is patched
+     * @param patch  the patch
+     * @return the patched element, which is the target itself unless the patch replaces it
+     * @throws SerializationException if the patch does not match the structure of the target
+     */
+    public static SerializationElement apply(SerializationElement target, SerializationElement patch) throws SerializationException {
+        if (!patch.isContainer())
+            throw new SerializationException("A patch must be a container but was " + patch);
+        SerializationContainer operations = patch.getAsContainer();
+        if (operations.isEmpty())
+            return target;
+        SerializationContext context = target.getContext();
+        if (operations.contains(SET))
+            return context.convert(operations.get(SET), true);
+        if (operations.contains(REMOVE))
+            throw new SerializationException("Only the children of a container can be removed");
+        if (operations.contains(FIELDS)) {
+            if (!target.isContainer())
+                throw new SerializationException("The patch expects a container but found " + target);
+            applyToContainer(target.getAsContainer(), operations);
+            return target;
+        }
+        if (!target.isArray())
+            throw new SerializationException("The patch expects an array but found " + target);
+        if (operations.contains(KEY))
+            return applyToKeyedArray(target.getAsArray(), operations);
+        applyToArray(target.getAsArray(), operations);
+        return target;
+    }
+
+    @Nullable
+    private SerializationContainer diffElement(SerializationContext context, SerializationElement before, SerializationElement after) {
+        if (before == after)
+            return null;
+        if (before.isContainer() && after.isContainer())
+            return diffContainer(context, before.getAsContainer(), after.getAsContainer());
+        if (before.isArray() && after.isArray()) {
+            SerializationArray beforeArray = before.getAsArray();
+            SerializationArray afterArray = after.getAsArray();
+            if (arrayKey != null) {
+                SerializationContainer keyed = diffKeyedArray(context, beforeArray, afterArray);
+                if (keyed != null)
+                    return keyed.isEmpty() ? null : keyed;
+            }
+            return diffArray(context, beforeArray, afterArray);
+        }
+        if (isSameValue(before, after))
+            return null;
+        return replace(context, after);
+    }
+
+    @Nullable
+    private SerializationContainer diffContainer(SerializationContext context, SerializationContainer before, SerializationContainer after) {
+        SerializationContainer fields = null;
+        for (String key : after.getChildKeys()) {
+            SerializationElement afterChild = after.get(key);
+            SerializationContainer childPatch = before.contains(key) ? diffElement(context, before.get(key), afterChild) : replace(context, afterChild);
+            if (childPatch == null)
+                continue;
+            if (fields == null)
+                fields = context.createContainer();
+            fields.set(key, childPatch);
+        }
+        for (String key : before.getChildKeys()) {
+            if (after.contains(key))
+                continue;
+            if (fields == null)
+                fields = context.createContainer();
+            SerializationContainer removal = context.createContainer();
+            removal.set(REMOVE, context.create(true));
+            fields.set(key, removal);
+        }
+        if (fields == null)
+            return null;
+        SerializationContainer patch = context.createContainer();
+        patch.set(FIELDS, fields);
+        return patch;
+    }
+
+    @Nullable
+    private SerializationContainer diffArray(SerializationContext context, SerializationArray before, SerializationArray after) {
+        int beforeLength = before.length();
+        int afterLength = after.length();
+        int common = Math.min(beforeLength, afterLength);
+
+        SerializationContainer items = null;
+        int changed = 0;
+        for (int i = 0; i < common; i++) {
+            SerializationContainer itemPatch = diffElement(context, before.get(i), after.get(i));
+            if (itemPatch == null)
+                continue;
+            // Patching most of the elements of an array is larger than the array itself
+            if (++changed > afterLength / 2)
+                return replace(context, after);
+            if (items == null)
+                items = context.createContainer();
+            items.set(Integer.toString(i), itemPatch);
+        }
+        if (items == null && beforeLength == afterLength)
+            return null;
+
+        SerializationContainer patch = context.createContainer();
+        if (items != null)
+            patch.set(ITEMS, items);
+        if (afterLength < beforeLength)
+            patch.set(LENGTH, context.create(afterLength));
+        else if (afterLength > beforeLength) {
+            SerializationArray append = context.createArray(afterLength - beforeLength);
+            for (int i = beforeLength; i < afterLength; i++)
+                append.add(context.convert(after.get(i), false));
+            patch.set(APPEND, append);
+        }
+        return patch;
+    }
+
+    /**
+     * Returns null if the arrays cannot be compared by their keys
+     */
+    @Nullable
+    private SerializationContainer diffKeyedArray(SerializationContext context, SerializationArray before, SerializationArray after) {
+        String[] beforeKeys = keysOf(before);
+        String[] afterKeys = keysOf(after);
+        if (beforeKeys == null || afterKeys == null)
+            return null;
+
+        Map<String, SerializationElement> beforeByKey = HashMap.newHashMap(beforeKeys.length);
+        for (int i = 0; i < beforeKeys.length; i++)
+            beforeByKey.put(beforeKeys[i], before.get(i));
+
+        SerializationContainer items = null;
+        for (int i = 0; i < afterKeys.length; i++) {
+            SerializationElement beforeElement = beforeByKey.get(afterKeys[i]);
+            SerializationElement afterElement = after.get(i);
+            SerializationContainer itemPatch = beforeElement != null ? diffElement(context, beforeElement, afterElement) : replace(context, afterElement);
+            if (itemPatch == null)
+                continue;
+            if (items == null)
+                items = context.createContainer();
+            items.set(afterKeys[i], itemPatch);
+        }
+
+        SerializationContainer patch = context.createContainer();
+        if (items != null)
+            patch.set(ITEMS, items);
+        if (!Arrays.equals(beforeKeys, afterKeys)) {
+            SerializationArray order = context.createArray(afterKeys.length);
+            for (String key : afterKeys)
+                order.add(context.create(key));
+            patch.set(ORDER, order);
+        }
+        if (!patch.isEmpty())
+            patch.set(KEY, context.create(arrayKey));
+        return patch;
+    }
+
+    /**
+     * Returns the keys of the elements of an array or null if the array is not keyed
+     */
+    private String @Nullable [] keysOf(SerializationArray array) {
+        String[] keys = new String[array.length()];
+        Set<String> unique = HashSet.newHashSet(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            String key = keyOf(array.get(i), arrayKey);
+            if (key == null || !unique.add(key))
+                return null;
+            keys[i] = key;
+        }
+        return keys;
+    }
+
+    @Nullable
+    private static String keyOf(SerializationElement element, String arrayKey) {
+        if (!element.isContainer())
+            return null;
+        SerializationElement key = element.getAsContainer().get(arrayKey);
+        if (key == null || !key.isPrimitive())
+            return null;
+        return key.getAsString();
+    }
+
+    private static SerializationContainer replace(SerializationContext context, SerializationElement value) {
+        SerializationContainer patch = context.createContainer();
+        patch.set(SET, context.convert(value, false));
+        return patch;
+    }
+
+    private static boolean isSameValue(SerializationElement before, SerializationElement after) {
+        if (before.isNull() || after.isNull())
+            return before.isNull() && after.isNull();
+        if (!before.isPrimitive() || !after.isPrimitive())
+            return false;
+        if (before.getContext().equals(after.getContext()))
+            return before.equals(after);
+        // Primitives of different contexts are compared by their value
+        SerializationPrimitive first = before.getAsPrimitive();
+        SerializationPrimitive second = after.getAsPrimitive();
+        if (first.isBoolean() || second.isBoolean())
+            return first.isBoolean() && second.isBoolean() && first.getAsBoolean() == second.getAsBoolean();
+        if (first.isString() || second.isString())
+            return first.isString() && second.isString() && first.getAsString().equals(second.getAsString());
+        return first.getAsLong() == second.getAsLong() && Double.compare(first.getAsDouble(), second.getAsDouble()) == 0;
+    }
+
+    private static void applyToContainer(SerializationContainer target, SerializationContainer operations) throws SerializationException {
+        SerializationContainer fields = operations.get(FIELDS).getAsContainer();
+        for (String key : fields.getChildKeys()) {
+            SerializationElement childPatch = fields.get(key);
+            if (childPatch.isContainer() && childPatch.getAsContainer().contains(REMOVE)) {
+                target.remove(key);
+                continue;
+            }
+            try {
+                SerializationElement child = target.contains(key) ? target.get(key) : target.getContext().createNull();
+                SerializationElement patched = apply(child, childPatch);
+                if (patched != child || !target.contains(key))
+                    target.set(key, patched);
+            } catch (SerializationException e) {
+                throw e.atField(key);
+            }
+        }
+    }
+
+    private static void applyToArray(SerializationArray target, SerializationContainer operations) throws SerializationException {
+        SerializationContext context = target.getContext();
+        if (operations.contains(ITEMS)) {
+            SerializationContainer items = operations.get(ITEMS).getAsContainer();
+            for (String key : items.getChildKeys()) {
+                int index = parseIndex(key, target.length());
+                try {
+                    SerializationElement element = target.get(index);
+                    SerializationElement patched = apply(element, items.get(key));
+                    if (patched != element)
+                        target.set(index, patched);
+                } catch (SerializationException e) {
+                    throw e.atIndex(index);
+                }
+            }
+        }
+        if (operations.contains(LENGTH)) {
+            int length = operations.get(LENGTH).getAsInt();
+            if (length < 0 || length > target.length())
+                throw new SerializationException("Cannot truncate an array of " + target.length() + " elements to " + length);
+            for (int i = target.length() - 1; i >= length; i--)
+                target.remove(i);
+        }
+        if (operations.contains(APPEND)) {
+            SerializationArray append = operations.get(APPEND).getAsArray();
+            for (int i = 0; i < append.length(); i++)
+                target.add(context.convert(append.get(i), true));
+        }
+    }
+
+    private static SerializationElement applyToKeyedArray(SerializationArray target, SerializationContainer operations) throws SerializationException {
+        String arrayKey = operations.get(KEY).getAsString();
+        SerializationContainer items = operations.contains(ITEMS) ? operations.get(ITEMS).getAsContainer() : null;
+
+        if (!operations.contains(ORDER)) {
+            // The order did not change, so the elements are patched in place
+            if (items == null)
+                return target;
+            for (int i = 0; i < target.length(); i++) {
+                SerializationElement element = target.get(i);
+                String key = keyOf(element, arrayKey);
+                if (key == null || !items.contains(key))
+                    continue;
+                try {
+                    SerializationElement patched = apply(element, items.get(key));
+                    if (patched != element)
+                        target.set(i, patched);
+                } catch (SerializationException e) {
+                    throw e.atField(key);
+                }
+            }
+            return target;
+        }
+
+        Map<String, SerializationElement> existing = HashMap.newHashMap(target.length());
+        for (int i = 0; i < target.length(); i++) {
+            SerializationElement element = target.get(i);
+            String key = keyOf(element, arrayKey);
+            if (key != null)
+                existing.put(key, element);
+        }
+        SerializationArray order = operations.get(ORDER).getAsArray();
+        List<SerializationElement> elements = new ArrayList<>(order.length());
+        for (int i = 0; i < order.length(); i++) {
+            String key = order.get(i).getAsString();
+            SerializationElement element = existing.get(key);
+            SerializationElement itemPatch = items != null && items.contains(key) ? items.get(key) : null;
+            try {
+                if (itemPatch != null)
+                    element = apply(element != null ? element : target.getContext().createNull(), itemPatch);
+                else if (element == null)
+                    throw new SerializationException("The patch does not contain the new element");
+            } catch (SerializationException e) {
+                throw e.atField(key);
+            }
+            elements.add(element);
+        }
+        return target.getContext().createArray(elements.toArray(SerializationElement[]::new));
+    }
+
+    private static int parseIndex(String key, int length) throws SerializationException {
+        int index;
+        try {
+            index = Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new SerializationException("The patch contains the invalid array index " + key);
+        }
+        if (index < 0 || index >= length)
+            throw new SerializationException("The patch contains the index " + index + " but the array only has " + length + " elements");
+        return index;
+    }
+}
@@ -0,0 +1,414 @@
+package de.verdox.vserializer.generic;
+
+import de.verdox.vserializer.exception.SerializationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pull based reader that reads serialized data token by token without parsing the whole document into a tree of {@link SerializationElement}s.
+ * <p>
+ * It is the counterpart of {@link SerializationWriter}. Containers are read by alternating calls to {@link #nextName()} and a value method.
+ * <pre>{@code
+ * reader.beginContainer();
+ * while (reader.hasNext()) {
+ *     String name = reader.nextName();
+ *     if (name.equals("age"))
+ *         age = reader.nextInt();
+ *     else
+ *         reader.skipValue();
+ * }
+ * reader.endContainer();
+ * }</pre>
+ * The memory used by a reader is bounded by the nesting depth of the read data and not by the size of the document.
+ */
+public interface SerializationReader extends Closeable {
+    /**
+     * The key of the layout fingerprint in a container that holds a positional record read by {@link #readElement()}
+     */
+    String RECORD_FINGERPRINT = "record_fingerprint";
+    /**
+     * The key of the field values in a container that holds a positional record read by {@link #readElement()}
+     */
+    String RECORD_VALUES = "record_values";
+
+    /**
+     * Returns the context this reader belongs to.
+     * It is used to build {@link SerializationElement}s for serializers that do not support streaming natively.
+     *
+     * @return the context
+     */
+    SerializationContext getContext();
+
+    /**
+     * Returns the type of the next token without consuming it
+     *
+     * @return the next token
+     * @throws IOException if any io exception happens
+     */
+    SerializationToken peek() throws IOException;
+
+    /**
+     * Consumes the beginning of a container
+     *
+     * @throws IOException if any io exception happens
+     */
+    void beginContainer() throws IOException;
+
+    /**
+     * Consumes the end of a container
+     *
+     * @throws IOException if any io exception happens
+     */
+    void endContainer() throws IOException;
+
+    /**
+     * Consumes the beginning of an array
+     *
+     * @throws IOException if any io exception happens
+     */
+    void beginArray() throws IOException;
+
+    /**
+     * Consumes the end of an array
+     *
+     * @throws IOException if any io exception happens
+     */
+    void endArray() throws IOException;
+
+    /**
+     * Consumes the beginning of a positional record that was written with {@link SerializationWriter#beginRecord(int, int)}.
+     * It is followed by exactly {@code fieldCount} values. Records are announced by the {@link SerializationToken#BEGIN_RECORD} token.
+     *
+     * @param fingerprint the fingerprint of the expected field layout
+     * @param fieldCount  the expected number of values
+     * @throws IOException                   if any io exception happens
+     * @throws SerializationException        if the record was written with another field layout
+     * @throws UnsupportedOperationException if this reader does not support positional records
+     */
+    default void beginRecord(int fingerprint, int fieldCount) throws IOException, SerializationException {
+        throw new UnsupportedOperationException("The reader " + getClass().getName() + " does not support positional records.");
+    }
+
+    /**
+     * Returns true if the current container or array has another element
+     *
+     * @return true if there is another element
+     * @throws IOException if any io exception happens
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Consumes the key of the next value inside the current container
+     *
+     * @return the key
+     * @throws IOException if any io exception happens
+     */
+    String nextName() throws IOException;
+
+    /**
+     * Consumes the next value as a boolean
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    boolean nextBoolean() throws IOException;
+
+    /**
+     * Consumes the next value as a string
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    String nextString() throws IOException;
+
+    /**
+     * Consumes the next value as a char
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    default char nextCharacter() throws IOException {
+        String value = nextString();
+        if (value.isEmpty())
+            throw new UnsupportedOperationException("String value is empty");
+        return value.charAt(0);
+    }
+
+    /**
+     * Consumes the next value as a number
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    Number nextNumber() throws IOException;
+
+    /**
+     * Consumes the next value as a byte
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    default byte nextByte() throws IOException {
+        return (byte) nextInt();
+    }
+
+    /**
+     * Consumes the next value as a short
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    default short nextShort() throws IOException {
+        return (short) nextInt();
+    }
+
+    /**
+     * Consumes the next value as an int
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    int nextInt() throws IOException;
+
+    /**
+     * Consumes the next value as a long
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    long nextLong() throws IOException;
+
+    /**
+     * Consumes the next value as a float
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    default float nextFloat() throws IOException {
+        return (float) nextDouble();
+    }
+
+    /**
+     * Consumes the next value as a double
+     *
+     * @return the value
+     * @throws IOException if any io exception happens
+     */
+    double nextDouble() throws IOException;
+
+    /**
+     * Consumes the next null value
+     *
+     * @throws IOException if any io exception happens
+     */
+    void nextNull() throws IOException;
+
+    /**
+     * Skips the next value including all of its children
+     *
+     * @throws IOException if any io exception happens
+     */
+    void skipValue() throws IOException;
+
+    /**
+     * Consumes the next array as a bool array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default boolean[] nextBooleanArray() throws IOException {
+        boolean[] array = new boolean[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextBoolean();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as a byte array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default byte[] nextByteArray() throws IOException {
+        byte[] array = new byte[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextByte();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as a short array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default short[] nextShortArray() throws IOException {
+        short[] array = new short[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextShort();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as an int array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default int[] nextIntArray() throws IOException {
+        int[] array = new int[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextInt();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as a long array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default long[] nextLongArray() throws IOException {
+        long[] array = new long[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextLong();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as a float array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default float[] nextFloatArray() throws IOException {
+        float[] array = new float[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextFloat();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as a double array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default double[] nextDoubleArray() throws IOException {
+        double[] array = new double[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextDouble();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next array as a char array
+     *
+     * @return the array
+     * @throws IOException if any io exception happens
+     */
+    default char[] nextCharArray() throws IOException {
+        char[] array = new char[16];
+        int length = 0;
+        beginArray();
+        while (hasNext()) {
+            if (length == array.length)
+                array = Arrays.copyOf(array, length * 2);
+            array[length++] = nextCharacter();
+        }
+        endArray();
+        return Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Consumes the next value including all of its children and returns it as a {@link SerializationElement} of this reader's context.
+     * Readers that support positional records return them as a container with the fingerprint as {@link #RECORD_FINGERPRINT} and an array of the values as {@link #RECORD_VALUES}.
+     *
+     * @return the element
+     * @throws IOException if any io exception happens
+     */
+    default SerializationElement readElement() throws IOException {
+        SerializationContext context = getContext();
+        SerializationToken token = peek();
+        switch (token) {
+            case BEGIN_CONTAINER -> {
+                SerializationContainer container = context.createContainer();
+                beginContainer();
+                while (hasNext()) {
+                    String name = nextName();
+                    container.set(name, readElement());
+                }
+                endContainer();
+                return container;
+            }
+            case BEGIN_ARRAY -> {
+                SerializationArray array = context.createArray();
+                beginArray();
+                while (hasNext()) {
+                    array.add(readElement());
+                }
+                endArray();
+                return array;
+            }
+            case STRING -> {
+                return context.create(nextString());
+            }
+            case NUMBER -> {
+                return context.create(nextNumber());
+            }
+            case BOOLEAN -> {
+                return context.create(nextBoolean());
+            }
+            case NULL -> {
+                nextNull();
+                return context.createNull();
+            }
+            case BEGIN_RECORD -> throw new UnsupportedOperationException("Positional records can only be read by the serializer that wrote them.");
+            default -> throw new IllegalStateException("Expected a value but was " + token);
+        }
+    }
+}
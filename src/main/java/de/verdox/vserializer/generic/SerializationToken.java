@@ -0,0 +1,51 @@
+package de.verdox.vserializer.generic;
+
+/**
+ * The tokens a {@link SerializationReader} can be positioned at.
+ */
+public enum SerializationToken {
+    /**
+     * The beginning of a container
+     */
+    BEGIN_CONTAINER,
+    /**
+     * The end of a container
+     */
+    END_CONTAINER,
+    /**
+     * The beginning of an array
+     */
+    BEGIN_ARRAY,
+    /**
+     * The end of an array
+     */
+    END_ARRAY,
+    /**
+     * The beginning of a positional record. It is followed by the values of its fields without any keys.
+     */
+    BEGIN_RECORD,
+    /**
+     * The key of the next value inside a container
+     */
+    NAME,
+    /**
+     * A string or character value
+     */
+    STRING,
+    /**
+     * A numeric value
+     */
+    NUMBER,
+    /**
+     * A boolean value
+     */
+    BOOLEAN,
+    /**
+     * A null value
+     */
+    NULL,
+    /**
+     * The end of the serialized data
+     */
+    END_DOCUMENT
+}
@@ -0,0 +1,365 @@
+package de.verdox.vserializer.generic;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * A push based writer that emits serialized data directly to its target without building a tree of {@link SerializationElement}s first.
+ * <p>
+ * Containers consist of alternating calls to {@link #name(String)} and a value method.
+ * Arrays consist of value method calls only.
+ * <pre>{@code
+ * writer.beginContainer();
+ * writer.name("name").value("Hans");
+ * writer.name("age").value(28);
+ * writer.endContainer();
+ * }</pre>
+ * The memory used by a writer is bounded by the nesting depth of the written data and not by the size of the payload.
+ */
+public interface SerializationWriter extends Closeable, Flushable {
+    /**
+     * Returns the context this writer belongs to.
+     * It is used to build {@link SerializationElement}s for serializers that do not support streaming natively.
+     *
+     * @return the context
+     */
+    SerializationContext getContext();
+
+    /**
+     * Begins a new container
+     *
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter beginContainer() throws IOException;
+
+    /**
+     * Ends the current container
+     *
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter endContainer() throws IOException;
+
+    /**
+     * Begins a new array
+     *
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter beginArray() throws IOException;
+
+    /**
+     * Ends the current array
+     *
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter endArray() throws IOException;
+
+    /**
+     * Writes the key of the next value inside the current container
+     *
+     * @param name the key
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter name(String name) throws IOException;
+
+    /**
+     * Returns whether this writer writes objects with a known field layout as positional records.
+     * Serializers with a fixed list of fields should call {@link #beginRecord(int, int)} and write their values in order without any keys if this returns true.
+     *
+     * @return true if records are supported
+     */
+    default boolean isPositional() {
+        return false;
+    }
+
+    /**
+     * Begins a positional record. It must be followed by exactly {@code fieldCount} values in a fixed order.
+     * There is no matching end call because the record ends with its last value.
+     *
+     * @param fingerprint a fingerprint of the field layout that is checked when the record is read
+     * @param fieldCount  the number of values that follow
+     * @return this writer
+     * @throws IOException                   if any io exception happens
+     * @throws UnsupportedOperationException if this writer is not {@link #isPositional() positional}
+     */
+    default SerializationWriter beginRecord(int fingerprint, int fieldCount) throws IOException {
+        throw new UnsupportedOperationException("The writer " + getClass().getName() + " does not support positional records.");
+    }
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter value(boolean value) throws IOException;
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter value(char value) throws IOException;
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter value(String value) throws IOException;
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter value(Number value) throws IOException;
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(byte value) throws IOException {
+        return value((int) value);
+    }
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(short value) throws IOException {
+        return value((int) value);
+    }
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(int value) throws IOException {
+        return value((long) value);
+    }
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter value(long value) throws IOException;
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(float value) throws IOException {
+        return value((Number) value);
+    }
+
+    /**
+     * Writes a primitive value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter value(double value) throws IOException;
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextBooleanArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(boolean[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (boolean value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextByteArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(byte[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (byte value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextShortArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(short[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (short value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextIntArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(int[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (int value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextLongArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(long[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (long value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextFloatArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(float[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (float value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextDoubleArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(double[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (double value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a primitive array. It can be read with {@link SerializationReader#nextCharArray()}.
+     *
+     * @param values the array
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter value(char[] values) throws IOException {
+        if (values == null)
+            return nullValue();
+        beginArray();
+        for (char value : values)
+            value(value);
+        return endArray();
+    }
+
+    /**
+     * Writes a null value
+     *
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    SerializationWriter nullValue() throws IOException;
+
+    /**
+     * Writes an already built {@link SerializationElement} and all of its children.
+     *
+     * @param element the element
+     * @return this writer
+     * @throws IOException if any io exception happens
+     */
+    default SerializationWriter element(SerializationElement element) throws IOException {
+        if (element == null || element.isNull()) {
+            return nullValue();
+        } else if (element.isPrimitive()) {
+            SerializationPrimitive primitive = element.getAsPrimitive();
+            if (primitive.isBoolean())
+                return value(primitive.getAsBoolean());
+            else if (primitive.isNumber())
+                return value(primitive.getAsNumber());
+            else
+                return value(primitive.getAsString());
+        } else if (element.isArray()) {
+            beginArray();
+            Iterator<SerializationElement> cursor = element.getAsArray().cursor();
+            while (cursor.hasNext()) {
+                element(cursor.next());
+            }
+            return endArray();
+        } else if (element.isContainer()) {
+            SerializationContainer container = element.getAsContainer();
+            beginContainer();
+            for (String childKey : container.getChildKeys()) {
+                name(childKey);
+                element(container.get(childKey));
+            }
+            return endContainer();
+        }
+        throw new UnsupportedOperationException("The provided element is no container, array, primitive, or null. This is a bug!");
+    }
+}
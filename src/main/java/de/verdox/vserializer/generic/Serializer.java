@@ -8,10 +8,14 @@ import de.verdox.vserializer.generic.primitive.PrimitiveArraySerializers;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -39,6 +43,34 @@ public interface Serializer<T> {
      */
     T deserialize(SerializationElement serializedElement) throws SerializationException;
 
+    /**
+     * Writes the given object directly into a {@link SerializationWriter}.
+     * The default implementation serializes the object to a {@link SerializationElement} first and writes the element afterward.
+     * Serializers that are able to stream their data should override this method.
+     *
+     * @param writer the writer
+     * @param object the object to write
+     * @throws SerializationException if any error happens during the process
+     * @throws IOException            if the writer throws an io exception
+     */
+    default void write(SerializationWriter writer, T object) throws SerializationException, IOException {
+        writer.element(serialize(writer.getContext(), object));
+    }
+
+    /**
+     * Reads an object directly from a {@link SerializationReader}.
+     * The default implementation reads the next value as a {@link SerializationElement} first and deserializes the element afterward.
+     * Serializers that are able to stream their data should override this method.
+     *
+     * @param reader the reader
+     * @return the object
+     * @throws SerializationException if any error happens during the process
+     * @throws IOException            if the reader throws an io exception
+     */
+    default T read(SerializationReader reader) throws SerializationException, IOException {
+        return deserialize(reader.readElement());
+    }
+
     /**
      * Updates a given object from a serialized element.
      * The update functionality varies depending on its implementation.
@@ -52,6 +84,21 @@ public interface Serializer<T> {
         throw new SerializationException("The Serializer " + getClass().getName() + " does not support updating a live object. If you have implemented your own Serializer and want to enable this functionality make sure to proper implement the updateLiveObjectFromJson function from the Serializer interface.");
     }
 
+    /**
+     * Applies a patch created by a {@link SerializationDiff} to a live object.
+     * The default implementation serializes the object, applies the patch to the serialized element and updates the object with {@link #updateLiveObjectFromJson(Object, SerializationElement)}.
+     *
+     * @param existingObject the existing object that is updated
+     * @param patch          the patch
+     * @throws SerializationException if the patch cannot be applied or the serializer does not support updating a live object
+     */
+    default void updateLiveObjectFromPatch(@Nullable T existingObject, SerializationElement patch) throws SerializationException {
+        if (existingObject == null || SerializationDiff.isEmpty(patch))
+            return;
+        SerializationElement serialized = serialize(patch.getContext(), existingObject);
+        updateLiveObjectFromJson(existingObject, SerializationDiff.apply(serialized, patch));
+    }
+
     /**
      * The id of this serializer
      *
@@ -76,6 +123,16 @@ public interface Serializer<T> {
         return false;
     }
 
+    /**
+     * Returns true if this serializer always serializes objects to a {@link SerializationPrimitive}.
+     * The string form of such primitives can be parsed back by the serializer, so {@link Map} uses them as container keys.
+     *
+     * @return whether this serializer serializes to primitives
+     */
+    default boolean serializesToPrimitive() {
+        return false;
+    }
+
     default T defaultValue() {
         return null;
     }
@@ -91,6 +148,16 @@ public interface Serializer<T> {
             return serializedElement;
         }
 
+        @Override
+        public void write(SerializationWriter writer, SerializationElement object) throws IOException {
+            writer.element(object);
+        }
+
+        @Override
+        public SerializationElement read(SerializationReader reader) throws IOException {
+            return reader.readElement();
+        }
+
         @Override
         public String id() {
             return "identity";
@@ -119,6 +186,16 @@ public interface Serializer<T> {
             return java.util.UUID.fromString(serializedElement.getAsString());
         }
 
+        @Override
+        public void write(SerializationWriter writer, java.util.UUID object) throws IOException {
+            writer.value(object.toString());
+        }
+
+        @Override
+        public java.util.UUID read(SerializationReader reader) throws IOException {
+            return java.util.UUID.fromString(reader.nextString());
+        }
+
         @Override
         public String id() {
             return "uuid";
@@ -128,6 +205,11 @@ public interface Serializer<T> {
         public Class<? extends java.util.UUID> getType() {
             return java.util.UUID.class;
         }
+
+        @Override
+        public boolean serializesToPrimitive() {
+            return true;
+        }
     }
 
     class Optional<T> implements Serializer<java.util.Optional<T>> {
@@ -163,6 +245,24 @@ public interface Serializer<T> {
             return java.util.Optional.ofNullable(elementSerializer.deserialize(serializedElement));
         }
 
+        @Override
+        public void write(SerializationWriter writer, java.util.Optional<T> object) throws SerializationException, IOException {
+            if (object.isPresent()) {
+                elementSerializer.write(writer, object.get());
+                return;
+            }
+            writer.nullValue();
+        }
+
+        @Override
+        public java.util.Optional<T> read(SerializationReader reader) throws SerializationException, IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return java.util.Optional.empty();
+            }
+            return java.util.Optional.ofNullable(elementSerializer.read(reader));
+        }
+
         @Override
         public String id() {
             return "optional";
@@ -195,6 +295,17 @@ public interface Serializer<T> {
             return null;
         }
 
+        @Override
+        public void write(SerializationWriter writer, T object) throws IOException {
+            writer.nullValue();
+        }
+
+        @Override
+        public T read(SerializationReader reader) throws IOException {
+            reader.skipValue();
+            return null;
+        }
+
         public static boolean isNull(SerializationElement serializationElement) {
             return serializationElement.isNull();
         }
@@ -216,16 +327,16 @@ public interface Serializer<T> {
     }
 
     class Primitive<T> implements Serializer<T> {
-        public static final Primitive<Boolean> BOOLEAN = new Primitive<>(SerializationContext::create, SerializationElement::getAsBoolean, Boolean.class, false);
-        public static final Primitive<String> STRING = new Primitive<>(SerializationContext::create, SerializationElement::getAsString, String.class, "");
-        public static final Primitive<Character> CHARACTER = new Primitive<>(SerializationContext::create, SerializationElement::getAsCharacter, Character.class, (char) 0);
-        public static final Primitive<Number> NUMBER = new Primitive<>(SerializationContext::create, SerializationElement::getAsNumber, Number.class, 0);
-        public static final Primitive<Double> DOUBLE = new Primitive<>(SerializationContext::create, SerializationElement::getAsDouble, Double.class, 0d);
-        public static final Primitive<Float> FLOAT = new Primitive<>(SerializationContext::create, SerializationElement::getAsFloat, Float.class, 0f);
-        public static final Primitive<Long> LONG = new Primitive<>(SerializationContext::create, SerializationElement::getAsLong, Long.class, 0L);
-        public static final Primitive<Integer> INTEGER = new Primitive<>(SerializationContext::create, SerializationElement::getAsInt, Integer.class, 0);
-        public static final Primitive<Short> SHORT = new Primitive<>(SerializationContext::create, SerializationElement::getAsShort, Short.class, (short) 0);
-        public static final Primitive<Byte> BYTE = new Primitive<>(SerializationContext::create, SerializationElement::getAsByte, Byte.class, (byte) 0);
+        public static final Primitive<Boolean> BOOLEAN = new Primitive<>(SerializationContext::create, SerializationElement::getAsBoolean, (writer, value) -> writer.value((boolean) value), SerializationReader::nextBoolean, Boolean.class, false);
+        public static final Primitive<String> STRING = new Primitive<>(SerializationContext::create, SerializationElement::getAsString, SerializationWriter::value, SerializationReader::nextString, String.class, "");
+        public static final Primitive<Character> CHARACTER = new Primitive<>(SerializationContext::create, SerializationElement::getAsCharacter, (writer, value) -> writer.value((char) value), SerializationReader::nextCharacter, Character.class, (char) 0);
+        public static final Primitive<Number> NUMBER = new Primitive<>(SerializationContext::create, SerializationElement::getAsNumber, SerializationWriter::value, SerializationReader::nextNumber, Number.class, 0);
+        public static final Primitive<Double> DOUBLE = new Primitive<>(SerializationContext::create, SerializationElement::getAsDouble, (writer, value) -> writer.value((double) value), SerializationReader::nextDouble, Double.class, 0d);
+        public static final Primitive<Float> FLOAT = new Primitive<>(SerializationContext::create, SerializationElement::getAsFloat, (writer, value) -> writer.value((float) value), SerializationReader::nextFloat, Float.class, 0f);
+        public static final Primitive<Long> LONG = new Primitive<>(SerializationContext::create, SerializationElement::getAsLong, (writer, value) -> writer.value((long) value), SerializationReader::nextLong, Long.class, 0L);
+        public static final Primitive<Integer> INTEGER = new Primitive<>(SerializationContext::create, SerializationElement::getAsInt, (writer, value) -> writer.value((int) value), SerializationReader::nextInt, Integer.class, 0);
+        public static final Primitive<Short> SHORT = new Primitive<>(SerializationContext::create, SerializationElement::getAsShort, (writer, value) -> writer.value((short) value), SerializationReader::nextShort, Short.class, (short) 0);
+        public static final Primitive<Byte> BYTE = new Primitive<>(SerializationContext::create, SerializationElement::getAsByte, (writer, value) -> writer.value((byte) value), SerializationReader::nextByte, Byte.class, (byte) 0);
 
         public static final Serializer<boolean[]> BOOLEAN_ARRAY = new PrimitiveArraySerializers.BoolArray();
         public static final Serializer<byte[]> BYTE_ARRAY = new PrimitiveArraySerializers.ByteArray();
@@ -238,12 +349,16 @@ public interface Serializer<T> {
 
         private final BiFunction<SerializationContext, T, SerializationPrimitive> to;
         private final Function<SerializationElement, T> from;
+        private final PrimitiveWriter<T> writer;
+        private final PrimitiveReader<T> reader;
         private final Class<? extends T> type;
         private final T defaultValue;
 
-        private Primitive(BiFunction<SerializationContext, T, SerializationPrimitive> to, Function<SerializationElement, T> from, Class<? extends T> type, T defaultValue) {
+        private Primitive(BiFunction<SerializationContext, T, SerializationPrimitive> to, Function<SerializationElement, T> from, PrimitiveWriter<T> writer, PrimitiveReader<T> reader, Class<? extends T> type, T defaultValue) {
             this.to = to;
             this.from = from;
+            this.writer = writer;
+            this.reader = reader;
             this.type = type;
             this.defaultValue = defaultValue;
         }
@@ -253,6 +368,24 @@ public interface Serializer<T> {
             return to.apply(serializationContext, object);
         }
 
+        @Override
+        public void write(SerializationWriter writer, T object) throws IOException {
+            if (object == null) {
+                writer.nullValue();
+                return;
+            }
+            this.writer.write(writer, object);
+        }
+
+        @Override
+        public T read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return defaultValue;
+            }
+            return this.reader.read(reader);
+        }
+
         @Override
         public T deserialize(SerializationElement serializedElement) {
             var value = from.apply(serializedElement);
@@ -276,36 +409,133 @@ public interface Serializer<T> {
         public T defaultValue() {
             return defaultValue;
         }
+
+        @Override
+        public boolean serializesToPrimitive() {
+            return true;
+        }
+
+        @FunctionalInterface
+        private interface PrimitiveWriter<T> {
+            void write(SerializationWriter writer, T value) throws IOException;
+        }
+
+        @FunctionalInterface
+        private interface PrimitiveReader<T> {
+            T read(SerializationReader reader) throws IOException;
+        }
     }
 
     class Array<E> implements Serializer<E[]> {
         protected final Serializer<E> elementSerializer;
         private final IntFunction<? extends E[]> arrayCreator;
+        @Nullable
+        private final Parallelism parallelism;
+        private Class<? extends E[]> type;
 
-        private Array(Serializer<E> elementSerializer, IntFunction<? extends E[]> arrayCreator) {
+        private Array(Serializer<E> elementSerializer, IntFunction<? extends E[]> arrayCreator, @Nullable Parallelism parallelism) {
             this.elementSerializer = elementSerializer;
             this.arrayCreator = arrayCreator;
+            this.parallelism = parallelism;
         }
 
         public static <E> Array<E> create(@NotNull Serializer<E> serializer, IntFunction<? extends E[]> arrayCreator) {
-            return new Array<>(serializer, arrayCreator);
+            return new Array<>(serializer, arrayCreator, null);
+        }
+
+        /**
+         * Returns a serializer that splits arrays with more than threshold elements into chunks that are serialized and deserialized in parallel by the common {@link ForkJoinPool}.
+         * The elements keep their order. The element serializer and the {@link SerializationContext} must be thread safe.
+         *
+         * @param threshold the largest number of elements that is serialized by one thread
+         * @return the parallel serializer
+         */
+        public Array<E> parallel(int threshold) {
+            return parallel(threshold, ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Returns a serializer that splits arrays with more than threshold elements into chunks that are serialized and deserialized in parallel by a {@link ForkJoinPool}.
+         * The elements keep their order. The element serializer and the {@link SerializationContext} must be thread safe.
+         *
+         * @param threshold the largest number of elements that is serialized by one thread
+         * @param pool      the pool that runs the chunks
+         * @return the parallel serializer
+         */
+        public Array<E> parallel(int threshold, ForkJoinPool pool) {
+            return new Array<>(elementSerializer, arrayCreator, new Parallelism(pool, threshold));
         }
 
         @Override
         public SerializationElement serialize(SerializationContext serializationContext, E[] objects) throws SerializationException {
-            SerializationArray array = serializationContext.createArray();
+            if (parallelism != null && parallelism.splits(objects.length)) {
+                SerializationElement[] elements = new SerializationElement[objects.length];
+                parallelism.forEach(objects.length, i -> {
+                    try {
+                        elements[i] = elementSerializer.serialize(serializationContext, objects[i]);
+                    } catch (SerializationException e) {
+                        throw e.atIndex(i);
+                    }
+                });
+                return serializationContext.createArray(elements);
+            }
+            SerializationArray array = serializationContext.createArray(objects.length);
             for (E e : objects)
                 array.add(elementSerializer.serialize(serializationContext, e));
             return array;
         }
 
+        @Override
+        public void write(SerializationWriter writer, E[] objects) throws SerializationException, IOException {
+            writer.beginArray();
+            for (E e : objects)
+                elementSerializer.write(writer, e);
+            writer.endArray();
+        }
+
+        @Override
+        public E[] read(SerializationReader reader) throws SerializationException, IOException {
+            // The length is not known in advance, so the array grows like a list and is trimmed once at the end
+            E[] array = arrayCreator.apply(16);
+            int length = 0;
+            reader.beginArray();
+            try {
+                for (; reader.hasNext(); length++) {
+                    if (length == array.length)
+                        array = Arrays.copyOf(array, length * 2);
+                    array[length] = elementSerializer.read(reader);
+                }
+            } catch (SerializationException e) {
+                throw e.atIndex(length);
+            }
+            reader.endArray();
+            return length == array.length ? array : Arrays.copyOf(array, length);
+        }
+
         @Override
         public E[] deserialize(SerializationElement serializedElement) throws SerializationException {
             SerializationArray jsonArray = serializedElement.getAsArray();
-            List<E> list = new ArrayList<>();
-            for (SerializationElement element : jsonArray)
-                list.add(elementSerializer.deserialize(element));
-            return list.toArray(arrayCreator::apply);
+            E[] array = arrayCreator.apply(jsonArray.length());
+            if (parallelism != null && parallelism.splits(array.length)) {
+                parallelism.forEach(array.length, i -> {
+                    try {
+                        array[i] = elementSerializer.deserialize(jsonArray.get(i));
+                    } catch (SerializationException e) {
+                        throw e.atIndex(i);
+                    }
+                });
+                return array;
+            }
+            int index = 0;
+            try {
+                for (SerializationElement element : jsonArray) {
+                    array[index] = elementSerializer.deserialize(element);
+                    index++;
+                }
+            } catch (SerializationException e) {
+                throw e.atIndex(index);
+            }
+            return array;
         }
 
         @Override
@@ -329,31 +559,131 @@ public interface Serializer<T> {
 
         @Override
         public Class<? extends E[]> getType() {
-            return (Class<? extends E[]>) java.lang.reflect.Array.newInstance(elementSerializer.getType(), 0).getClass();
+            Class<? extends E[]> type = this.type;
+            if (type == null)
+                this.type = type = (Class<? extends E[]>) java.lang.reflect.Array.newInstance(elementSerializer.getType(), 0).getClass();
+            return type;
         }
     }
 
+    /**
+     * Serializes enum constants by their name, their ordinal or a numeric id that is assigned to every constant.
+     * The lookup tables are built once per serializer and the serialized constants are created once per context.
+     *
+     * @param <E> the enum type
+     */
     class Enum<E extends java.lang.Enum<E>> implements Serializer<E> {
+        /**
+         * How enum constants are encoded
+         */
+        public enum Encoding {
+            /**
+             * The name of the constant
+             */
+            NAME,
+            /**
+             * The ordinal of the constant. It is compact but changes if constants are reordered.
+             */
+            ORDINAL,
+            /**
+             * A stable numeric id that is assigned to every constant
+             */
+            ID
+        }
+
         private final String id;
         private final Class<? extends E> type;
+        private final Encoding encoding;
+        private final E[] constants;
+        private final java.util.Map<String, E> byName;
+        private final int[] ids;
+        private final java.util.Map<Integer, E> byId;
+        private final java.util.Map<SerializationContext, SerializationElement[]> serializedConstants = new ConcurrentHashMap<>();
+        private volatile SerializedConstants lastSerializedConstants;
 
         public static <E extends java.lang.Enum<E>> Enum<E> create(String id, Class<? extends E> type) {
-            return new Enum<>(id, type);
+            return new Enum<>(id, type, Encoding.NAME, null);
+        }
+
+        /**
+         * Creates an enum serializer that encodes the constants by their ordinal
+         */
+        public static <E extends java.lang.Enum<E>> Enum<E> createOrdinal(String id, Class<? extends E> type) {
+            return new Enum<>(id, type, Encoding.ORDINAL, null);
         }
 
-        private Enum(String id, Class<? extends E> type) {
+        /**
+         * Creates an enum serializer that encodes the constants by a stable numeric id
+         *
+         * @param idFunction returns the unique id of a constant
+         * @throws IllegalArgumentException if two constants have the same id
+         */
+        public static <E extends java.lang.Enum<E>> Enum<E> createWithIds(String id, Class<? extends E> type, ToIntFunction<? super E> idFunction) {
+            return new Enum<>(id, type, Encoding.ID, idFunction);
+        }
+
+        private Enum(String id, Class<? extends E> type, Encoding encoding, @Nullable ToIntFunction<? super E> idFunction) {
             this.id = id;
             this.type = type;
+            this.encoding = encoding;
+            this.constants = enumConstants(type);
+            this.byName = new HashMap<>();
+            for (E constant : constants)
+                byName.put(constant.name(), constant);
+            if (idFunction != null) {
+                this.ids = new int[constants.length];
+                this.byId = new HashMap<>();
+                for (E constant : constants) {
+                    int constantId = idFunction.applyAsInt(constant);
+                    if (byId.putIfAbsent(constantId, constant) != null)
+                        throw new IllegalArgumentException("The constants " + byId.get(constantId) + " and " + constant + " of " + type.getName() + " have the same id " + constantId);
+                    ids[constant.ordinal()] = constantId;
+                }
+            } else {
+                this.ids = null;
+                this.byId = null;
+            }
+        }
+
+        public Encoding getEncoding() {
+            return encoding;
         }
 
         @Override
         public SerializationElement serialize(SerializationContext serializationContext, E object) {
-            return serializationContext.create(object.name());
+            SerializedConstants serialized = lastSerializedConstants;
+            if (serialized == null || serialized.context() != serializationContext) {
+                serialized = new SerializedConstants(serializationContext, serializedConstants.computeIfAbsent(serializationContext, this::serializeConstants));
+                lastSerializedConstants = serialized;
+            }
+            return serialized.elements()[object.ordinal()];
         }
 
         @Override
-        public E deserialize(SerializationElement serializedElement) {
-            return java.lang.Enum.valueOf((Class<E>) type, serializedElement.getAsString());
+        public E deserialize(SerializationElement serializedElement) throws SerializationException {
+            return switch (encoding) {
+                case NAME -> byName(serializedElement.getAsString());
+                case ORDINAL -> byOrdinal(serializedElement.getAsInt());
+                case ID -> byId(serializedElement.getAsInt());
+            };
+        }
+
+        @Override
+        public void write(SerializationWriter writer, E object) throws IOException {
+            switch (encoding) {
+                case NAME -> writer.value(object.name());
+                case ORDINAL -> writer.value(object.ordinal());
+                case ID -> writer.value(ids[object.ordinal()]);
+            }
+        }
+
+        @Override
+        public E read(SerializationReader reader) throws SerializationException, IOException {
+            return switch (encoding) {
+                case NAME -> byName(reader.nextString());
+                case ORDINAL -> byOrdinal(reader.nextInt());
+                case ID -> byId(reader.nextInt());
+            };
         }
 
         @Override
@@ -365,6 +695,259 @@ public interface Serializer<T> {
         public Class<? extends E> getType() {
             return type;
         }
+
+        @Override
+        public boolean serializesToPrimitive() {
+            return true;
+        }
+
+        private SerializationElement[] serializeConstants(SerializationContext serializationContext) {
+            SerializationElement[] elements = new SerializationElement[constants.length];
+            for (E constant : constants) {
+                elements[constant.ordinal()] = switch (encoding) {
+                    case NAME -> serializationContext.create(constant.name());
+                    case ORDINAL -> serializationContext.create(constant.ordinal());
+                    case ID -> serializationContext.create(ids[constant.ordinal()]);
+                };
+            }
+            return elements;
+        }
+
+        private E byName(String name) throws SerializationException {
+            E constant = byName.get(name);
+            if (constant == null)
+                throw new SerializationException("The enum " + type.getName() + " has no constant " + name);
+            return constant;
+        }
+
+        private E byOrdinal(int ordinal) throws SerializationException {
+            if (ordinal < 0 || ordinal >= constants.length)
+                throw new SerializationException("The enum " + type.getName() + " has no constant with the ordinal " + ordinal);
+            return constants[ordinal];
+        }
+
+        private E byId(int constantId) throws SerializationException {
+            E constant = byId.get(constantId);
+            if (constant == null)
+                throw new SerializationException("The enum " + type.getName() + " has no constant with the id " + constantId);
+            return constant;
+        }
+
+        private static <E extends java.lang.Enum<E>> E[] enumConstants(Class<? extends E> type) {
+            // Constants with a body have their own subclass of the enum
+            Class<?> enumType = type.isEnum() ? type : type.getSuperclass();
+            return (E[]) enumType.getEnumConstants();
+        }
+
+        private record SerializedConstants(SerializationContext context, SerializationElement[] elements) {
+        }
+    }
+
+    /**
+     * Serializes an {@link java.util.EnumSet} as a bitmask of the ordinals of its constants.
+     * Enums with up to 64 constants are written as one long value, larger enums as an array of longs.
+     * Like {@link Enum.Encoding#ORDINAL}, the data changes if the constants are reordered.
+     *
+     * @param <E> the enum type
+     */
+    class EnumSet<E extends java.lang.Enum<E>> implements Serializer<java.util.EnumSet<E>> {
+        private final String id;
+        private final Class<E> type;
+        private final E[] constants;
+
+        public static <E extends java.lang.Enum<E>> EnumSet<E> create(String id, Class<E> type) {
+            return new EnumSet<>(id, type);
+        }
+
+        private EnumSet(String id, Class<E> type) {
+            this.id = id;
+            this.type = type;
+            this.constants = type.getEnumConstants();
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext serializationContext, java.util.EnumSet<E> object) {
+            return serializeMask(serializationContext, toMask(object, constants.length));
+        }
+
+        @Override
+        public java.util.EnumSet<E> deserialize(SerializationElement serializedElement) throws SerializationException {
+            return fromMask(deserializeMask(serializedElement));
+        }
+
+        @Override
+        public void write(SerializationWriter writer, java.util.EnumSet<E> object) throws IOException {
+            writeMask(writer, toMask(object, constants.length));
+        }
+
+        @Override
+        public java.util.EnumSet<E> read(SerializationReader reader) throws SerializationException, IOException {
+            return fromMask(readMask(reader));
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public Class<? extends java.util.EnumSet<E>> getType() {
+            return (Class<? extends java.util.EnumSet<E>>) (Class<?>) java.util.EnumSet.class;
+        }
+
+        private java.util.EnumSet<E> fromMask(long[] mask) throws SerializationException {
+            java.util.EnumSet<E> set = java.util.EnumSet.noneOf(type);
+            for (int word = 0; word < mask.length; word++) {
+                for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                    int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (ordinal >= constants.length)
+                        throw new SerializationException("The enum " + type.getName() + " has no constant with the ordinal " + ordinal);
+                    set.add(constants[ordinal]);
+                }
+            }
+            return set;
+        }
+
+        static long[] toMask(java.util.Set<? extends java.lang.Enum<?>> constants, int length) {
+            long[] mask = new long[Math.max(1, (length + 63) >>> 6)];
+            for (java.lang.Enum<?> constant : constants)
+                mask[constant.ordinal() >>> 6] |= 1L << constant.ordinal();
+            return mask;
+        }
+
+        static SerializationElement serializeMask(SerializationContext serializationContext, long[] mask) {
+            return mask.length == 1 ? serializationContext.create(mask[0]) : serializationContext.create(mask);
+        }
+
+        static long[] deserializeMask(SerializationElement serializedElement) {
+            return serializedElement.isArray() ? serializedElement.getAsArray().getAsLongArray() : new long[]{serializedElement.getAsLong()};
+        }
+
+        static void writeMask(SerializationWriter writer, long[] mask) throws IOException {
+            if (mask.length == 1)
+                writer.value(mask[0]);
+            else
+                writer.value(mask);
+        }
+
+        static long[] readMask(SerializationReader reader) throws IOException {
+            return reader.peek() == SerializationToken.BEGIN_ARRAY ? reader.nextLongArray() : new long[]{reader.nextLong()};
+        }
+    }
+
+    /**
+     * Serializes an {@link java.util.EnumMap} as the {@link EnumSet} bitmask of its keys and an array of its values in the order of the keys.
+     *
+     * @param <E> the enum type
+     * @param <V> the value type
+     */
+    class EnumMap<E extends java.lang.Enum<E>, V> implements Serializer<java.util.EnumMap<E, V>> {
+        private final String id;
+        private final Class<E> type;
+        private final E[] constants;
+        private final Serializer<V> valueSerializer;
+
+        public static <E extends java.lang.Enum<E>, V> EnumMap<E, V> create(String id, Class<E> type, Serializer<V> valueSerializer) {
+            return new EnumMap<>(id, type, valueSerializer);
+        }
+
+        private EnumMap(String id, Class<E> type, Serializer<V> valueSerializer) {
+            this.id = id;
+            this.type = type;
+            this.constants = type.getEnumConstants();
+            this.valueSerializer = valueSerializer;
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext serializationContext, java.util.EnumMap<E, V> object) throws SerializationException {
+            SerializationContainer container = serializationContext.createContainer();
+            container.set("keys", EnumSet.serializeMask(serializationContext, EnumSet.toMask(object.keySet(), constants.length)));
+            SerializationArray values = serializationContext.createArray(object.size());
+            for (V value : object.values())
+                values.add(value == null && !valueSerializer.acceptsNullValues() ? serializationContext.createNull() : valueSerializer.serialize(serializationContext, value));
+            container.set("values", values);
+            return container;
+        }
+
+        @Override
+        public java.util.EnumMap<E, V> deserialize(SerializationElement serializedElement) throws SerializationException {
+            SerializationContainer container = serializedElement.getAsContainer();
+            long[] mask = EnumSet.deserializeMask(container.get("keys"));
+            SerializationArray serializedValues = container.get("values").getAsArray();
+            List<V> values = new ArrayList<>(serializedValues.length());
+            for (SerializationElement serializedValue : serializedValues)
+                values.add(Null.isNull(serializedValue) ? valueSerializer.defaultValue() : valueSerializer.deserialize(serializedValue));
+            return toMap(mask, values);
+        }
+
+        @Override
+        public void write(SerializationWriter writer, java.util.EnumMap<E, V> object) throws SerializationException, IOException {
+            writer.beginContainer();
+            writer.name("keys");
+            EnumSet.writeMask(writer, EnumSet.toMask(object.keySet(), constants.length));
+            writer.name("values");
+            writer.beginArray();
+            for (V value : object.values()) {
+                if (value == null && !valueSerializer.acceptsNullValues())
+                    writer.nullValue();
+                else
+                    valueSerializer.write(writer, value);
+            }
+            writer.endArray();
+            writer.endContainer();
+        }
+
+        @Override
+        public java.util.EnumMap<E, V> read(SerializationReader reader) throws SerializationException, IOException {
+            long[] mask = new long[1];
+            List<V> values = new ArrayList<>();
+            reader.beginContainer();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "keys" -> mask = EnumSet.readMask(reader);
+                    case "values" -> {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            if (reader.peek() == SerializationToken.NULL) {
+                                reader.nextNull();
+                                values.add(valueSerializer.defaultValue());
+                            } else
+                                values.add(valueSerializer.read(reader));
+                        }
+                        reader.endArray();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endContainer();
+            return toMap(mask, values);
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public Class<? extends java.util.EnumMap<E, V>> getType() {
+            return (Class<? extends java.util.EnumMap<E, V>>) (Class<?>) java.util.EnumMap.class;
+        }
+
+        private java.util.EnumMap<E, V> toMap(long[] mask, List<V> values) throws SerializationException {
+            java.util.EnumMap<E, V> map = new java.util.EnumMap<>(type);
+            int index = 0;
+            for (int word = 0; word < mask.length; word++) {
+                for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                    int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (ordinal >= constants.length)
+                        throw new SerializationException("The enum " + type.getName() + " has no constant with the ordinal " + ordinal);
+                    if (index >= values.size())
+                        throw new SerializationException("The enum map has more keys than values");
+                    map.put(constants[ordinal], values.get(index++));
+                }
+            }
+            return map;
+        }
     }
 
     abstract class Collection<T, C extends java.util.Collection<T>> implements Serializer<C> {
@@ -374,39 +957,151 @@ public interface Serializer<T> {
                 protected C supplyCollection() {
                     return collectionSupplier.get();
                 }
+            };
+        }
 
+        /**
+         * Creates a collection serializer whose collections are created with room for all deserialized elements
+         *
+         * @param serializer        the element serializer
+         * @param collectionCreator creates a collection for the provided number of elements, for example {@code ArrayList::new}
+         * @param <T>               the element type
+         * @param <C>               the collection type
+         * @return the serializer
+         */
+        public static <T, C extends java.util.Collection<T>> Collection<T, C> createWithCapacity(@NotNull Serializer<T> serializer, @NotNull IntFunction<C> collectionCreator) {
+            return new Collection<>(serializer) {
                 @Override
-                public String id() {
-                    return "collection";
+                protected C supplyCollection() {
+                    return collectionCreator.apply(0);
                 }
 
                 @Override
-                public Class<? extends C> getType() {
-                    return (Class<? extends C>) supplyCollection().getClass();
+                protected C supplyCollection(int size) {
+                    return collectionCreator.apply(size);
                 }
             };
         }
 
         protected final Serializer<T> elementSerializer;
+        @Nullable
+        private final Parallelism parallelism;
+        private Class<? extends C> type;
 
         private Collection(Serializer<T> elementSerializer) {
+            this(elementSerializer, null);
+        }
+
+        private Collection(Serializer<T> elementSerializer, @Nullable Parallelism parallelism) {
             this.elementSerializer = elementSerializer;
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Returns a serializer that splits collections with more than threshold elements into chunks that are serialized and deserialized in parallel by the common {@link ForkJoinPool}.
+         * The elements keep their order. The element serializer and the {@link SerializationContext} must be thread safe.
+         *
+         * @param threshold the largest number of elements that is serialized by one thread
+         * @return the parallel serializer
+         */
+        public Collection<T, C> parallel(int threshold) {
+            return parallel(threshold, ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Returns a serializer that splits collections with more than threshold elements into chunks that are serialized and deserialized in parallel by a {@link ForkJoinPool}.
+         * The elements keep their order. The element serializer and the {@link SerializationContext} must be thread safe.
+         *
+         * @param threshold the largest number of elements that is serialized by one thread
+         * @param pool      the pool that runs the chunks
+         * @return the parallel serializer
+         */
+        public Collection<T, C> parallel(int threshold, ForkJoinPool pool) {
+            Collection<T, C> sequential = this;
+            return new Collection<>(elementSerializer, new Parallelism(pool, threshold)) {
+                @Override
+                protected C supplyCollection() {
+                    return sequential.supplyCollection();
+                }
+
+                @Override
+                protected C supplyCollection(int size) {
+                    return sequential.supplyCollection(size);
+                }
+            };
         }
 
         @Override
         public SerializationElement serialize(SerializationContext serializationContext, C objects) throws SerializationException {
-            SerializationArray array = serializationContext.createArray();
+            if (parallelism != null && parallelism.splits(objects.size())) {
+                Object[] values = objects.toArray();
+                SerializationElement[] elements = new SerializationElement[values.length];
+                parallelism.forEach(values.length, i -> {
+                    try {
+                        elements[i] = elementSerializer.serialize(serializationContext, (T) values[i]);
+                    } catch (SerializationException e) {
+                        throw e.atIndex(i);
+                    }
+                });
+                return serializationContext.createArray(elements);
+            }
+            SerializationArray array = serializationContext.createArray(objects.size());
             for (T object : objects)
                 array.add(elementSerializer.serialize(serializationContext, object));
             return array;
         }
 
+        @Override
+        public void write(SerializationWriter writer, C objects) throws SerializationException, IOException {
+            writer.beginArray();
+            for (T object : objects)
+                elementSerializer.write(writer, object);
+            writer.endArray();
+        }
+
+        @Override
+        public C read(SerializationReader reader) throws SerializationException, IOException {
+            C list = supplyCollection();
+            reader.beginArray();
+            int index = 0;
+            try {
+                for (; reader.hasNext(); index++)
+                    list.add(elementSerializer.read(reader));
+            } catch (SerializationException e) {
+                throw e.atIndex(index);
+            }
+            reader.endArray();
+            return list;
+        }
+
         @Override
         public C deserialize(SerializationElement serializedElement) throws SerializationException {
             SerializationArray jsonArray = serializedElement.getAsArray();
-            C list = supplyCollection();
-            for (SerializationElement element : jsonArray)
-                list.add(elementSerializer.deserialize(element));
+            int length = jsonArray.length();
+            if (parallelism != null && parallelism.splits(length)) {
+                Object[] values = new Object[length];
+                parallelism.forEach(length, i -> {
+                    try {
+                        values[i] = elementSerializer.deserialize(jsonArray.get(i));
+                    } catch (SerializationException e) {
+                        throw e.atIndex(i);
+                    }
+                });
+                C list = supplyCollection(length);
+                for (Object value : values)
+                    list.add((T) value);
+                return list;
+            }
+            C list = supplyCollection(length);
+            int index = 0;
+            try {
+                for (SerializationElement element : jsonArray) {
+                    list.add(elementSerializer.deserialize(element));
+                    index++;
+                }
+            } catch (SerializationException e) {
+                throw e.atIndex(index);
+            }
             return list;
         }
 
@@ -421,81 +1116,289 @@ public interface Serializer<T> {
             existingObject.addAll(deserialized);
         }
 
+        @Override
+        public String id() {
+            return "collection";
+        }
+
+        @Override
+        public Class<? extends C> getType() {
+            // The supplier always creates collections of the same class, so it is only asked once
+            Class<? extends C> type = this.type;
+            if (type == null)
+                this.type = type = (Class<? extends C>) supplyCollection().getClass();
+            return type;
+        }
+
         protected abstract C supplyCollection();
+
+        /**
+         * Supplies a collection that is filled with the provided number of elements
+         *
+         * @param size the number of elements
+         * @return the collection
+         */
+        protected C supplyCollection(int size) {
+            return supplyCollection();
+        }
     }
 
+    /**
+     * Serializes maps. The layout of the keys is decided once when the serializer is created:
+     * <ul>
+     *     <li>If the key serializer {@link Serializer#serializesToPrimitive() serializes to primitives} the map is written as a container. The keys are the string form of the serialized keys and are parsed back by the key serializer.</li>
+     *     <li>Otherwise the map is written as a container with two parallel arrays {@code keys} and {@code values}.</li>
+     * </ul>
+     * Maps that were written as an array of {@code key} and {@code value} entries can still be read.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param <M> the map type
+     */
     abstract class Map<K, V, M extends java.util.Map<K, V>> implements Serializer<M> {
         public static <K, V, M extends java.util.Map<K, V>> Map<K, V, M> create(@NotNull Serializer<K> key, @NotNull Serializer<V> value, @NotNull Supplier<M> mapSupplier) {
             return new Map<>(key, value) {
-
                 @Override
-                public Class<? extends M> getType() {
-                    return (Class<? extends M>) supplyMap().getClass();
+                protected M supplyMap() {
+                    return mapSupplier.get();
                 }
+            };
+        }
 
+        /**
+         * Creates a map serializer whose maps are created with room for all deserialized entries
+         *
+         * @param key        the key serializer
+         * @param value      the value serializer
+         * @param mapCreator creates a map for the provided number of entries, for example {@code HashMap::newHashMap}
+         * @param <K>        the key type
+         * @param <V>        the value type
+         * @param <M>        the map type
+         * @return the serializer
+         */
+        public static <K, V, M extends java.util.Map<K, V>> Map<K, V, M> createWithCapacity(@NotNull Serializer<K> key, @NotNull Serializer<V> value, @NotNull IntFunction<M> mapCreator) {
+            return new Map<>(key, value) {
                 @Override
                 protected M supplyMap() {
-                    return mapSupplier.get();
+                    return mapCreator.apply(0);
+                }
+
+                @Override
+                protected M supplyMap(int size) {
+                    return mapCreator.apply(size);
                 }
             };
         }
 
+        private static final String KEYS = "keys";
+        private static final String VALUES = "values";
+
         private final Serializer<K> key;
         private final Serializer<V> value;
+        private final boolean containerKeys;
+        @Nullable
+        private final Parallelism parallelism;
+        private Class<? extends M> type;
 
         private Map(Serializer<K> key, Serializer<V> value) {
+            this(key, value, null);
+        }
+
+        private Map(Serializer<K> key, Serializer<V> value, @Nullable Parallelism parallelism) {
             this.key = key;
             this.value = value;
+            this.containerKeys = key.serializesToPrimitive();
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Returns a serializer that splits maps with more than threshold entries into chunks that are serialized and deserialized in parallel by the common {@link ForkJoinPool}.
+         * The entries keep their order. The key and value serializers and the {@link SerializationContext} must be thread safe.
+         *
+         * @param threshold the largest number of entries that is serialized by one thread
+         * @return the parallel serializer
+         */
+        public Map<K, V, M> parallel(int threshold) {
+            return parallel(threshold, ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Returns a serializer that splits maps with more than threshold entries into chunks that are serialized and deserialized in parallel by a {@link ForkJoinPool}.
+         * The entries keep their order. The key and value serializers and the {@link SerializationContext} must be thread safe.
+         *
+         * @param threshold the largest number of entries that is serialized by one thread
+         * @param pool      the pool that runs the chunks
+         * @return the parallel serializer
+         */
+        public Map<K, V, M> parallel(int threshold, ForkJoinPool pool) {
+            Map<K, V, M> sequential = this;
+            return new Map<>(key, value, new Parallelism(pool, threshold)) {
+                @Override
+                protected M supplyMap() {
+                    return sequential.supplyMap();
+                }
+
+                @Override
+                protected M supplyMap(int size) {
+                    return sequential.supplyMap(size);
+                }
+            };
+        }
+
+        /**
+         * Returns true if the keys of the map are serialized to primitives and can be written as the keys of a container
+         *
+         * @return true if the keys can be container keys, false if they are always written as parallel arrays
+         */
+        public boolean usesContainerKeys() {
+            return containerKeys;
+        }
+
+        /**
+         * Returns true if the keys of the map are written as the keys of a container of a context.
+         * Contexts whose container keys are not case-sensitive may change the case of the keys, so the keys are written as parallel arrays instead.
+         *
+         * @param context the context
+         * @return true if the keys are container keys, false if they are written as parallel arrays
+         */
+        public boolean usesContainerKeys(SerializationContext context) {
+            return containerKeys && context.hasCaseSensitiveKeys();
         }
 
         @Override
         public SerializationElement serialize(SerializationContext serializationContext, M object) throws SerializationException {
-            boolean isStringKeys = object.keySet().stream().anyMatch(k -> k instanceof String);
-            if (isStringKeys) {
-                SerializationContainer container = serializationContext.createContainer();
-
+            if (parallelism != null && parallelism.splits(object.size()))
+                return serializeParallel(parallelism, serializationContext, object);
+            SerializationContainer container = serializationContext.createContainer();
+            if (usesContainerKeys(serializationContext)) {
                 for (java.util.Map.Entry<K, V> kvEntry : object.entrySet()) {
-                    SerializationElement keyElement = key.serialize(serializationContext, kvEntry.getKey());
-                    SerializationElement valueElement = value.serialize(serializationContext, kvEntry.getValue());
-                    container.set(keyElement.getAsString(), valueElement);
+                    String name = keyToName(serializationContext, kvEntry.getKey());
+                    try {
+                        container.set(name, value.serialize(serializationContext, kvEntry.getValue()));
+                    } catch (SerializationException e) {
+                        throw e.atField(name);
+                    }
                 }
                 return container;
-            } else {
-                SerializationArray array = serializationContext.createArray();
+            }
 
+            SerializationArray keys = serializationContext.createArray(object.size());
+            SerializationArray values = serializationContext.createArray(object.size());
+            int index = 0;
+            try {
                 for (java.util.Map.Entry<K, V> kvEntry : object.entrySet()) {
-                    SerializationElement keyElement = key.serialize(serializationContext, kvEntry.getKey());
-                    SerializationElement valueElement = value.serialize(serializationContext, kvEntry.getValue());
+                    keys.add(key.serialize(serializationContext, kvEntry.getKey()));
+                    values.add(value.serialize(serializationContext, kvEntry.getValue()));
+                    index++;
+                }
+            } catch (SerializationException e) {
+                throw e.atIndex(index);
+            }
+            container.set(KEYS, keys);
+            container.set(VALUES, values);
+            return container;
+        }
 
-                    SerializationContainer element = serializationContext.createContainer();
-                    element.set("key", keyElement);
-                    element.set("value", valueElement);
+        @Override
+        public void write(SerializationWriter writer, M object) throws SerializationException, IOException {
+            writer.beginContainer();
+            if (usesContainerKeys(writer.getContext())) {
+                for (java.util.Map.Entry<K, V> kvEntry : object.entrySet()) {
+                    String name = keyToName(writer.getContext(), kvEntry.getKey());
+                    writer.name(name);
+                    try {
+                        value.write(writer, kvEntry.getValue());
+                    } catch (SerializationException e) {
+                        throw e.atField(name);
+                    }
+                }
+            } else {
+                writer.name(KEYS);
+                writer.beginArray();
+                for (K k : object.keySet())
+                    key.write(writer, k);
+                writer.endArray();
+                writer.name(VALUES);
+                writer.beginArray();
+                for (V v : object.values())
+                    value.write(writer, v);
+                writer.endArray();
+            }
+            writer.endContainer();
+        }
 
-                    array.add(element);
+        @Override
+        public M read(SerializationReader reader) throws SerializationException, IOException {
+            M map = supplyMap();
+            if (reader.peek() == SerializationToken.BEGIN_ARRAY) {
+                readEntries(reader, map);
+                return map;
+            }
+            reader.beginContainer();
+            if (usesContainerKeys(reader.getContext())) {
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    try {
+                        map.put(nameToKey(reader.getContext(), name), this.value.read(reader));
+                    } catch (SerializationException e) {
+                        throw e.atField(name);
+                    }
                 }
-                return array;
+            } else {
+                // The arrays may appear in any order, so both are buffered before they are zipped
+                List<K> keys = null;
+                List<V> values = null;
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (name.equals(KEYS))
+                        keys = readList(reader, key, KEYS);
+                    else if (name.equals(VALUES))
+                        values = readList(reader, value, VALUES);
+                    else
+                        reader.skipValue();
+                }
+                zip(keys, values, map);
             }
+            reader.endContainer();
+            return map;
         }
 
         @Override
         public M deserialize(SerializationElement serializedElement) throws SerializationException {
-            M map = supplyMap();
             if (serializedElement.isArray()) {
-                SerializationArray array = serializedElement.getAsArray();
-                for (SerializationElement element : array) {
-                    SerializationElement keyElement = element.getAsContainer().get("key");
-                    SerializationElement valueElement = element.getAsContainer().get("value");
-
-                    K key = this.key.deserialize(keyElement);
-                    V value = this.value.deserialize(valueElement);
-                    map.put(key, value);
+                SerializationArray entries = serializedElement.getAsArray();
+                M map = supplyMap(entries.length());
+                deserializeEntries(entries, map);
+                return map;
+            }
+            SerializationContainer container = serializedElement.getAsContainer();
+            if (usesContainerKeys(serializedElement.getContext())) {
+                SerializationContext context = serializedElement.getContext();
+                java.util.Collection<String> names = container.getChildKeys();
+                if (parallelism != null && parallelism.splits(names.size()))
+                    return deserializeParallel(parallelism, container, names.toArray(String[]::new));
+                M map = supplyMap(names.size());
+                for (String name : names) {
+                    try {
+                        map.put(nameToKey(context, name), this.value.deserialize(container.get(name)));
+                    } catch (SerializationException e) {
+                        throw e.atField(name);
+                    }
                 }
-            } else {
-                SerializationContainer container = serializedElement.getAsContainer();
-                for (String serializationKey : container.getChildKeys()) {
-                    K key = (K) serializationKey;
-                    V value = this.value.deserialize(container.get(serializationKey));
-                    map.put(key, value);
+                return map;
+            }
+            SerializationArray keys = container.get(KEYS).getAsArray();
+            SerializationArray values = container.get(VALUES).getAsArray();
+            if (keys.length() != values.length())
+                throw new SerializationException("The map has " + keys.length() + " keys but " + values.length() + " values.");
+            if (parallelism != null && parallelism.splits(keys.length()))
+                return deserializeParallel(parallelism, keys, values);
+            M map = supplyMap(keys.length());
+            for (int i = 0; i < keys.length(); i++) {
+                try {
+                    map.put(this.key.deserialize(keys.get(i)), this.value.deserialize(values.get(i)));
+                } catch (SerializationException e) {
+                    throw e.atIndex(i);
                 }
             }
             return map;
@@ -512,16 +1415,174 @@ public interface Serializer<T> {
             existingObject.putAll(deserialized);
         }
 
+        private SerializationElement serializeParallel(Parallelism parallelism, SerializationContext serializationContext, M object) throws SerializationException {
+            java.util.Map.Entry<K, V>[] entries = object.entrySet().toArray(java.util.Map.Entry[]::new);
+            SerializationElement[] values = new SerializationElement[entries.length];
+            SerializationContainer container = serializationContext.createContainer();
+            if (usesContainerKeys(serializationContext)) {
+                String[] names = new String[entries.length];
+                parallelism.forEach(entries.length, i -> {
+                    names[i] = keyToName(serializationContext, entries[i].getKey());
+                    try {
+                        values[i] = value.serialize(serializationContext, entries[i].getValue());
+                    } catch (SerializationException e) {
+                        throw e.atField(names[i]);
+                    }
+                });
+                for (int i = 0; i < entries.length; i++)
+                    container.set(names[i], values[i]);
+                return container;
+            }
+
+            SerializationElement[] keys = new SerializationElement[entries.length];
+            parallelism.forEach(entries.length, i -> {
+                try {
+                    keys[i] = key.serialize(serializationContext, entries[i].getKey());
+                    values[i] = value.serialize(serializationContext, entries[i].getValue());
+                } catch (SerializationException e) {
+                    throw e.atIndex(i);
+                }
+            });
+            container.set(KEYS, serializationContext.createArray(keys));
+            container.set(VALUES, serializationContext.createArray(values));
+            return container;
+        }
+
+        private M deserializeParallel(Parallelism parallelism, SerializationContainer container, String[] names) throws SerializationException {
+            SerializationContext context = container.getContext();
+            Object[] keys = new Object[names.length];
+            Object[] values = new Object[names.length];
+            parallelism.forEach(names.length, i -> {
+                try {
+                    keys[i] = nameToKey(context, names[i]);
+                    values[i] = this.value.deserialize(container.get(names[i]));
+                } catch (SerializationException e) {
+                    throw e.atField(names[i]);
+                }
+            });
+            return fill(keys, values);
+        }
+
+        private M deserializeParallel(Parallelism parallelism, SerializationArray keyElements, SerializationArray valueElements) throws SerializationException {
+            Object[] keys = new Object[keyElements.length()];
+            Object[] values = new Object[keys.length];
+            parallelism.forEach(keys.length, i -> {
+                try {
+                    keys[i] = this.key.deserialize(keyElements.get(i));
+                    values[i] = this.value.deserialize(valueElements.get(i));
+                } catch (SerializationException e) {
+                    throw e.atIndex(i);
+                }
+            });
+            return fill(keys, values);
+        }
+
+        private M fill(Object[] keys, Object[] values) {
+            M map = supplyMap(keys.length);
+            for (int i = 0; i < keys.length; i++)
+                map.put((K) keys[i], (V) values[i]);
+            return map;
+        }
+
         protected abstract M supplyMap();
 
+        /**
+         * Supplies a map that is filled with the provided number of entries
+         *
+         * @param size the number of entries
+         * @return the map
+         */
+        protected M supplyMap(int size) {
+            return supplyMap();
+        }
+
         @Override
         public String id() {
             return "mapping";
         }
+
+        @Override
+        public Class<? extends M> getType() {
+            // The supplier always creates maps of the same class, so it is only asked once
+            Class<? extends M> type = this.type;
+            if (type == null)
+                this.type = type = (Class<? extends M>) supplyMap().getClass();
+            return type;
+        }
+
+        private String keyToName(SerializationContext context, K k) throws SerializationException {
+            if (k == null)
+                throw new SerializationException("Maps with null keys cannot be written with container keys.");
+            if (key == Primitive.STRING)
+                return (String) k;
+            return key.serialize(context, k).getAsString();
+        }
+
+        private K nameToKey(SerializationContext context, String name) throws SerializationException {
+            if (key == Primitive.STRING)
+                return (K) name;
+            return key.deserialize(context.create(name));
+        }
+
+        private void zip(List<K> keys, List<V> values, M map) throws SerializationException {
+            if (keys == null || values == null)
+                throw new SerializationException("The map is missing its " + (keys == null ? KEYS : VALUES) + ".");
+            if (keys.size() != values.size())
+                throw new SerializationException("The map has " + keys.size() + " keys but " + values.size() + " values.");
+            for (int i = 0; i < keys.size(); i++)
+                map.put(keys.get(i), values.get(i));
+        }
+
+        private static <T> List<T> readList(SerializationReader reader, Serializer<T> serializer, String name) throws SerializationException, IOException {
+            List<T> list = new ArrayList<>();
+            reader.beginArray();
+            try {
+                while (reader.hasNext())
+                    list.add(serializer.read(reader));
+            } catch (SerializationException e) {
+                throw e.atIndex(list.size()).atField(name);
+            }
+            reader.endArray();
+            return list;
+        }
+
+        private void readEntries(SerializationReader reader, M map) throws SerializationException, IOException {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                K key = null;
+                V value = null;
+                reader.beginContainer();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (name.equals("key"))
+                        key = this.key.read(reader);
+                    else if (name.equals("value"))
+                        value = this.value.read(reader);
+                    else
+                        reader.skipValue();
+                }
+                reader.endContainer();
+                map.put(key, value);
+            }
+            reader.endArray();
+        }
+
+        private void deserializeEntries(SerializationArray array, M map) throws SerializationException {
+            for (SerializationElement element : array) {
+                SerializationElement keyElement = element.getAsContainer().get("key");
+                SerializationElement valueElement = element.getAsContainer().get("value");
+
+                K key = this.key.deserialize(keyElement);
+                V value = this.value.deserialize(valueElement);
+                map.put(key, value);
+            }
+        }
     }
 
     /**
      * A variant serializer that collects multiple serializers as different variants for the same serialization type.
+     * <p>
+     * Variant serializers are immutable. Adding a variant returns a new serializer and leaves this one unchanged, so a serializer can be shared between threads once it was created.
      *
      * @param <T> The serialization type
      * @param <R> The variant type collected
@@ -529,22 +1590,86 @@ public interface Serializer<T> {
     abstract class VariantsSerializer<T, R> implements Serializer<T> {
         protected final String id;
         protected final Class<? extends T> type;
-        protected final java.util.Map<String, R> variants = new HashMap<>();
-        protected final Set<Class<? extends T>> containedTypes = new HashSet<>();
+        protected final java.util.Map<String, R> variants;
+        protected final Set<Class<? extends T>> containedTypes;
+        // Maps the class of a serialized object to the id of its variant
+        private final ClassValue<java.util.Optional<String>> variantIds = new ClassValue<>() {
+            @Override
+            protected java.util.Optional<String> computeValue(Class<?> objectType) {
+                return java.util.Optional.ofNullable(findVariantId(objectType));
+            }
+        };
 
-        private VariantsSerializer(String id, Class<? extends T> type) {
+        private VariantsSerializer(String id, Class<? extends T> type, java.util.Map<String, R> variants, Set<Class<? extends T>> containedTypes) {
             this.id = id;
             this.type = type;
-        }
-
+            this.variants = variants;
+            this.containedTypes = containedTypes;
+        }
+
+        /**
+         * Returns a copy of this serializer with an additional variant
+         *
+         * @param id          the id of the variant
+         * @param variant     the variant
+         * @param variantType the type of objects the variant serializes
+         * @return the new serializer
+         * @throws IllegalArgumentException if this serializer already contains a variant for the type
+         */
         protected VariantsSerializer<T, R> addVariant(String id, R variant, Class<? extends T> variantType) {
-            variants.put(id, variant);
             if (containedTypes.contains(variantType))
                 throw new IllegalArgumentException("The serializer " + id + " does already contain a type serializer for the type " + variantType);
+            // Filled entry by entry, so the variants keep the iteration order of a HashMap that the variants were added to one after another
+            java.util.Map<String, R> variants = new HashMap<>();
+            this.variants.forEach(variants::put);
+            variants.put(id, variant);
+            Set<Class<? extends T>> containedTypes = new HashSet<>(this.containedTypes);
             containedTypes.add(variantType);
-            return this;
+            return withVariants(Collections.unmodifiableMap(variants), Collections.unmodifiableSet(containedTypes));
+        }
+
+        /**
+         * Creates a serializer that is configured like this one but uses other variants
+         *
+         * @param variants       the unmodifiable variants
+         * @param containedTypes the unmodifiable types of the variants
+         * @return the new serializer
+         */
+        protected abstract VariantsSerializer<T, R> withVariants(java.util.Map<String, R> variants, Set<Class<? extends T>> containedTypes);
+
+        /**
+         * Returns the id of the variant that serializes objects of the provided class.
+         * The variants are searched only once per class, every further lookup takes constant time.
+         *
+         * @param objectType the class of the serialized object
+         * @return the id of the variant or null if no variant matches
+         */
+        protected String variantId(Class<?> objectType) {
+            return variantIds.get(objectType).orElse(null);
+        }
+
+        /**
+         * Searches the variant for a class that was not looked up before
+         *
+         * @param objectType the class of the serialized object
+         * @return the id of the variant or null if no variant matches
+         */
+        protected String findVariantId(Class<?> objectType) {
+            for (java.util.Map.Entry<String, R> entry : variants.entrySet()) {
+                if (variantType(entry.getValue()).equals(objectType))
+                    return entry.getKey();
+            }
+            return null;
         }
 
+        /**
+         * Returns the type of objects a variant serializes
+         *
+         * @param variant the variant
+         * @return the type
+         */
+        protected abstract Class<?> variantType(R variant);
+
         @Override
         public String id() {
             return id;
@@ -558,23 +1683,37 @@ public interface Serializer<T> {
 
     class Types<T> extends VariantsSerializer<T, Serializer<T>> {
         public static <T> Types<T> create(String id, Class<? extends T> type) {
-            return new Types<>(id, type);
+            return new Types<>(id, type, java.util.Map.of(), Set.of());
         }
 
-        private Types(String id, Class<? extends T> type) {
-            super(id, type);
+        private Types(String id, Class<? extends T> type, java.util.Map<String, Serializer<T>> variants, Set<Class<? extends T>> containedTypes) {
+            super(id, type, variants, containedTypes);
         }
 
+        /**
+         * Returns a copy of this serializer with an additional type. This serializer is not changed.
+         *
+         * @param id                the id of the type
+         * @param variantSerializer the serializer of the type
+         * @param <R>               the type
+         * @return the new serializer
+         */
         public <R extends T> Types<T> type(String id, Serializer<R> variantSerializer) {
             return (Types<T>) addVariant(id, (Serializer<T>) variantSerializer, variantSerializer.getType());
         }
 
+        @Override
+        protected Types<T> withVariants(java.util.Map<String, Serializer<T>> variants, Set<Class<? extends T>> containedTypes) {
+            return new Types<>(id, type, variants, containedTypes);
+        }
+
         @Override
         public SerializationElement serialize(SerializationContext serializationContext, T object) throws SerializationException {
             SerializationContainer container = serializationContext.createContainer();
 
-            String type = variants.entrySet().stream().filter(stringVariantEntry -> stringVariantEntry.getValue().getType().equals(object.getClass()))
-                    .map(java.util.Map.Entry::getKey).findAny().orElseThrow(() -> new IllegalStateException("Types Serializer " + id + " could not find a variant for type " + object.getClass()));
+            String type = variantId(object.getClass());
+            if (type == null)
+                throw new IllegalStateException("Types Serializer " + id + " could not find a variant for type " + object.getClass());
 
             container.set("type", serializationContext.create(type));
             container.set(type, variants.get(type).serialize(serializationContext, object));
@@ -591,9 +1730,14 @@ public interface Serializer<T> {
             if (!variants.containsKey(type))
                 throw new SerializationException("The type " + type + " is not known in this Selection Serializer");
             if (!container.contains(type))
-                throw new SerializationException("The type " + type + " is known to this Selection Serializer. However the type is not specified in the serialized element " + container);
+                throw SerializationException.lazy(() -> "The type " + type + " is known to this Selection Serializer. However the type is not specified in the serialized element " + container, null);
             return variants.get(type).deserialize(container.get(type));
         }
+
+        @Override
+        protected Class<?> variantType(Serializer<T> variant) {
+            return variant.getType();
+        }
     }
 
     /**
@@ -601,30 +1745,50 @@ public interface Serializer<T> {
      * A variant can be picked by changing the "type" field in the {@link SerializationElement} which is normally written into the config file.
      * If you serialize an object with this serializer, the serializer will search for the right variant based on its class type.
      * If the serializer finds the right type it will write the object into the respective field. Else it will throw an {@link IllegalStateException}
+     * <p>
+     * The variant objects of all other variants are serialized only once per context and then copied into every serialized container.
+     * If the data is not edited by hand, {@link #compact()} only writes the type and the selected variant.
      *
      * @param <T> The serialized type.
      */
     class Selection<T> extends VariantsSerializer<T, Selection.Variant<T>> {
         public static <T> Selection<T> create(String id, Class<? extends T> type) {
-            return new Selection<>(id, type);
+            return new Selection<>(id, type, java.util.Map.of(), Set.of(), false);
         }
 
-        private String standardVariantID;
-        private Selection.Variant<T> standardVariant;
+        private final boolean compact;
+        // The serialized variant objects per context
+        private final java.util.Map<SerializationContext, java.util.Map<String, SerializationElement>> templates = new ConcurrentHashMap<>();
 
-        private Selection(String id, Class<? extends T> type) {
-            super(id, type);
+        private Selection(String id, Class<? extends T> type, java.util.Map<String, Variant<T>> variants, Set<Class<? extends T>> containedTypes, boolean compact) {
+            super(id, type, variants, containedTypes);
+            this.compact = compact;
         }
 
+        /**
+         * Returns a copy of this serializer with an additional variant. This serializer is not changed.
+         *
+         * @param id                the id of the variant
+         * @param variantSerializer the serializer of the variant
+         * @param variantObject     the object that is written for the variant when another variant is selected
+         * @param <R>               the variant type
+         * @return the new serializer
+         */
         public <R extends T> Selection<T> variant(String id, Serializer<R> variantSerializer, R variantObject) {
             Selection.Variant<T> variant = (Selection.Variant<T>) new Selection.Variant<>(variantSerializer, variantObject);
-            if (standardVariantID != null && standardVariant == null) {
-                standardVariantID = id;
-                standardVariant = variant;
-            }
             return (Selection<T>) addVariant(id, variant, variantSerializer.getType());
         }
 
+        /**
+         * Returns a copy of this serializer that only writes the type and the selected variant instead of all variants.
+         * Compact data can still be read by selection serializers that are not compact.
+         *
+         * @return the compact serializer
+         */
+        public Selection<T> compact() {
+            return new Selection<>(id, type, variants, containedTypes, true);
+        }
+
         public <R extends T> Selection<T> variant(String id, Dummy<R> variantSerializer) {
             return variant(id, variantSerializer, variantSerializer.defaultValue);
         }
@@ -633,6 +1797,11 @@ public interface Serializer<T> {
             return variant(id, Null.create(getType()), null);
         }
 
+        @Override
+        protected Selection<T> withVariants(java.util.Map<String, Variant<T>> variants, Set<Class<? extends T>> containedTypes) {
+            return new Selection<>(id, type, variants, containedTypes, compact);
+        }
+
         @Override
         public boolean acceptsNullValues() {
             return true;
@@ -641,26 +1810,23 @@ public interface Serializer<T> {
         @Override
         public SerializationElement serialize(SerializationContext serializationContext, T object) throws SerializationException {
             SerializationContainer container = serializationContext.createContainer();
-
-            for (java.util.Map.Entry<String, Variant<T>> stringVariantEntry : variants.entrySet()) {
-
-                var s = stringVariantEntry.getKey();
-                var variant = stringVariantEntry.getValue();
-                container.set(s, variant.serializer().serialize(serializationContext, variant.variant()));
+            java.util.Map<String, SerializationElement> serializedTemplates = compact ? null : templates(serializationContext);
+            if (serializedTemplates != null) {
+                for (java.util.Map.Entry<String, SerializationElement> template : serializedTemplates.entrySet())
+                    container.set(template.getKey(), copy(serializationContext, template.getValue()));
             }
 
             String type;
             if (object == null) {
                 type = variants.keySet().stream().findAny().orElseThrow(() -> new IllegalStateException("Selection Serializer " + id + " need at least one selectable element"));
-
-                if (standardVariantID != null && standardVariant != null) {
-                    container.set(standardVariantID, standardVariant.serializer().serialize(serializationContext, standardVariant.variant()));
-                    type = standardVariantID;
+                if (compact) {
+                    Variant<T> variant = variants.get(type);
+                    container.set(type, variant.serializer().serialize(serializationContext, variant.variant()));
                 }
-
             } else {
-                type = variants.entrySet().stream().filter(stringVariantEntry -> stringVariantEntry.getValue().serializer().getType().equals(object.getClass()) || stringVariantEntry.getValue().serializer().getType().isAssignableFrom(object.getClass()))
-                        .map(java.util.Map.Entry::getKey).findAny().orElseThrow(() -> new IllegalStateException("Selection Serializer " + id + " could not find a variant for type " + object.getClass()));
+                type = variantId(object.getClass());
+                if (type == null)
+                    throw new IllegalStateException("Selection Serializer " + id + " could not find a variant for type " + object.getClass());
 
                 container.set(type, variants.get(type).serializer().serialize(serializationContext, object));
             }
@@ -681,10 +1847,57 @@ public interface Serializer<T> {
 
             Variant<?> variant = variants.get(type);
             if (!container.contains(type) && variant.variant != null)
-                throw new SerializationException("The type " + type + " is known to this Selection Serializer. However the type is not specified in the serialized element " + container);
+                throw SerializationException.lazy(() -> "The type " + type + " is known to this Selection Serializer. However the type is not specified in the serialized element " + container, null);
             return variants.get(type).serializer().deserialize(container.get(type));
         }
 
+        private java.util.Map<String, SerializationElement> templates(SerializationContext serializationContext) throws SerializationException {
+            java.util.Map<String, SerializationElement> cached = templates.get(serializationContext);
+            if (cached != null)
+                return cached;
+            java.util.Map<String, SerializationElement> serialized = new LinkedHashMap<>();
+            for (java.util.Map.Entry<String, Variant<T>> entry : variants.entrySet()) {
+                Variant<T> variant = entry.getValue();
+                serialized.put(entry.getKey(), variant.serializer().serialize(serializationContext, variant.variant()));
+            }
+            templates.putIfAbsent(serializationContext, serialized);
+            return serialized;
+        }
+
+        /**
+         * Primitives and nulls are shared between the serialized containers. Containers and arrays are copied, so editing one serialized container does not change the others.
+         */
+        private static SerializationElement copy(SerializationContext serializationContext, SerializationElement template) {
+            if (template.isPrimitive() || template.isNull())
+                return template;
+            return serializationContext.convert(template, true);
+        }
+
+        @Override
+        protected Class<?> variantType(Variant<T> variant) {
+            return variant.serializer().getType();
+        }
+
+        /**
+         * Objects of subclasses are serialized by the variant of their closest super type
+         */
+        @Override
+        protected String findVariantId(Class<?> objectType) {
+            String exact = super.findVariantId(objectType);
+            if (exact != null)
+                return exact;
+            String closest = null;
+            Class<?> closestType = null;
+            for (java.util.Map.Entry<String, Variant<T>> entry : variants.entrySet()) {
+                Class<?> variantType = variantType(entry.getValue());
+                if (variantType.isAssignableFrom(objectType) && (closestType == null || closestType.isAssignableFrom(variantType))) {
+                    closest = entry.getKey();
+                    closestType = variantType;
+                }
+            }
+            return closest;
+        }
+
         private record Variant<T>(Serializer<T> serializer, T variant) {
         }
     }
@@ -710,6 +1923,17 @@ public interface Serializer<T> {
             return defaultValue;
         }
 
+        @Override
+        public void write(SerializationWriter writer, T object) throws IOException {
+            writer.value("");
+        }
+
+        @Override
+        public T read(SerializationReader reader) throws IOException {
+            reader.skipValue();
+            return defaultValue;
+        }
+
         @Override
         public String id() {
             return "dummy";
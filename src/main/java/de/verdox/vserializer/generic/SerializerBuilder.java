@@ -6,10 +6,8 @@ import de.verdox.vserializer.exception.SerializationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.io.IOException;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -63,6 +61,21 @@ public class SerializerBuilder<T> {
                 return primitiveToObject.apply(primitive);
             }
 
+            @Override
+            public void write(SerializationWriter writer, T object) throws IOException {
+                primitiveSerializer.write(writer, objectToPrimitive.apply(object));
+            }
+
+            @Override
+            public T read(SerializationReader reader) throws IOException {
+                return primitiveToObject.apply(primitiveSerializer.read(reader));
+            }
+
+            @Override
+            public boolean serializesToPrimitive() {
+                return primitiveSerializer.serializesToPrimitive();
+            }
+
             @Override
             public String id() {
                 return id;
@@ -98,69 +111,32 @@ public class SerializerBuilder<T> {
         return this;
     }
 
+    /**
+     * Builds the serializer.
+     * All fields are resolved when this method is called. Changes made to the builder afterward do not affect the returned serializer.
+     * Constructor fields keep their order and are followed by the other fields sorted by their name. Positional records use this order.
+     *
+     * @return the serializer
+     */
     public Serializer<T> build() {
-        final String id = this.id;
-
-        return new Serializer<>() {
-            @Override
-            public SerializationElement serialize(SerializationContext serializationContext, T object) throws SerializationException {
-                if (constructorSerializer == null && fields.isEmpty()) {
-                    throw new IllegalStateException("Neither a constructor nor fields were defined for this serializer");
-                }
-
-                SerializationContainer container = constructorSerializer != null ? constructorSerializer.serialize(serializationContext, object).getAsContainer() : serializationContext.createContainer();
-                for (AbstractSerializableField<T, ?> serializableField : fields.values()) {
-                    serializableField.write(container, object);
-                }
-                return container;
-            }
-
-            @Override
-            public T deserialize(SerializationElement serializedElement) throws SerializationException {
-                if (serializedElement == null) {
-                    return null;
-                }
-                SerializationContainer container = serializedElement.getAsContainer();
-                Objects.requireNonNull(constructorSerializer, "Cannot deserialize an object when no constructor was defined");
-                Objects.requireNonNull(constructorSerializer.deserializer, "The constructor serializer has no deserialization function");
-                T wrapped = constructorSerializer.deserializer.deserialize(this, serializedElement);
-
-                for (java.util.Map.Entry<String, AbstractSerializableField<T, ?>> stringSerializableFieldEntry : fields.entrySet()) {
-                    AbstractSerializableField<T, ?> serializableField = stringSerializableFieldEntry.getValue();
-                    wrapped = serializableField.readAndSet(wrapped, container);
-                }
-                return wrapped;
-            }
-
-            @Override
-            public void updateLiveObjectFromJson(@Nullable T existingObject, SerializationElement serializedElement) throws SerializationException {
-                SerializationContainer container = serializedElement.getAsContainer();
-                if (constructorSerializer != null) {
-                    for (SerializableField<T, ?> field : constructorSerializer.getFields()) {
-                        field.readAndSet(existingObject, container);
-                    }
-                }
-                for (AbstractSerializableField<T, ?> serializableField : fields.values()) {
-                    serializableField.readAndSet(existingObject, container);
-                }
-            }
-
-            @Override
-            public String id() {
-                return id;
-            }
+        return new CompiledSerializer<>(id, type, constructorSerializer, new TreeMap<>(fields).values());
+    }
 
-            @Override
-            public Class<? extends T> getType() {
-                return type;
-            }
-        };
+    /**
+     * Builds a serializer that can serialize objects incrementally.
+     * It works like the serializer of {@link #build()} and additionally remembers the last container of every object it serialized with {@link IncrementalSerializer#serializeChanges(SerializationContext, Object)}.
+     *
+     * @return the serializer
+     */
+    public IncrementalSerializer<T> buildIncremental() {
+        return new IncrementalSerializer<>(new CompiledSerializer<>(id, type, constructorSerializer, new TreeMap<>(fields).values()));
     }
 
+
     // NO FIELDS
 
     public SerializerBuilder<T> constructor(Supplier<T> constructor) {
-        this.constructorSerializer = new ConstructorSerializer<T>(type, this.id, (serializer, serializationElement) -> constructor.get());
+        this.constructorSerializer = new ConstructorSerializer<T>(type, this.id, args -> constructor.get());
         return this;
     }
 
@@ -170,11 +146,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R1> field1,
             Function<R1, T> constructor
     ) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1);
-        }, field1);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0)), field1);
         return this;
     }
 
@@ -212,12 +184,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R2> field2,
             BiFunction<R1, R2, T> constructor
     ) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            R2 r2 = field2.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1, r2);
-        }, field1, field2);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0), arg(args, 1)), field1, field2);
         return this;
     }
 
@@ -261,13 +228,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R3> field3,
             Function3<R1, R2, R3, T> constructor
     ) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            R2 r2 = field2.build(serializer).read(container);
-            R3 r3 = field3.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1, r2, r3);
-        }, field1, field2, field3);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0), arg(args, 1), arg(args, 2)), field1, field2, field3);
         return this;
     }
 
@@ -316,14 +277,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R4> field4,
             Function4<R1, R2, R3, R4, T> constructor
     ) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            R2 r2 = field2.build(serializer).read(container);
-            R3 r3 = field3.build(serializer).read(container);
-            R4 r4 = field4.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1, r2, r3, r4);
-        }, field1, field2, field3, field4);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0), arg(args, 1), arg(args, 2), arg(args, 3)), field1, field2, field3, field4);
         return this;
     }
 
@@ -378,15 +332,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R4> field4,
             SerializableFieldBuilder<T, R5> field5,
             Function5<R1, R2, R3, R4, R5, T> constructor) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            R2 r2 = field2.build(serializer).read(container);
-            R3 r3 = field3.build(serializer).read(container);
-            R4 r4 = field4.build(serializer).read(container);
-            R5 r5 = field5.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1, r2, r3, r4, r5);
-        }, field1, field2, field3, field4, field5);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0), arg(args, 1), arg(args, 2), arg(args, 3), arg(args, 4)), field1, field2, field3, field4, field5);
         return this;
     }
 
@@ -447,16 +393,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R5> field5,
             SerializableFieldBuilder<T, R6> field6,
             Function6<R1, R2, R3, R4, R5, R6, T> constructor) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            R2 r2 = field2.build(serializer).read(container);
-            R3 r3 = field3.build(serializer).read(container);
-            R4 r4 = field4.build(serializer).read(container);
-            R5 r5 = field5.build(serializer).read(container);
-            R6 r6 = field6.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1, r2, r3, r4, r5, r6);
-        }, field1, field2, field3, field4, field5, field6);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0), arg(args, 1), arg(args, 2), arg(args, 3), arg(args, 4), arg(args, 5)), field1, field2, field3, field4, field5, field6);
         return this;
     }
 
@@ -523,17 +460,7 @@ public class SerializerBuilder<T> {
             SerializableFieldBuilder<T, R6> field6,
             SerializableFieldBuilder<T, R7> field7,
             Function7<R1, R2, R3, R4, R5, R6, R7, T> constructor) {
-        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, (serializer, serializationElement) -> {
-            SerializationContainer container = serializationElement.getAsContainer();
-            R1 r1 = field1.build(serializer).read(container);
-            R2 r2 = field2.build(serializer).read(container);
-            R3 r3 = field3.build(serializer).read(container);
-            R4 r4 = field4.build(serializer).read(container);
-            R5 r5 = field5.build(serializer).read(container);
-            R6 r6 = field6.build(serializer).read(container);
-            R7 r7 = field7.build(serializer).read(container);
-            return Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(r1, r2, r3, r4, r5, r6, r7);
-        }, field1, field2, field3, field4, field5, field6, field7);
+        this.constructorSerializer = new ConstructorSerializer<>(type, this.id, args -> Objects.requireNonNull(constructor, "Constructor function cannot be null.").apply(arg(args, 0), arg(args, 1), arg(args, 2), arg(args, 3), arg(args, 4), arg(args, 5), arg(args, 6)), field1, field2, field3, field4, field5, field6, field7);
         return this;
     }
 
@@ -594,22 +521,398 @@ public class SerializerBuilder<T> {
         );
     }
 
+    /**
+     * The serializer created by {@link #build()}. It works on arrays of fields that are resolved once when it is built.
+     */
+    private static final class CompiledSerializer<T> implements Serializer<T> {
+        private final String id;
+        private final Class<T> type;
+        @Nullable
+        private final ConstructorSerializer<T> constructorSerializer;
+        private final SerializableField<T, ?>[] constructorFields;
+        private final AbstractSerializableField<T, Object>[] fields;
+        @Nullable
+        private final FieldPlan<T> constructorPlan;
+        private final FieldPlan<T> readPlan;
+
+        private CompiledSerializer(String id, Class<T> type, @Nullable ConstructorSerializer<T> constructorSerializer, java.util.Collection<AbstractSerializableField<T, ?>> fields) {
+            this.id = id;
+            this.type = type;
+            this.constructorSerializer = constructorSerializer;
+            this.constructorFields = constructorSerializer != null ? constructorSerializer.getFields() : newArray(SerializableField.class, 0);
+            this.fields = fields.toArray(newArray(AbstractSerializableField.class, 0));
+
+            // Constructor fields are read with this serializer as their parent so recursive fields deserialize the complete object
+            AbstractSerializableField<T, ?>[] readFields = constructorSerializer != null ? constructorSerializer.buildFields(this) : newArray(AbstractSerializableField.class, 0);
+            this.constructorPlan = constructorSerializer != null ? new FieldPlan<>(id, readFields) : null;
+
+            AbstractSerializableField<T, ?>[] allFields = newArray(AbstractSerializableField.class, readFields.length + this.fields.length);
+            System.arraycopy(readFields, 0, allFields, 0, readFields.length);
+            System.arraycopy(this.fields, 0, allFields, readFields.length, this.fields.length);
+            this.readPlan = new FieldPlan<>(id, allFields);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext serializationContext, T object) throws SerializationException {
+            if (constructorSerializer == null && fields.length == 0) {
+                throw new IllegalStateException("Neither a constructor nor fields were defined for this serializer");
+            }
+
+            SerializationContainer container = serializationContext.createContainer();
+            for (SerializableField<T, ?> field : constructorFields) {
+                field.write(container, object);
+            }
+            for (AbstractSerializableField<T, ?> serializableField : fields) {
+                serializableField.write(container, object);
+            }
+            return container;
+        }
+
+        @Override
+        public void write(SerializationWriter writer, T object) throws SerializationException, IOException {
+            if (constructorSerializer == null && fields.length == 0) {
+                throw new IllegalStateException("Neither a constructor nor fields were defined for this serializer");
+            }
+
+            if (writer.isPositional()) {
+                writer.beginRecord(readPlan.fingerprint, readPlan.fields.length);
+                for (SerializableField<T, ?> field : constructorFields) {
+                    field.writeValue(writer, object);
+                }
+                for (AbstractSerializableField<T, ?> serializableField : fields) {
+                    serializableField.writeValue(writer, object);
+                }
+                return;
+            }
+
+            writer.beginContainer();
+            for (SerializableField<T, ?> field : constructorFields) {
+                field.write(writer, object);
+            }
+            for (AbstractSerializableField<T, ?> serializableField : fields) {
+                serializableField.write(writer, object);
+            }
+            writer.endContainer();
+        }
+
+        @Override
+        public T deserialize(SerializationElement serializedElement) throws SerializationException {
+            if (serializedElement == null) {
+                return null;
+            }
+            SerializationContainer container = serializedElement.getAsContainer();
+            Objects.requireNonNull(constructorSerializer, "Cannot deserialize an object when no constructor was defined");
+            if (FieldPlan.isRecord(container)) {
+                // A positional record that was read as a tree
+                return instantiate(readPlan.readRecord(container));
+            }
+            T wrapped = constructorSerializer.instantiator.instantiate(constructorPlan.read(container));
+
+            for (AbstractSerializableField<T, ?> serializableField : fields) {
+                wrapped = serializableField.readAndSet(wrapped, container);
+            }
+            return wrapped;
+        }
+
+        @Override
+        public T read(SerializationReader reader) throws SerializationException, IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            Objects.requireNonNull(constructorSerializer, "Cannot deserialize an object when no constructor was defined");
+
+            return instantiate(readPlan.read(reader));
+        }
+
+        /**
+         * Creates an object from the values of the constructor fields and sets the values of the other fields afterward
+         *
+         * @param values the values in the order of the read plan
+         * @return the object
+         */
+        private T instantiate(Object[] values) {
+            int constructorArguments = values.length - fields.length;
+            T wrapped = constructorSerializer.instantiator.instantiate(Arrays.copyOf(values, constructorArguments));
+            for (int i = 0; i < fields.length && wrapped != null; i++) {
+                wrapped = fields[i].setValueOnObject(wrapped, values[constructorArguments + i]);
+            }
+            return wrapped;
+        }
+
+        @Override
+        public void updateLiveObjectFromJson(@Nullable T existingObject, SerializationElement serializedElement) throws SerializationException {
+            SerializationContainer container = serializedElement.getAsContainer();
+            for (SerializableField<T, ?> field : constructorFields) {
+                field.readAndSet(existingObject, container);
+            }
+            for (AbstractSerializableField<T, ?> serializableField : fields) {
+                serializableField.readAndSet(existingObject, container);
+            }
+        }
+
+        @Override
+        public void updateLiveObjectFromPatch(@Nullable T existingObject, SerializationElement patch) throws SerializationException {
+            if (existingObject == null || SerializationDiff.isEmpty(patch))
+                return;
+            SerializationContainer fieldPatches = SerializationDiff.fieldPatches(patch);
+            if (fieldPatches == null) {
+                Serializer.super.updateLiveObjectFromPatch(existingObject, patch);
+                return;
+            }
+
+            // Only the fields that are changed by the patch are serialized, patched and read again
+            SerializationContext context = patch.getContext();
+            SerializationContainer changed = context.createContainer();
+            for (SerializableField<T, ?> field : constructorFields) {
+                if (fieldPatches.contains(field.getKey()))
+                    field.write(changed, existingObject);
+            }
+            for (AbstractSerializableField<T, ?> serializableField : fields) {
+                if (fieldPatches.contains(serializableField.getKey()))
+                    serializableField.write(changed, existingObject);
+            }
+            SerializationDiff.apply(changed, patch);
+            // Removed fields are reset to their default value
+            for (String key : fieldPatches.getChildKeys()) {
+                if (!changed.contains(key))
+                    changed.set(key, context.createNull());
+            }
+            updatePresentFields(existingObject, changed);
+        }
+
+        /**
+         * Updates only the fields whose keys are present in the container. All other fields keep their value.
+         *
+         * @param existingObject the object
+         * @param container      the container with the new values
+         */
+        private void updatePresentFields(T existingObject, SerializationContainer container) throws SerializationException {
+            for (SerializableField<T, ?> field : constructorFields) {
+                if (container.contains(field.getKey()))
+                    field.readAndSet(existingObject, container);
+            }
+            for (AbstractSerializableField<T, ?> serializableField : fields) {
+                if (container.contains(serializableField.getKey()))
+                    serializableField.readAndSet(existingObject, container);
+            }
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public Class<? extends T> getType() {
+            return type;
+        }
+    }
+
+    /**
+     * A serializer that only serializes the fields of an object that changed since the object was serialized the last time.
+     * <p>
+     * The last container of every object is kept as long as the object is alive. Objects are identified by their identity.
+     * Callers should pass the keys of the changed fields to {@link #serializeChanges(SerializationContext, Object, java.util.Collection)}. Then all other fields are neither read nor serialized.
+     * <p>
+     * Without keys, every field is read once. Fields whose value is a string, a boxed primitive, an enum constant or a UUID are skipped if their value is equal to the last one.
+     * All other fields may have been changed in place, so they are always serialized again and reported as changed.
+     * <p>
+     * The returned containers share unchanged children with the last container of the object, so they must not be modified.
+     *
+     * @param <T> the object type
+     */
+    public static final class IncrementalSerializer<T> implements Serializer<T> {
+        private static final Object UNKNOWN = new Object();
+
+        private final CompiledSerializer<T> serializer;
+        // The constructor fields followed by the other fields
+        private final AbstractSerializableField<T, Object>[] fields;
+        private final WeakIdentityMap<T, Snapshot> snapshots = new WeakIdentityMap<>();
+
+        private IncrementalSerializer(CompiledSerializer<T> serializer) {
+            this.serializer = serializer;
+            this.fields = newArray(AbstractSerializableField.class, serializer.constructorFields.length + serializer.fields.length);
+            System.arraycopy(serializer.constructorFields, 0, this.fields, 0, serializer.constructorFields.length);
+            System.arraycopy(serializer.fields, 0, this.fields, serializer.constructorFields.length, serializer.fields.length);
+        }
+
+        /**
+         * Serializes the fields of an object that changed since the last call for this object and context.
+         * Only fields with immutable values are detected as unchanged, fields with other values are always serialized. Prefer passing the changed keys if they are known.
+         * All fields are serialized if the object was not serialized before or with another context.
+         *
+         * @param context the context
+         * @param object  the object
+         * @return the container of the object and the keys of the changed fields
+         * @throws SerializationException if a field cannot be serialized
+         */
+        public Changes serializeChanges(SerializationContext context, T object) throws SerializationException {
+            return serializeChanges(context, object, null);
+        }
+
+        /**
+         * Serializes only the fields of an object whose keys are passed. The other fields keep the element of the last call for this object and context.
+         * All fields are serialized if the object was not serialized before or with another context.
+         *
+         * @param context   the context
+         * @param object    the object
+         * @param dirtyKeys the keys of the fields that changed
+         * @return the container of the object and the keys of the serialized fields
+         * @throws SerializationException if a field cannot be serialized
+         */
+        public Changes serializeChanges(SerializationContext context, T object, @Nullable java.util.Collection<String> dirtyKeys) throws SerializationException {
+            Objects.requireNonNull(object);
+            Snapshot last = snapshots.get(object);
+            if (last != null && !last.context().equals(context))
+                last = null;
+
+            SerializationContainer container = context.createContainer();
+            Object[] values = last != null ? last.values().clone() : new Object[fields.length];
+            Set<String> changedKeys = new LinkedHashSet<>();
+            for (int i = 0; i < fields.length; i++) {
+                AbstractSerializableField<T, Object> field = fields[i];
+                String key = field.getKey();
+                if (!(field instanceof SerializableField<T, Object> serializableField)) {
+                    // Other fields may write several keys, so they are always written completely
+                    field.write(container, object);
+                    values[i] = UNKNOWN;
+                    changedKeys.add(key);
+                    continue;
+                }
+
+                SerializationElement lastElement = last != null && last.container().contains(key) ? last.container().get(key) : null;
+                if (dirtyKeys != null) {
+                    if (lastElement != null && !dirtyKeys.contains(key)) {
+                        container.set(key, lastElement);
+                        continue;
+                    }
+                    serializableField.write(container, object);
+                    values[i] = UNKNOWN;
+                } else {
+                    // The value is read once. Only immutable values can be compared with the last value, all others may have changed in place.
+                    Object value = serializableField.readValueFromObject(object);
+                    boolean immutable = isImmutable(value);
+                    if (lastElement != null && immutable && values[i] != UNKNOWN && Objects.equals(value, values[i])) {
+                        container.set(key, lastElement);
+                        continue;
+                    }
+                    serializableField.writeFieldValue(container, value);
+                    values[i] = immutable ? value : UNKNOWN;
+                }
+                changedKeys.add(key);
+            }
+            snapshots.put(object, new Snapshot(context, container, values));
+            return new Changes(container, Collections.unmodifiableSet(changedKeys));
+        }
+
+        /**
+         * Forgets the last container of an object, so it is serialized completely the next time
+         *
+         * @param object the object
+         */
+        public void forget(T object) {
+            snapshots.remove(object);
+        }
+
+        private static boolean isImmutable(@Nullable Object value) {
+            return value == null || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Double
+                    || value instanceof Boolean || value instanceof Float || value instanceof Short || value instanceof Byte
+                    || value instanceof Character || value instanceof java.lang.Enum<?> || value instanceof java.util.UUID;
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext serializationContext, T object) throws SerializationException {
+            return serializer.serialize(serializationContext, object);
+        }
+
+        @Override
+        public void write(SerializationWriter writer, T object) throws SerializationException, IOException {
+            serializer.write(writer, object);
+        }
+
+        @Override
+        public T deserialize(SerializationElement serializedElement) throws SerializationException {
+            return serializer.deserialize(serializedElement);
+        }
+
+        @Override
+        public T read(SerializationReader reader) throws SerializationException, IOException {
+            return serializer.read(reader);
+        }
+
+        @Override
+        public void updateLiveObjectFromJson(@Nullable T existingObject, SerializationElement serializedElement) throws SerializationException {
+            serializer.updateLiveObjectFromJson(existingObject, serializedElement);
+        }
+
+        @Override
+        public void updateLiveObjectFromPatch(@Nullable T existingObject, SerializationElement patch) throws SerializationException {
+            serializer.updateLiveObjectFromPatch(existingObject, patch);
+        }
+
+        @Override
+        public String id() {
+            return serializer.id();
+        }
+
+        @Override
+        public Class<? extends T> getType() {
+            return serializer.getType();
+        }
+
+        /**
+         * The result of an incremental serialization
+         *
+         * @param container   the container of the object
+         * @param changedKeys the keys of the fields that were serialized again
+         */
+        public record Changes(SerializationContainer container, Set<String> changedKeys) {
+            /**
+             * Checks if no field changed
+             *
+             * @return true if no field changed
+             */
+            public boolean isEmpty() {
+                return changedKeys.isEmpty();
+            }
+        }
+
+        private record Snapshot(SerializationContext context, SerializationContainer container, Object[] values) {
+        }
+    }
+
     public static class ConstructorSerializer<T> implements Serializer<T> {
         private final Class<T> type;
         private final String id;
-        private final ProvidedDeserializer<T> deserializer;
+        private final Instantiator<T> instantiator;
+        private final List<SerializableFieldBuilder<T, ?>> fieldBuilders = new ArrayList<>();
         private final SerializableField<T, ?>[] fields;
+        private final FieldPlan<T> readPlan;
 
         @SafeVarargs
-        private ConstructorSerializer(Class<T> type, String id, ProvidedDeserializer<T> deserializer, SerializableFieldBuilder<T, ?>... fields) {
+        private ConstructorSerializer(Class<T> type, String id, Instantiator<T> instantiator, SerializableFieldBuilder<T, ?>... fields) {
             this.type = type;
             this.id = id;
-            this.deserializer = deserializer;
-            this.fields = Arrays.stream(fields).map(tSerializableFieldBuilder -> tSerializableFieldBuilder.build(this)).toArray(SerializableField[]::new);
+            this.instantiator = instantiator;
+            // The builders are copied one by one, the varargs array itself does not escape
+            for (SerializableFieldBuilder<T, ?> field : fields)
+                this.fieldBuilders.add(field);
+            this.fields = buildFields(this);
+            this.readPlan = new FieldPlan<>(id, this.fields);
         }
 
+        /**
+         * Returns the constructor fields in the order of the constructor parameters
+         *
+         * @return a copy of the fields
+         */
         public SerializableField<T, ?>[] getFields() {
-            return fields;
+            return fields.clone();
+        }
+
+        private SerializableField<T, ?>[] buildFields(Serializer<T> serializer) {
+            return fieldBuilders.stream().map(tSerializableFieldBuilder -> tSerializableFieldBuilder.build(serializer)).toArray(length -> newArray(SerializableField.class, length));
         }
 
         @Override
@@ -621,9 +924,38 @@ public class SerializerBuilder<T> {
             return container;
         }
 
+        @Override
+        public void write(SerializationWriter writer, T object) throws SerializationException, IOException {
+            if (writer.isPositional()) {
+                writer.beginRecord(readPlan.fingerprint, fields.length);
+                for (SerializableField<T, ?> field : this.fields) {
+                    field.writeValue(writer, object);
+                }
+                return;
+            }
+
+            writer.beginContainer();
+            for (SerializableField<T, ?> field : this.fields) {
+                field.write(writer, object);
+            }
+            writer.endContainer();
+        }
+
         @Override
         public T deserialize(SerializationElement serializedElement) throws SerializationException {
-            return deserializer.deserialize(this, serializedElement);
+            SerializationContainer container = serializedElement.getAsContainer();
+            if (FieldPlan.isRecord(container))
+                return instantiator.instantiate(readPlan.readRecord(container));
+            return instantiator.instantiate(readPlan.read(container));
+        }
+
+        @Override
+        public T read(SerializationReader reader) throws SerializationException, IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            return instantiator.instantiate(readPlan.read(reader));
         }
 
         @Override
@@ -637,9 +969,162 @@ public class SerializerBuilder<T> {
         }
     }
 
+    /**
+     * Creates an object from the values of its constructor fields.
+     * The values are passed in the order of the constructor fields.
+     *
+     * @param <T> the object type
+     */
     @FunctionalInterface
-    public interface ProvidedDeserializer<T> {
-        T deserialize(Serializer<T> serializer, SerializationElement element) throws SerializationException;
+    public interface Instantiator<T> {
+        T instantiate(Object[] args);
     }
 
+    /**
+     * Returns an argument of an {@link Instantiator}. The arguments are read by the constructor fields, so each one has the type of its field.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> R arg(Object[] args, int index) {
+        return (R) args[index];
+    }
+
+    /**
+     * Creates an array of fields. Arrays of a generic type can only be created with an unchecked cast, so all field arrays of the serializers are created here.
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F[] newArray(Class<?> type, int length) {
+        return (F[]) java.lang.reflect.Array.newInstance(type, length);
+    }
+
+    /**
+     * An immutable list of fields that are read together, with the slots of each key resolved in advance.
+     */
+    private static final class FieldPlan<T> {
+        private final String id;
+        private final AbstractSerializableField<T, ?>[] fields;
+        private final Map<String, int[]> slotsByKey = new HashMap<>();
+        /**
+         * A FNV-1a hash of the serializer id, the field keys and the field serializer ids and types in the order of the fields.
+         */
+        private final int fingerprint;
+
+        private FieldPlan(String id, AbstractSerializableField<T, ?>[] fields) {
+            this.id = id;
+            this.fields = fields;
+
+            StringBuilder layout = new StringBuilder(id);
+            for (AbstractSerializableField<T, ?> field : fields) {
+                Serializer<?> serializer = field.getSerializer();
+                layout.append('|').append(field.getKey()).append('=').append(serializer != null ? serializer.id() : null);
+                // Primitive serializers share their id, so the type tells them apart
+                Class<?> type = serializer != null ? serializer.getType() : null;
+                layout.append(':').append(type != null ? type.getName() : null);
+            }
+            int hash = 0x811c9dc5;
+            for (int i = 0; i < layout.length(); i++) {
+                hash ^= layout.charAt(i);
+                hash *= 0x01000193;
+            }
+            this.fingerprint = hash;
+
+            for (int i = 0; i < fields.length; i++) {
+                int slot = i;
+                slotsByKey.merge(fields[i].getKey(), new int[]{slot}, (slots, ignored) -> {
+                    int[] merged = Arrays.copyOf(slots, slots.length + 1);
+                    merged[slots.length] = slot;
+                    return merged;
+                });
+            }
+        }
+
+        /**
+         * Reads the values of all fields from a container
+         *
+         * @param container the container
+         * @return the values in the order of the fields
+         */
+        private Object[] read(SerializationContainer container) throws SerializationException {
+            Object[] values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].read(container);
+            }
+            return values;
+        }
+
+        /**
+         * Returns whether a container holds a positional record that was read by {@link SerializationReader#readElement()}
+         */
+        private static boolean isRecord(SerializationContainer container) {
+            return container.contains(SerializationReader.RECORD_FINGERPRINT) && container.contains(SerializationReader.RECORD_VALUES);
+        }
+
+        /**
+         * Reads the values of all fields from a positional record that was read as a tree.
+         * The values are matched to the fields by their position, so the record must have been written with the same field layout.
+         *
+         * @param record the container with the fingerprint and the values of the record
+         * @return the values in the order of the fields
+         */
+        private Object[] readRecord(SerializationContainer record) throws SerializationException {
+            int writtenFingerprint = record.get(SerializationReader.RECORD_FINGERPRINT).getAsInt();
+            SerializationArray recordValues = record.get(SerializationReader.RECORD_VALUES).getAsArray();
+            if (writtenFingerprint != fingerprint || recordValues.length() != fields.length)
+                throw new SerializationException("The positional record was written with another field layout (fingerprint " + Integer.toHexString(writtenFingerprint) + " with " + recordValues.length() + " fields) than the serializer " + id + " expects (fingerprint " + Integer.toHexString(fingerprint) + " with " + fields.length + " fields).");
+            Object[] values = new Object[fields.length];
+            SerializationContainer container = record.getContext().createContainer();
+            for (int i = 0; i < fields.length; i++) {
+                container.set(fields[i].getKey(), recordValues.get(i));
+                values[i] = fields[i].read(container);
+            }
+            return values;
+        }
+
+        /**
+         * Reads the values of all fields from the next container or positional record of a reader.
+         * The keys of a container may appear in any order. Unknown keys are skipped and missing keys are resolved with {@link AbstractSerializableField#readAbsent(SerializationContext)}.
+         *
+         * @param reader the reader
+         * @return the values in the order of the fields
+         */
+        private Object[] read(SerializationReader reader) throws SerializationException, IOException {
+            Object[] values = new Object[fields.length];
+            if (reader.peek() == SerializationToken.BEGIN_RECORD) {
+                reader.beginRecord(fingerprint, fields.length);
+                for (int i = 0; i < fields.length; i++) {
+                    values[i] = fields[i].read(reader);
+                }
+                return values;
+            }
+
+            boolean[] present = new boolean[fields.length];
+
+            reader.beginContainer();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                int[] slots = slotsByKey.get(name);
+
+                if (slots == null) {
+                    reader.skipValue();
+                } else if (slots.length == 1) {
+                    values[slots[0]] = fields[slots[0]].read(reader);
+                    present[slots[0]] = true;
+                } else {
+                    // Several fields are stored with the same key. The value can only be consumed once, so it is read into a container.
+                    SerializationContainer container = reader.getContext().createContainer();
+                    container.set(name, reader.readElement());
+                    for (int slot : slots) {
+                        values[slot] = fields[slot].read(container);
+                        present[slot] = true;
+                    }
+                }
+            }
+            reader.endContainer();
+
+            for (int i = 0; i < fields.length; i++) {
+                if (!present[i])
+                    values[i] = fields[i].readAbsent(reader.getContext());
+            }
+            return values;
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package de.verdox.vserializer.generic;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread safe map that compares its keys by identity and does not keep them alive.
+ * Entries are removed once their key was garbage collected.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class WeakIdentityMap<K, V> {
+    private final Map<WeakKey<K>, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    @Nullable
+    V get(K key) {
+        expungeStaleEntries();
+        return map.get(new WeakKey<>(key, null));
+    }
+
+    void put(K key, V value) {
+        expungeStaleEntries();
+        map.put(new WeakKey<>(key, queue), value);
+    }
+
+    void remove(K key) {
+        expungeStaleEntries();
+        map.remove(new WeakKey<>(key, null));
+    }
+
+    int size() {
+        expungeStaleEntries();
+        return map.size();
+    }
+
+    private void expungeStaleEntries() {
+        Object stale;
+        while ((stale = queue.poll()) != null)
+            map.remove(stale);
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        private WeakKey(K referent, @Nullable ReferenceQueue<K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            // Cleared keys are only equal to themselves, so stale entries can still be removed
+            if (!(o instanceof WeakKey<?> that)) return false;
+            Object referent = get();
+            return referent != null && referent == that.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,49 +1,28 @@
 package de.verdox.vserializer.generic.primitive;
 
-import de.verdox.vserializer.exception.SerializationException;
 import de.verdox.vserializer.generic.SerializationContext;
 import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationReader;
+import de.verdox.vserializer.generic.SerializationToken;
+import de.verdox.vserializer.generic.SerializationWriter;
 import de.verdox.vserializer.generic.Serializer;
 
-import java.util.function.Function;
+import java.io.IOException;
 
+/**
+ * Serializers for primitive arrays. They use the bulk hooks of {@link SerializationContext#create(int[])} and {@link de.verdox.vserializer.generic.SerializationArray#getAsIntArray()}
+ * so no value is boxed and no intermediate wrapper array is created.
+ */
 public interface PrimitiveArraySerializers {
-    abstract class PrimitiveArraySerializer<PRIMITIVE, WRAPPER> implements Serializer<PRIMITIVE> {
-
-        protected final Serializer<WRAPPER[]> wrapperSerializer;
-        protected final Function<PRIMITIVE, WRAPPER[]> wrapFunction;
-        protected final Function<WRAPPER[], PRIMITIVE> unwrapFunction;
+    abstract class PrimitiveArraySerializer<PRIMITIVE> implements Serializer<PRIMITIVE> {
         protected final String id;
         protected final Class<? extends PRIMITIVE> type;
 
-        protected PrimitiveArraySerializer(
-                Serializer<WRAPPER[]> wrapperSerializer,
-                Function<PRIMITIVE, WRAPPER[]> wrapFunction,
-                Function<WRAPPER[], PRIMITIVE> unwrapFunction,
-                String id,
-                Class<? extends PRIMITIVE> type) {
-
-            this.wrapperSerializer = wrapperSerializer;
-            this.wrapFunction = wrapFunction;
-            this.unwrapFunction = unwrapFunction;
+        protected PrimitiveArraySerializer(String id, Class<? extends PRIMITIVE> type) {
             this.id = id;
             this.type = type;
         }
 
-        @Override
-        public SerializationElement serialize(SerializationContext ctx, PRIMITIVE primitiveArray) throws SerializationException {
-            if (primitiveArray == null) return ctx.createNull();
-            WRAPPER[] boxed = wrapFunction.apply(primitiveArray);
-            return wrapperSerializer.serialize(ctx, boxed);
-        }
-
-        @Override
-        public PRIMITIVE deserialize(SerializationElement element) throws SerializationException {
-            if (element == null || element.isNull()) return unwrapFunction.apply(null);
-            WRAPPER[] boxed = wrapperSerializer.deserialize(element);
-            return unwrapFunction.apply(boxed);
-        }
-
         @Override
         public String id() {
             return id;
@@ -55,179 +34,259 @@ public interface PrimitiveArraySerializers {
         }
     }
 
-    class BoolArray extends PrimitiveArraySerializer<boolean[], Boolean> {
+    class BoolArray extends PrimitiveArraySerializer<boolean[]> {
         public BoolArray() {
-            super(
-                    Serializer.Array.create(Primitive.BOOLEAN, Boolean[]::new),
-                    (boolean[] arr) -> {
-                        if (arr == null) return null;
-                        Boolean[] boxed = new Boolean[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    (Boolean[] boxed) -> {
-                        if (boxed == null) return new boolean[0];
-                        boolean[] unboxed = new boolean[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "boolean_array",
-                    boolean[].class
-            );
+            super("boolean_array", boolean[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, boolean[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public boolean[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new boolean[0];
+            return element.getAsArray().getAsBooleanArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, boolean[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public boolean[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new boolean[0];
+            }
+            return reader.nextBooleanArray();
         }
     }
 
-    public static final class ByteArray extends PrimitiveArraySerializer<byte[], Byte> {
+    public static final class ByteArray extends PrimitiveArraySerializer<byte[]> {
         public ByteArray() {
-            super(
-                    Serializer.Array.create(Primitive.BYTE, Byte[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Byte[] boxed = new Byte[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new byte[0];
-                        byte[] unboxed = new byte[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "byte_array",
-                    byte[].class
-            );
+            super("byte_array", byte[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, byte[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public byte[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new byte[0];
+            return element.getAsArray().getAsByteArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, byte[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public byte[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new byte[0];
+            }
+            return reader.nextByteArray();
         }
     }
 
-    public static final class ShortArray extends PrimitiveArraySerializer<short[], Short> {
+    public static final class ShortArray extends PrimitiveArraySerializer<short[]> {
         public ShortArray() {
-            super(
-                    Serializer.Array.create(Primitive.SHORT, Short[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Short[] boxed = new Short[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new short[0];
-                        short[] unboxed = new short[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "short_array",
-                    short[].class
-            );
+            super("short_array", short[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, short[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public short[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new short[0];
+            return element.getAsArray().getAsShortArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, short[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public short[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new short[0];
+            }
+            return reader.nextShortArray();
         }
     }
 
-    public static final class IntArray extends PrimitiveArraySerializer<int[], Integer> {
+    public static final class IntArray extends PrimitiveArraySerializer<int[]> {
         public IntArray() {
-            super(
-                    Serializer.Array.create(Primitive.INTEGER, Integer[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Integer[] boxed = new Integer[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new int[0];
-                        int[] unboxed = new int[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "int_array",
-                    int[].class
-            );
+            super("int_array", int[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, int[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public int[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new int[0];
+            return element.getAsArray().getAsIntArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, int[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public int[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new int[0];
+            }
+            return reader.nextIntArray();
         }
     }
 
-    public static final class LongArray extends PrimitiveArraySerializer<long[], Long> {
+    public static final class LongArray extends PrimitiveArraySerializer<long[]> {
         public LongArray() {
-            super(
-                    Serializer.Array.create(Primitive.LONG, Long[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Long[] boxed = new Long[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new long[0];
-                        long[] unboxed = new long[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "long_array",
-                    long[].class
-            );
+            super("long_array", long[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, long[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public long[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new long[0];
+            return element.getAsArray().getAsLongArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, long[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public long[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new long[0];
+            }
+            return reader.nextLongArray();
         }
     }
 
-    public static final class FloatArray extends PrimitiveArraySerializer<float[], Float> {
+    public static final class FloatArray extends PrimitiveArraySerializer<float[]> {
         public FloatArray() {
-            super(
-                    Serializer.Array.create(Primitive.FLOAT, Float[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Float[] boxed = new Float[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new float[0];
-                        float[] unboxed = new float[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "float_array",
-                    float[].class
-            );
+            super("float_array", float[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, float[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public float[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new float[0];
+            return element.getAsArray().getAsFloatArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, float[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public float[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new float[0];
+            }
+            return reader.nextFloatArray();
         }
     }
 
-    public static final class DoubleArray extends PrimitiveArraySerializer<double[], Double> {
+    public static final class DoubleArray extends PrimitiveArraySerializer<double[]> {
         public DoubleArray() {
-            super(
-                    Serializer.Array.create(Primitive.DOUBLE, Double[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Double[] boxed = new Double[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new double[0];
-                        double[] unboxed = new double[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "double_array",
-                    double[].class
-            );
+            super("double_array", double[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, double[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public double[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new double[0];
+            return element.getAsArray().getAsDoubleArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, double[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public double[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new double[0];
+            }
+            return reader.nextDoubleArray();
         }
     }
 
-    public static final class CharArray extends PrimitiveArraySerializer<char[], Character> {
+    public static final class CharArray extends PrimitiveArraySerializer<char[]> {
         public CharArray() {
-            super(
-                    Serializer.Array.create(Primitive.CHARACTER, Character[]::new),
-                    arr -> {
-                        if (arr == null) return null;
-                        Character[] boxed = new Character[arr.length];
-                        for (int i = 0; i < arr.length; i++) boxed[i] = arr[i];
-                        return boxed;
-                    },
-                    boxed -> {
-                        if (boxed == null) return new char[0];
-                        char[] unboxed = new char[boxed.length];
-                        for (int i = 0; i < boxed.length; i++) unboxed[i] = boxed[i];
-                        return unboxed;
-                    },
-                    "char_array",
-                    char[].class
-            );
+            super("char_array", char[].class);
+        }
+
+        @Override
+        public SerializationElement serialize(SerializationContext ctx, char[] array) {
+            if (array == null) return ctx.createNull();
+            return ctx.create(array);
+        }
+
+        @Override
+        public char[] deserialize(SerializationElement element) {
+            if (element == null || element.isNull()) return new char[0];
+            return element.getAsArray().getAsCharArray();
+        }
+
+        @Override
+        public void write(SerializationWriter writer, char[] array) throws IOException {
+            writer.value(array);
+        }
+
+        @Override
+        public char[] read(SerializationReader reader) throws IOException {
+            if (reader.peek() == SerializationToken.NULL) {
+                reader.nextNull();
+                return new char[0];
+            }
+            return reader.nextCharArray();
         }
     }
 }
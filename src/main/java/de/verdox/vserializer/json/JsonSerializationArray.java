@@ -2,6 +2,8 @@ package de.verdox.vserializer.json;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import de.verdox.vserializer.generic.ElementKind;
 import de.verdox.vserializer.generic.SerializationArray;
 import de.verdox.vserializer.generic.SerializationElement;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +15,16 @@ public class JsonSerializationArray extends JsonSerializationElement implements
         super(serializerContext, jsonElement);
     }
 
+    @Override
+    public SerializationArray getAsArray() {
+        return this;
+    }
+
+    @Override
+    public Iterator<SerializationElement> cursor() {
+        return new JsonSerializationCursor(getContext(), getJsonElement().iterator());
+    }
+
     @Override
     public int length() {
         return jsonElement.getAsJsonArray().size();
@@ -20,22 +32,41 @@ public class JsonSerializationArray extends JsonSerializationElement implements
 
     @Override
     public JsonSerializationElement get(int index) {
-        return getContext().toElement(jsonElement.getAsJsonArray().get(index));
+        return getContext().wrap(jsonElement.getAsJsonArray().get(index));
     }
 
     @Override
     public void add(SerializationElement serializationElement) {
-        jsonElement.getAsJsonArray().add(((JsonSerializationElement) getContext().convert(serializationElement, false)).jsonElement);
+        JsonElement element = ((JsonSerializationElement) getContext().convert(serializationElement, false)).jsonElement;
+        jsonElement.getAsJsonArray().add(element);
     }
 
     @Override
     public void set(int index, SerializationElement serializationElement) {
-        jsonElement.getAsJsonArray().set(index, ((JsonSerializationElement) getContext().convert(serializationElement, false)).jsonElement);
+        JsonElement element = ((JsonSerializationElement) getContext().convert(serializationElement, false)).jsonElement;
+        jsonElement.getAsJsonArray().set(index, element);
     }
 
     @Override
     public SerializationElement remove(int index) {
-        return getContext().toElement(jsonElement.getAsJsonArray().remove(index));
+        JsonElement removed = jsonElement.getAsJsonArray().remove(index);
+        return getContext().wrap(removed);
+    }
+
+    /**
+     * Returns the kind shared by all elements of this array.
+     * Several wrappers can share the same {@link JsonArray}, so the kind is computed from the json elements on every call instead of being kept by a wrapper.
+     * It does not wrap the elements and stops at the first element of another kind.
+     */
+    @Override
+    public ElementKind elementKind() {
+        ElementKind kind = ElementKind.EMPTY;
+        for (JsonElement element : getJsonElement()) {
+            kind = kind.combine(kindOf(element));
+            if (kind == ElementKind.MIXED)
+                break;
+        }
+        return kind;
     }
 
     @Override
@@ -45,6 +76,78 @@ public class JsonSerializationArray extends JsonSerializationElement implements
         }
     }
 
+    @Override
+    public boolean[] getAsBooleanArray() {
+        JsonArray jsonArray = getJsonElement();
+        boolean[] array = new boolean[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsBoolean();
+        return array;
+    }
+
+    @Override
+    public byte[] getAsByteArray() {
+        JsonArray jsonArray = getJsonElement();
+        byte[] array = new byte[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsByte();
+        return array;
+    }
+
+    @Override
+    public short[] getAsShortArray() {
+        JsonArray jsonArray = getJsonElement();
+        short[] array = new short[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsShort();
+        return array;
+    }
+
+    @Override
+    public int[] getAsIntArray() {
+        JsonArray jsonArray = getJsonElement();
+        int[] array = new int[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsInt();
+        return array;
+    }
+
+    @Override
+    public long[] getAsLongArray() {
+        JsonArray jsonArray = getJsonElement();
+        long[] array = new long[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsLong();
+        return array;
+    }
+
+    @Override
+    public float[] getAsFloatArray() {
+        JsonArray jsonArray = getJsonElement();
+        float[] array = new float[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsFloat();
+        return array;
+    }
+
+    @Override
+    public double[] getAsDoubleArray() {
+        JsonArray jsonArray = getJsonElement();
+        double[] array = new double[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = jsonArray.get(i).getAsDouble();
+        return array;
+    }
+
+    @Override
+    public char[] getAsCharArray() {
+        JsonArray jsonArray = getJsonElement();
+        char[] array = new char[jsonArray.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = toCharacter(jsonArray.get(i));
+        return array;
+    }
+
     @NotNull
     @Override
     public Iterator<SerializationElement> iterator() {
@@ -57,7 +160,7 @@ public class JsonSerializationArray extends JsonSerializationElement implements
 
             @Override
             public SerializationElement next() {
-                return getContext().toElement(iterator.next());
+                return getContext().wrap(iterator.next());
             }
 
             @Override
@@ -71,4 +174,19 @@ public class JsonSerializationArray extends JsonSerializationElement implements
     public JsonArray getJsonElement() {
         return super.getJsonElement().getAsJsonArray();
     }
+
+    private static ElementKind kindOf(JsonElement element) {
+        if (element == null || element.isJsonNull())
+            return ElementKind.NULL;
+        else if (element.isJsonArray())
+            return ElementKind.ARRAY;
+        else if (element.isJsonObject())
+            return ElementKind.CONTAINER;
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean())
+            return ElementKind.BOOLEAN;
+        else if (primitive.isNumber())
+            return ElementKind.ofNumber(primitive.getAsNumber());
+        return ElementKind.ofString(primitive.getAsString());
+    }
 }
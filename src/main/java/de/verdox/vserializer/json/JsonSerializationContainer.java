@@ -1,8 +1,8 @@
 package de.verdox.vserializer.json;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
-import de.verdox.vserializer.bson.BsonSerializationContainer;
 import de.verdox.vserializer.generic.SerializationContainer;
 import de.verdox.vserializer.generic.SerializationElement;
 import org.jetbrains.annotations.NotNull;
@@ -14,6 +14,11 @@ public class JsonSerializationContainer extends JsonSerializationElement impleme
         super(serializerContext, jsonElement);
     }
 
+    @Override
+    public SerializationContainer getAsContainer() {
+        return this;
+    }
+
     @Override
     public Collection<String> getChildKeys() {
         return jsonElement.getAsJsonObject().keySet();
@@ -22,7 +27,63 @@ public class JsonSerializationContainer extends JsonSerializationElement impleme
     @Override
     public @NotNull SerializationElement get(String key) {
         JsonElement jsonChild = jsonElement.getAsJsonObject().get(key);
-        return getContext().toElement(jsonChild);
+        return getContext().wrap(jsonChild);
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        return getJsonChild(key).getAsBoolean();
+    }
+
+    @Override
+    public byte getByte(String key) {
+        return getJsonChild(key).getAsByte();
+    }
+
+    @Override
+    public short getShort(String key) {
+        return getJsonChild(key).getAsShort();
+    }
+
+    @Override
+    public int getInt(String key) {
+        return getJsonChild(key).getAsInt();
+    }
+
+    @Override
+    public long getLong(String key) {
+        return getJsonChild(key).getAsLong();
+    }
+
+    @Override
+    public float getFloat(String key) {
+        return getJsonChild(key).getAsFloat();
+    }
+
+    @Override
+    public double getDouble(String key) {
+        return getJsonChild(key).getAsDouble();
+    }
+
+    @Override
+    public char getCharacter(String key) {
+        return toCharacter(getJsonChild(key));
+    }
+
+    @Override
+    public String getString(String key) {
+        return getJsonChild(key).getAsString();
+    }
+
+    /**
+     * Returns the json node that is mapped to the specified key
+     *
+     * @param key the key
+     * @return the node or {@link JsonNull#INSTANCE} if no node was mapped to this key
+     */
+    protected JsonElement getJsonChild(String key) {
+        JsonElement jsonChild = getJsonElement().get(key);
+        return jsonChild == null ? JsonNull.INSTANCE : jsonChild;
     }
 
     @Override
@@ -0,0 +1,51 @@
+package de.verdox.vserializer.json;
+
+import com.google.gson.JsonElement;
+import de.verdox.vserializer.generic.SerializationArray;
+import de.verdox.vserializer.generic.SerializationElement;
+
+import java.util.Iterator;
+
+/**
+ * The {@link SerializationArray#cursor()} of a {@link JsonSerializationArray}.
+ * It keeps one wrapper per type of json node and points it at the next node instead of allocating a new wrapper for every element.
+ */
+final class JsonSerializationCursor implements Iterator<SerializationElement> {
+    private final JsonSerializerContext context;
+    private final Iterator<JsonElement> iterator;
+    private JsonSerializationElement container;
+    private JsonSerializationElement array;
+    private JsonSerializationElement primitive;
+    private JsonSerializationElement nullElement;
+
+    JsonSerializationCursor(JsonSerializerContext context, Iterator<JsonElement> iterator) {
+        this.context = context;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public SerializationElement next() {
+        JsonElement next = iterator.next();
+        if (next == null || next.isJsonNull()) {
+            if (nullElement == null)
+                nullElement = context.wrap(next);
+            return nullElement;
+        } else if (next.isJsonObject())
+            return container = moveTo(container, next);
+        else if (next.isJsonArray())
+            return array = moveTo(array, next);
+        return primitive = moveTo(primitive, next);
+    }
+
+    private JsonSerializationElement moveTo(JsonSerializationElement wrapper, JsonElement next) {
+        if (wrapper == null)
+            return context.wrap(next);
+        wrapper.moveTo(next);
+        return wrapper;
+    }
+}
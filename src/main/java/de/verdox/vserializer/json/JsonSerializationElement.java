@@ -15,14 +15,22 @@ import java.util.Objects;
 
 @ApiStatus.Experimental
 public class JsonSerializationElement implements SerializationElement {
+    private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
     private final JsonSerializerContext serializerContext;
-    protected final JsonElement jsonElement;
+    protected JsonElement jsonElement;
 
     JsonSerializationElement(JsonSerializerContext serializerContext, JsonElement jsonElement) {
         this.serializerContext = serializerContext;
         this.jsonElement = jsonElement;
     }
 
+    /**
+     * Points this wrapper at another json node of the same type. Only used by {@link JsonSerializationCursor}.
+     */
+    void moveTo(JsonElement jsonElement) {
+        this.jsonElement = jsonElement;
+    }
+
     @Override
     public boolean getAsBoolean() {
         return jsonElement.getAsBoolean();
@@ -35,7 +43,20 @@ public class JsonSerializationElement implements SerializationElement {
 
     @Override
     public char getAsCharacter() {
-        return jsonElement.getAsCharacter();
+        return toCharacter(jsonElement);
+    }
+
+    /**
+     * Returns the first character of the string of a json element
+     *
+     * @param jsonElement the json element
+     * @return the character
+     */
+    static char toCharacter(JsonElement jsonElement) {
+        String s = jsonElement.getAsString();
+        if (s.isEmpty())
+            throw new UnsupportedOperationException("String value is empty");
+        return s.charAt(0);
     }
 
     @Override
@@ -80,12 +101,12 @@ public class JsonSerializationElement implements SerializationElement {
 
     @Override
     public SerializationContainer getAsContainer() {
-        return getContext().createContainer(jsonElement.getAsJsonObject());
+        return (SerializationContainer) getContext().wrap(jsonElement.getAsJsonObject());
     }
 
     @Override
     public SerializationArray getAsArray() {
-        return getContext().createArray(jsonElement.getAsJsonArray());
+        return (SerializationArray) getContext().wrap(jsonElement.getAsJsonArray());
     }
 
     @Override
@@ -99,7 +120,7 @@ public class JsonSerializationElement implements SerializationElement {
 
     @Override
     public String toString() {
-        return new GsonBuilder().setPrettyPrinting().create().toJson(jsonElement);
+        return PRETTY_GSON.toJson(jsonElement);
     }
 
     @Override
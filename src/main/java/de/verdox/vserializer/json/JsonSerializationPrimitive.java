@@ -20,7 +20,7 @@ public class JsonSerializationPrimitive extends JsonSerializationElement impleme
 
     @Override
     public char getAsCharacter() {
-        return getJsonElement().getAsCharacter();
+        return toCharacter(getJsonElement());
     }
 
     @Override
@@ -0,0 +1,136 @@
+package de.verdox.vserializer.json;
+
+import com.google.gson.JsonParser;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import de.verdox.vserializer.generic.SerializationReader;
+import de.verdox.vserializer.generic.SerializationToken;
+
+import java.io.IOException;
+
+/**
+ * A {@link SerializationReader} that reads json text through a gson {@link JsonReader}.
+ */
+public class JsonSerializationReader implements SerializationReader {
+    private final JsonSerializerContext serializerContext;
+    private final JsonReader jsonReader;
+
+    protected JsonSerializationReader(JsonSerializerContext serializerContext, JsonReader jsonReader) {
+        this.serializerContext = serializerContext;
+        this.jsonReader = jsonReader;
+    }
+
+    @Override
+    public JsonSerializerContext getContext() {
+        return serializerContext;
+    }
+
+    @Override
+    public SerializationToken peek() throws IOException {
+        JsonToken token = jsonReader.peek();
+        return switch (token) {
+            case BEGIN_OBJECT -> SerializationToken.BEGIN_CONTAINER;
+            case END_OBJECT -> SerializationToken.END_CONTAINER;
+            case BEGIN_ARRAY -> SerializationToken.BEGIN_ARRAY;
+            case END_ARRAY -> SerializationToken.END_ARRAY;
+            case NAME -> SerializationToken.NAME;
+            case STRING -> SerializationToken.STRING;
+            case NUMBER -> SerializationToken.NUMBER;
+            case BOOLEAN -> SerializationToken.BOOLEAN;
+            case NULL -> SerializationToken.NULL;
+            case END_DOCUMENT -> SerializationToken.END_DOCUMENT;
+        };
+    }
+
+    @Override
+    public void beginContainer() throws IOException {
+        jsonReader.beginObject();
+    }
+
+    @Override
+    public void endContainer() throws IOException {
+        jsonReader.endObject();
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        jsonReader.beginArray();
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        jsonReader.endArray();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        return jsonReader.hasNext();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return jsonReader.nextName();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        if (jsonReader.peek() == JsonToken.STRING) {
+            return Boolean.parseBoolean(jsonReader.nextString());
+        }
+        return jsonReader.nextBoolean();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        if (jsonReader.peek() == JsonToken.BOOLEAN) {
+            return String.valueOf(jsonReader.nextBoolean());
+        }
+        return jsonReader.nextString();
+    }
+
+    @Override
+    public Number nextNumber() throws IOException {
+        return new LazilyParsedNumber(jsonReader.nextString());
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return jsonReader.nextInt();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return jsonReader.nextLong();
+    }
+
+    @Override
+    public float nextFloat() throws IOException {
+        return Float.parseFloat(jsonReader.nextString());
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return jsonReader.nextDouble();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        jsonReader.nextNull();
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        jsonReader.skipValue();
+    }
+
+    @Override
+    public JsonSerializationElement readElement() throws IOException {
+        return getContext().toElement(JsonParser.parseReader(jsonReader));
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonReader.close();
+    }
+}
@@ -0,0 +1,129 @@
+package de.verdox.vserializer.json;
+
+import com.google.gson.stream.JsonWriter;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationWriter;
+import de.verdox.vserializer.util.gson.JsonUtil;
+
+import java.io.IOException;
+
+/**
+ * A {@link SerializationWriter} that writes json text through a gson {@link JsonWriter}.
+ * The output is formatted the same way as {@link JsonSerializerContext#toJsonString(SerializationElement)}.
+ */
+public class JsonSerializationWriter implements SerializationWriter {
+    private final JsonSerializerContext serializerContext;
+    private final JsonWriter jsonWriter;
+
+    protected JsonSerializationWriter(JsonSerializerContext serializerContext, JsonWriter jsonWriter) {
+        this.serializerContext = serializerContext;
+        this.jsonWriter = jsonWriter;
+    }
+
+    @Override
+    public JsonSerializerContext getContext() {
+        return serializerContext;
+    }
+
+    @Override
+    public JsonSerializationWriter beginContainer() throws IOException {
+        jsonWriter.beginObject();
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter endContainer() throws IOException {
+        jsonWriter.endObject();
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter beginArray() throws IOException {
+        jsonWriter.beginArray();
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter endArray() throws IOException {
+        jsonWriter.endArray();
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter name(String name) throws IOException {
+        jsonWriter.name(name);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(boolean value) throws IOException {
+        jsonWriter.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(char value) throws IOException {
+        jsonWriter.value(String.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(String value) throws IOException {
+        jsonWriter.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(Number value) throws IOException {
+        jsonWriter.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(long value) throws IOException {
+        jsonWriter.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(float value) throws IOException {
+        jsonWriter.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter value(double value) throws IOException {
+        jsonWriter.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonSerializationWriter nullValue() throws IOException {
+        jsonWriter.nullValue();
+        return this;
+    }
+
+    /**
+     * Writes an element. Elements of this writer's context are written directly, all others are walked so that their keys pass through {@link #name(String)}.
+     * Json and bson elements share their classes but not their keys, which is why the context is compared.
+     */
+    @Override
+    public JsonSerializationWriter element(SerializationElement element) throws IOException {
+        if (element instanceof JsonSerializationElement jsonSerializationElement && element.getContext().equals(getContext())) {
+            JsonUtil.write(jsonSerializationElement.jsonElement, jsonWriter);
+            return this;
+        }
+        SerializationWriter.super.element(element);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        jsonWriter.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonWriter.close();
+    }
+}
@@ -4,20 +4,33 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.PrimitiveCache;
 import de.verdox.vserializer.generic.SerializationContext;
 import de.verdox.vserializer.generic.SerializationElement;
 import de.verdox.vserializer.generic.SerializationNull;
+import de.verdox.vserializer.generic.Serializer;
 import de.verdox.vserializer.util.gson.JsonUtil;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Reader;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 public class JsonSerializerContext implements SerializationContext {
+    // Shared by all trees of this context. Gson primitives are immutable and the cursor never moves these wrappers.
+    private final JsonSerializationPrimitive trueElement = new JsonSerializationPrimitive(this, new JsonPrimitive(true));
+    private final JsonSerializationPrimitive falseElement = new JsonSerializationPrimitive(this, new JsonPrimitive(false));
+    private final JsonSerializationPrimitive emptyString = new JsonSerializationPrimitive(this, new JsonPrimitive(""));
+    private final JsonSerializationNull nullElement = new JsonSerializationNull(this);
+    private final PrimitiveCache<JsonSerializationPrimitive> ints = new PrimitiveCache<>() {
+        @Override
+        protected JsonSerializationPrimitive create(int value) {
+            return new JsonSerializationPrimitive(JsonSerializerContext.this, new JsonPrimitive(value));
+        }
+    };
+
     @Override
     public JsonSerializationPrimitive create(boolean value) {
-        return new JsonSerializationPrimitive(this, new JsonPrimitive(value));
+        return value ? trueElement : falseElement;
     }
 
     @Override
@@ -27,11 +40,15 @@ public class JsonSerializerContext implements SerializationContext {
 
     @Override
     public JsonSerializationPrimitive create(String value) {
+        if ("".equals(value))
+            return emptyString;
         return new JsonSerializationPrimitive(this, new JsonPrimitive(value));
     }
 
     @Override
     public JsonSerializationPrimitive create(Number value) {
+        if (value instanceof Integer integer && PrimitiveCache.isCached(integer))
+            return ints.get(integer);
         return new JsonSerializationPrimitive(this, new JsonPrimitive(value));
     }
 
@@ -47,6 +64,8 @@ public class JsonSerializerContext implements SerializationContext {
 
     @Override
     public JsonSerializationPrimitive create(int value) {
+        if (PrimitiveCache.isCached(value))
+            return ints.get(value);
         return new JsonSerializationPrimitive(this, new JsonPrimitive(value));
     }
 
@@ -65,6 +84,70 @@ public class JsonSerializerContext implements SerializationContext {
         return new JsonSerializationPrimitive(this, new JsonPrimitive(value));
     }
 
+    @Override
+    public JsonSerializationArray create(boolean[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (boolean value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(byte[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (byte value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(short[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (short value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(int[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (int value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(long[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (long value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(float[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (float value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(double[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (double value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
+    @Override
+    public JsonSerializationArray create(char[] array) {
+        JsonArray jsonArray = new JsonArray(array.length);
+        for (char value : array)
+            jsonArray.add(value);
+        return new JsonSerializationArray(this, jsonArray);
+    }
+
     @Override
     public JsonSerializationArray createArray(int length) {
         return new JsonSerializationArray(this, new JsonArray(length));
@@ -93,7 +176,7 @@ public class JsonSerializerContext implements SerializationContext {
 
     @Override
     public SerializationNull createNull() {
-        return new JsonSerializationNull(this);
+        return nullElement;
     }
 
     @Override
@@ -110,6 +193,60 @@ public class JsonSerializerContext implements SerializationContext {
         return toElement(JsonUtil.readJsonFromFile(file));
     }
 
+    @Override
+    public JsonSerializationWriter createWriter(OutputStream outputStream) throws IOException {
+        return createWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    public JsonSerializationWriter createWriter(Writer writer) throws IOException {
+        return new JsonSerializationWriter(this, JsonUtil.newJsonWriter(writer));
+    }
+
+    @Override
+    public <T> void writeToFile(Serializer<T> serializer, T object, File file) throws IOException, SerializationException {
+        if (file.getParentFile() != null)
+            file.getParentFile().mkdirs();
+        try (JsonSerializationWriter writer = createWriter(new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8)))) {
+            serializer.write(writer, object);
+        }
+    }
+
+    @Override
+    public JsonSerializationReader createReader(InputStream inputStream) throws IOException {
+        return createReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public JsonSerializationReader createReader(Reader reader) throws IOException {
+        return new JsonSerializationReader(this, JsonUtil.newJsonReader(reader));
+    }
+
+    @Override
+    public <T> T readFromFile(Serializer<T> serializer, File file) throws IOException, SerializationException {
+        if (!file.exists())
+            return serializer.deserialize(createContainer());
+        try (JsonSerializationReader reader = createReader(new BufferedReader(new FileReader(file, StandardCharsets.UTF_8)))) {
+            return serializer.read(reader);
+        }
+    }
+
+    public <T> String toJsonString(Serializer<T> serializer, T object) throws SerializationException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonSerializationWriter writer = createWriter(stringWriter)) {
+            serializer.write(writer, object);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write the object to a json string with the serializer " + serializer.id(), e);
+        }
+        return stringWriter.toString();
+    }
+
+    public <T> T fromJsonString(Serializer<T> serializer, String jsonString) throws SerializationException {
+        try (JsonSerializationReader reader = createReader(new StringReader(jsonString))) {
+            return serializer.read(reader);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read the object from a json string with the serializer " + serializer.id(), e);
+        }
+    }
+
     public String toJsonString(SerializationElement serializationElement) {
         if (serializationElement instanceof JsonSerializationElement jsonSerializationElement) {
             return JsonUtil.toJsonString(jsonSerializationElement.jsonElement);
@@ -121,9 +258,25 @@ public class JsonSerializerContext implements SerializationContext {
         return toElement(JsonUtil.readFromString(jsonString));
     }
 
+    /**
+     * Wraps a json element that enters this context from outside, for example after it was parsed.
+     *
+     * @param jsonElement the json element
+     * @return the wrapping serialization element
+     */
     public JsonSerializationElement toElement(JsonElement jsonElement) {
+        return wrap(jsonElement);
+    }
+
+    /**
+     * Wraps a json element that is already part of a tree of this context without touching its content.
+     *
+     * @param jsonElement the json element
+     * @return the wrapping serialization element
+     */
+    protected JsonSerializationElement wrap(JsonElement jsonElement) {
         if (jsonElement == null || jsonElement.isJsonNull()) {
-            return new JsonSerializationNull(this);
+            return nullElement;
         } else if (jsonElement.isJsonObject()) {
             return new JsonSerializationContainer(this, jsonElement.getAsJsonObject());
         } else if (jsonElement.isJsonArray()) {
@@ -136,6 +289,12 @@ public class JsonSerializerContext implements SerializationContext {
 
     @Override
     public boolean equals(Object obj) {
-        return obj instanceof JsonSerializerContext;
+        // Bson contexts store their keys escaped, so trees of both contexts are converted when they are mixed
+        return obj != null && obj.getClass() == getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
     }
 }
@@ -4,6 +4,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import java.io.*;
 import java.nio.file.Path;
@@ -31,6 +33,18 @@ public class JsonUtil {
         return GSON_INSTANCE.toJson(jsonElement);
     }
 
+    public static JsonWriter newJsonWriter(Writer writer) throws IOException {
+        return GSON_INSTANCE.newJsonWriter(writer);
+    }
+
+    public static JsonReader newJsonReader(Reader reader) {
+        return GSON_INSTANCE.newJsonReader(reader);
+    }
+
+    public static void write(JsonElement jsonElement, JsonWriter jsonWriter) {
+        GSON_INSTANCE.toJson(jsonElement, jsonWriter);
+    }
+
     public static JsonObject readJsonInputStream(InputStream inputStream) throws IOException {
         Objects.requireNonNull(inputStream);
         JsonObject jsonObject;
@@ -0,0 +1,12 @@
+package de.verdox.vserializer.tests.binary;
+
+import de.verdox.vserializer.binary.BinarySerializationContext;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.tests.test.SerializerContextTests;
+
+public class BinarySerializerContextTests extends SerializerContextTests {
+    @Override
+    public SerializationContext context() {
+        return new BinarySerializationContext();
+    }
+}
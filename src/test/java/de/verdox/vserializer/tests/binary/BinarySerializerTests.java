@@ -0,0 +1,309 @@
+package de.verdox.vserializer.tests.binary;
+
+import de.verdox.vserializer.SerializableField;
+import de.verdox.vserializer.binary.BinarySerializationContext;
+import de.verdox.vserializer.binary.BinarySerializationReader;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationArray;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationReader;
+import de.verdox.vserializer.generic.Serializer;
+import de.verdox.vserializer.generic.SerializerBuilder;
+import de.verdox.vserializer.tests.model.Gender;
+import de.verdox.vserializer.tests.model.Job;
+import de.verdox.vserializer.tests.model.Person;
+import de.verdox.vserializer.tests.test.SerializerTests;
+import de.verdox.vserializer.tests.util.TestInputs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class BinarySerializerTests extends SerializerTests {
+    private static final BinarySerializationContext SERIALIZATION_CONTEXT = new BinarySerializationContext();
+    private static final BinarySerializationContext POSITIONAL_CONTEXT = SERIALIZATION_CONTEXT.withPositionalRecords();
+    private static final BinarySerializationContext VARINT_CONTEXT = SERIALIZATION_CONTEXT.withVarInts();
+
+    @Override
+    public SerializationContext context() {
+        return SERIALIZATION_CONTEXT;
+    }
+
+    @ParameterizedTest
+    @MethodSource("testInputsProvider")
+    void testEncodedRoundTrip(TestInputs.TestInput<?> input) throws SerializationException, IOException {
+        testEncoded(SERIALIZATION_CONTEXT, input);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testInputsProvider")
+    void testVarIntRoundTrip(TestInputs.TestInput<?> input) throws SerializationException, IOException {
+        testEncoded(VARINT_CONTEXT, input);
+        testEncoded(VARINT_CONTEXT.withPositionalRecords(), input);
+    }
+
+    private <T> void testEncoded(BinarySerializationContext context, TestInputs.TestInput<T> input) throws SerializationException, IOException {
+        Serializer<T> serializer = input.serializer();
+        Assertions.assertEquals(input.singleInput(), context.fromBytes(serializer, context.toBytes(serializer, input.singleInput())));
+
+        SerializationElement element = serializer.serialize(context, input.singleInput());
+        Assertions.assertEquals(element, context.fromBytes(context.toBytes(element)));
+
+        Serializer<List<T>> collectionSerializer = Serializer.Collection.create(serializer, ArrayList::new);
+        List<T> collection = new ArrayList<>(input.collectionInput());
+        Assertions.assertEquals(collection, context.fromBytes(collectionSerializer, context.toBytes(collectionSerializer, collection)));
+
+        Serializer<T[]> arraySerializer = Serializer.Array.create(serializer, input.arrayCreator());
+        Assertions.assertArrayEquals(input.arrayInput(), context.fromBytes(arraySerializer, context.toBytes(arraySerializer, input.arrayInput())));
+
+        Serializer<Map<String, T>> mapSerializer = Serializer.Map.create(Serializer.Primitive.STRING, serializer, HashMap::new);
+        Map<String, T> map = new HashMap<>(input.mapInput());
+        Assertions.assertEquals(map, context.fromBytes(mapSerializer, context.toBytes(mapSerializer, map)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testInputsProvider")
+    void testPositionalRoundTrip(TestInputs.TestInput<?> input) throws SerializationException {
+        testPositional(input);
+    }
+
+    private <T> void testPositional(TestInputs.TestInput<T> input) throws SerializationException {
+        Serializer<T> serializer = input.serializer();
+        Assertions.assertEquals(input.singleInput(), POSITIONAL_CONTEXT.fromBytes(serializer, POSITIONAL_CONTEXT.toBytes(serializer, input.singleInput())));
+
+        Serializer<List<T>> collectionSerializer = Serializer.Collection.create(serializer, ArrayList::new);
+        List<T> collection = new ArrayList<>(input.collectionInput());
+        Assertions.assertEquals(collection, POSITIONAL_CONTEXT.fromBytes(collectionSerializer, POSITIONAL_CONTEXT.toBytes(collectionSerializer, collection)));
+
+        Serializer<Map<String, T>> mapSerializer = Serializer.Map.create(Serializer.Primitive.STRING, serializer, HashMap::new);
+        Map<String, T> map = new HashMap<>(input.mapInput());
+        Assertions.assertEquals(map, POSITIONAL_CONTEXT.fromBytes(mapSerializer, POSITIONAL_CONTEXT.toBytes(mapSerializer, map)));
+    }
+
+    @Test
+    void testMapKeyLayoutsAreStreamed() throws SerializationException {
+        Serializer<Map<Integer, Job>> numbers = Serializer.Map.create(Serializer.Primitive.INTEGER, Job.SERIALIZER, HashMap::new);
+        Map<Integer, Job> numberMap = Map.of(1, new Job("Zanamon", 5000), 2, new Job("Doogle", 7000));
+        Assertions.assertEquals(numberMap, SERIALIZATION_CONTEXT.fromBytes(numbers, SERIALIZATION_CONTEXT.toBytes(numbers, numberMap)));
+
+        Serializer<Map<Job, Gender>> jobs = Serializer.Map.create(Job.SERIALIZER, Serializer.Enum.create("gender", Gender.class), HashMap::new);
+        Map<Job, Gender> jobMap = Map.of(new Job("Zanamon", 5000), Gender.FEMALE, new Job("Doogle", 7000), Gender.MALE);
+        Assertions.assertEquals(jobMap, SERIALIZATION_CONTEXT.fromBytes(jobs, SERIALIZATION_CONTEXT.toBytes(jobs, jobMap)));
+        Assertions.assertEquals(jobMap, POSITIONAL_CONTEXT.fromBytes(jobs, POSITIONAL_CONTEXT.toBytes(jobs, jobMap)));
+    }
+
+    @Test
+    void testPositionalRecordsAreSmaller() throws SerializationException {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+
+        byte[] keyed = SERIALIZATION_CONTEXT.toBytes(Person.SERIALIZER, person);
+        byte[] positional = POSITIONAL_CONTEXT.toBytes(Person.SERIALIZER, person);
+        Assertions.assertTrue(positional.length * 3 < keyed.length * 2, "positional " + positional.length + " bytes, keyed " + keyed.length + " bytes");
+    }
+
+    @Test
+    void testPositionalContextReadsKeyedData() throws SerializationException {
+        Person person = new Person("Hans", 28, Gender.MALE);
+        Assertions.assertEquals(person, POSITIONAL_CONTEXT.fromBytes(Person.SERIALIZER, SERIALIZATION_CONTEXT.toBytes(Person.SERIALIZER, person)));
+    }
+
+    @Test
+    void testPositionalRecordWithOtherLayoutIsRejected() throws SerializationException {
+        byte[] bytes = POSITIONAL_CONTEXT.toBytes(Person.SERIALIZER, new Person("Hans", 28, Gender.MALE));
+        Assertions.assertThrows(SerializationException.class, () -> POSITIONAL_CONTEXT.fromBytes(Job.SERIALIZER, bytes));
+    }
+
+    @Test
+    void testPositionalRecordIsReadAsContainerElement() throws SerializationException, IOException {
+        byte[] bytes = POSITIONAL_CONTEXT.toBytes(Job.SERIALIZER, new Job("Zanamon", 5000));
+        SerializationElement element = POSITIONAL_CONTEXT.fromBytes(bytes);
+
+        Assertions.assertTrue(element.isContainer());
+        Assertions.assertTrue(element.getAsContainer().contains(SerializationReader.RECORD_FINGERPRINT));
+        SerializationArray values = element.getAsContainer().get(SerializationReader.RECORD_VALUES).getAsArray();
+        Assertions.assertEquals("Zanamon", values.get(0).getAsString());
+        Assertions.assertEquals(5000, values.get(1).getAsDouble());
+    }
+
+    @Test
+    void testPositionalRecordsAreDeserializedFromTrees(@TempDir File directory) throws SerializationException, IOException {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        Assertions.assertEquals(person, Person.SERIALIZER.deserialize(POSITIONAL_CONTEXT.fromBytes(POSITIONAL_CONTEXT.toBytes(Person.SERIALIZER, person))));
+
+        File file = new File(directory, "person.bin");
+        POSITIONAL_CONTEXT.writeToFile(Person.SERIALIZER, person, file);
+        Assertions.assertEquals(person, Person.SERIALIZER.deserialize(POSITIONAL_CONTEXT.readFromFile(file)));
+
+        Serializer<Map<String, Person>> mapSerializer = Serializer.Map.create(Serializer.Primitive.STRING, Person.SERIALIZER, HashMap::new);
+        Map<String, Person> map = Map.of("lisa", person, "hans", new Person("Hans", 28, Gender.MALE));
+        Assertions.assertEquals(map, mapSerializer.deserialize(POSITIONAL_CONTEXT.fromBytes(POSITIONAL_CONTEXT.toBytes(mapSerializer, map))));
+
+        SerializationElement job = POSITIONAL_CONTEXT.fromBytes(POSITIONAL_CONTEXT.toBytes(Job.SERIALIZER, new Job("Zanamon", 5000)));
+        Assertions.assertThrows(SerializationException.class, () -> Person.SERIALIZER.deserialize(job));
+    }
+
+    @Test
+    void testPositionalRecordWithOtherFieldTypeIsRejected() throws SerializationException {
+        record Counter(String name, int count) {
+        }
+        Serializer<Counter> ints = SerializerBuilder.create("counter", Counter.class)
+                .constructor(
+                        new SerializableField<>("name", Serializer.Primitive.STRING, Counter::name),
+                        new SerializableField<>("count", Serializer.Primitive.INTEGER, Counter::count),
+                        Counter::new
+                )
+                .build();
+        Serializer<Counter> longs = SerializerBuilder.create("counter", Counter.class)
+                .constructor(
+                        new SerializableField<>("name", Serializer.Primitive.STRING, Counter::name),
+                        new SerializableField<>("count", Serializer.Primitive.LONG, counter -> (long) counter.count()),
+                        (name, count) -> new Counter(name, count.intValue())
+                )
+                .build();
+
+        byte[] bytes = POSITIONAL_CONTEXT.toBytes(ints, new Counter("visits", 3));
+        Assertions.assertThrows(SerializationException.class, () -> POSITIONAL_CONTEXT.fromBytes(longs, bytes));
+        Assertions.assertThrows(SerializationException.class, () -> longs.deserialize(POSITIONAL_CONTEXT.fromBytes(bytes)));
+    }
+
+    @Test
+    void testPositionalRecordWithOtherFieldOrderIsRejectedFromTrees() throws SerializationException, IOException {
+        record Pay(double base, double bonus) {
+        }
+        Serializer<Pay> baseFirst = SerializerBuilder.create("pay", Pay.class)
+                .constructor(
+                        new SerializableField<>("base", Serializer.Primitive.DOUBLE, Pay::base),
+                        new SerializableField<>("bonus", Serializer.Primitive.DOUBLE, Pay::bonus),
+                        Pay::new
+                )
+                .build();
+        Serializer<Pay> bonusFirst = SerializerBuilder.create("pay", Pay.class)
+                .constructor(
+                        new SerializableField<>("bonus", Serializer.Primitive.DOUBLE, Pay::bonus),
+                        new SerializableField<>("base", Serializer.Primitive.DOUBLE, Pay::base),
+                        (bonus, base) -> new Pay(base, bonus)
+                )
+                .build();
+
+        byte[] bytes = POSITIONAL_CONTEXT.toBytes(baseFirst, new Pay(100, 5));
+        Assertions.assertEquals(new Pay(100, 5), baseFirst.deserialize(POSITIONAL_CONTEXT.fromBytes(bytes)));
+        Assertions.assertThrows(SerializationException.class, () -> bonusFirst.deserialize(POSITIONAL_CONTEXT.fromBytes(bytes)));
+
+        // Plain arrays are not records
+        SerializationArray values = POSITIONAL_CONTEXT.createArray(POSITIONAL_CONTEXT.create(100), POSITIONAL_CONTEXT.create(5));
+        Assertions.assertThrows(RuntimeException.class, () -> baseFirst.deserialize(values));
+    }
+
+    @Test
+    void testEncodedPrimitiveArrays() throws SerializationException {
+        Assertions.assertArrayEquals(new int[]{1, -2, 3}, SERIALIZATION_CONTEXT.fromBytes(Serializer.Primitive.INT_ARRAY, SERIALIZATION_CONTEXT.toBytes(Serializer.Primitive.INT_ARRAY, new int[]{1, -2, 3})));
+        Assertions.assertArrayEquals(new char[]{'a', 'ä'}, SERIALIZATION_CONTEXT.fromBytes(Serializer.Primitive.CHAR_ARRAY, SERIALIZATION_CONTEXT.toBytes(Serializer.Primitive.CHAR_ARRAY, new char[]{'a', 'ä'})));
+    }
+
+    @Test
+    void testVarIntPrimitiveArrays() throws SerializationException {
+        short[] shorts = {0, 1, -1, Short.MIN_VALUE, Short.MAX_VALUE};
+        int[] ints = {0, 1, -1, 63, -64, 64, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        long[] longs = {0, 1, -1, Integer.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+
+        Assertions.assertArrayEquals(shorts, VARINT_CONTEXT.fromBytes(Serializer.Primitive.SHORT_ARRAY, VARINT_CONTEXT.toBytes(Serializer.Primitive.SHORT_ARRAY, shorts)));
+        Assertions.assertArrayEquals(ints, VARINT_CONTEXT.fromBytes(Serializer.Primitive.INT_ARRAY, VARINT_CONTEXT.toBytes(Serializer.Primitive.INT_ARRAY, ints)));
+        Assertions.assertArrayEquals(longs, VARINT_CONTEXT.fromBytes(Serializer.Primitive.LONG_ARRAY, VARINT_CONTEXT.toBytes(Serializer.Primitive.LONG_ARRAY, longs)));
+        Assertions.assertArrayEquals(new int[0], VARINT_CONTEXT.fromBytes(Serializer.Primitive.INT_ARRAY, VARINT_CONTEXT.toBytes(Serializer.Primitive.INT_ARRAY, new int[0])));
+    }
+
+    @Test
+    void testVarIntsAreSmaller() throws SerializationException {
+        int[] ids = new int[100];
+        for (int i = 0; i < ids.length; i++)
+            ids[i] = i - 50;
+
+        Assertions.assertTrue(VARINT_CONTEXT.toBytes(Serializer.Primitive.INT_ARRAY, ids).length < SERIALIZATION_CONTEXT.toBytes(Serializer.Primitive.INT_ARRAY, ids).length / 4);
+        Assertions.assertTrue(VARINT_CONTEXT.toBytes(Serializer.Primitive.LONG, 42L).length < SERIALIZATION_CONTEXT.toBytes(Serializer.Primitive.LONG, 42L).length);
+    }
+
+    @Test
+    void testVarIntArraysAreReadAsElements() throws SerializationException, IOException {
+        long[] longs = {5, -7, Long.MAX_VALUE};
+        SerializationElement element = VARINT_CONTEXT.fromBytes(VARINT_CONTEXT.toBytes(Serializer.Primitive.LONG_ARRAY, longs));
+
+        Assertions.assertEquals(Serializer.Primitive.LONG_ARRAY.serialize(VARINT_CONTEXT, longs), element);
+        Assertions.assertArrayEquals(longs, Serializer.Primitive.LONG_ARRAY.deserialize(element));
+    }
+
+    @Test
+    void testVarIntArraysAreSkippedAndReadByValue() throws SerializationException, IOException {
+        Serializer<List<int[]>> listSerializer = Serializer.Collection.create(Serializer.Primitive.INT_ARRAY, ArrayList::new);
+        byte[] bytes = VARINT_CONTEXT.toBytes(listSerializer, List.of(new int[]{1, 2, 3}, new int[]{-4, 300}));
+
+        try (BinarySerializationReader reader = VARINT_CONTEXT.createReader(new ByteArrayInputStream(bytes))) {
+            reader.beginArray();
+            reader.skipValue();
+            reader.beginArray();
+            Assertions.assertEquals(-4, reader.nextInt());
+            Assertions.assertEquals(300L, reader.nextLong());
+            Assertions.assertFalse(reader.hasNext());
+            reader.endArray();
+            Assertions.assertFalse(reader.hasNext());
+            reader.endArray();
+        }
+    }
+
+    @Test
+    void testEncodedNumbersKeepTheirWidth() throws IOException {
+        SerializationElement element = SERIALIZATION_CONTEXT.createArray(SERIALIZATION_CONTEXT.create((byte) 1), SERIALIZATION_CONTEXT.create(1L), SERIALIZATION_CONTEXT.create(1.5f));
+        SerializationElement decoded = SERIALIZATION_CONTEXT.fromBytes(SERIALIZATION_CONTEXT.toBytes(element));
+
+        Assertions.assertTrue(decoded.getAsArray().get(0).getAsPrimitive().isByte());
+        Assertions.assertTrue(decoded.getAsArray().get(1).getAsPrimitive().isLong());
+        Assertions.assertTrue(decoded.getAsArray().get(2).getAsPrimitive().isFloat());
+    }
+
+    @Test
+    void testWriteAndReadFile(@TempDir File directory) throws SerializationException, IOException {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        File treeFile = new File(directory, "tree.bin");
+        File streamFile = new File(directory, "stream.bin");
+
+        SERIALIZATION_CONTEXT.writeToFile(Person.SERIALIZER.serialize(SERIALIZATION_CONTEXT, person), treeFile);
+        SERIALIZATION_CONTEXT.writeToFile(Person.SERIALIZER, person, streamFile);
+
+        Assertions.assertEquals(person, Person.SERIALIZER.deserialize(SERIALIZATION_CONTEXT.readFromFile(treeFile)));
+        Assertions.assertEquals(person, SERIALIZATION_CONTEXT.readFromFile(Person.SERIALIZER, streamFile));
+    }
+
+    @Test
+    void testRejectsForeignData() {
+        Assertions.assertThrows(IOException.class, () -> SERIALIZATION_CONTEXT.fromBytes("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testRejectsInvalidStringLengths() {
+        byte[] negative = {'V', 'S', 'B', 1, 0, 10, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        Assertions.assertThrows(IOException.class, () -> SERIALIZATION_CONTEXT.fromBytes(negative));
+        Assertions.assertThrows(SerializationException.class, () -> SERIALIZATION_CONTEXT.fromBytes(Serializer.Primitive.STRING, negative));
+
+        // A string of almost Integer.MAX_VALUE bytes without any payload
+        byte[] truncated = {'V', 'S', 'B', 1, 0, 10, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0};
+        Assertions.assertThrows(IOException.class, () -> SERIALIZATION_CONTEXT.fromBytes(truncated));
+    }
+
+    @Test
+    void testRejectsPackedArraysWithMoreValuesThanBytes() {
+        // A long array of Integer.MAX_VALUE values with an empty payload
+        byte[] bytes = {'V', 'S', 'B', 1, 2, 19, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0};
+        Assertions.assertThrows(IOException.class, () -> VARINT_CONTEXT.fromBytes(bytes));
+        Assertions.assertThrows(SerializationException.class, () -> VARINT_CONTEXT.fromBytes(Serializer.Primitive.LONG_ARRAY, bytes));
+    }
+}
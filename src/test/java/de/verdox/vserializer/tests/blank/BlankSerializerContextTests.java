@@ -1,12 +1,36 @@
 package de.verdox.vserializer.tests.blank;
 
 import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationContainer;
 import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializerBuilder;
+import de.verdox.vserializer.tests.model.Gender;
+import de.verdox.vserializer.tests.model.Job;
+import de.verdox.vserializer.tests.model.Person;
 import de.verdox.vserializer.tests.test.SerializerContextTests;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 
 public class BlankSerializerContextTests extends SerializerContextTests {
     @Override
     public SerializationContext context() {
         return new BlankSerializationContext();
     }
+
+    @Test
+    void testIncrementalSerializationSharesUnchangedFields() throws SerializationException {
+        SerializerBuilder.IncrementalSerializer<Person> serializer = incrementalPersonSerializer();
+        Person person = new Person("Hans", 20, Gender.MALE);
+        person.setJob(new Job("Zanamon", 5000));
+        SerializationContainer first = serializer.serializeChanges(context(), person).container();
+
+        person.setAge(21);
+        SerializationContainer second = serializer.serializeChanges(context(), person).container();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.get("name"), second.get("name"));
+        Assertions.assertSame(first.get("gender"), second.get("gender"));
+        Assertions.assertEquals(first.get("job"), second.get("job"));
+        Assertions.assertEquals(20, first.getInt("age"));
+    }
 }
@@ -1,12 +1,215 @@
 package de.verdox.vserializer.tests.blank;
 
 import de.verdox.vserializer.blank.BlankSerializationContext;
+import de.verdox.vserializer.blank.BlankSerializationPrimitive;
+import de.verdox.vserializer.generic.SerializationArray;
+import de.verdox.vserializer.generic.SerializationContainer;
 import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.SerializationPrimitive;
 import de.verdox.vserializer.tests.test.SerializerTests;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Iterator;
+import java.util.List;
 
 public class BlankSerializerTests extends SerializerTests {
     @Override
     public SerializationContext context() {
         return new BlankSerializationContext();
     }
+
+    @Test
+    void testPackedArrayMaterializesElements() {
+        SerializationArray array = context().create(new int[]{1, -2, 3});
+
+        Assertions.assertTrue(array.isIntArray());
+        Assertions.assertEquals(3, array.length());
+        Assertions.assertTrue(array.get(1).getAsPrimitive().isInteger());
+        Assertions.assertEquals(-2, array.get(1).getAsInt());
+        Assertions.assertArrayEquals(new int[]{1, -2, 3}, array.getAsIntArray());
+        Assertions.assertEquals(context().createArray(context().create(1), context().create(-2), context().create(3)), array);
+    }
+
+    @Test
+    void testPackedArraySwitchesToElementsOnOtherType() {
+        SerializationArray array = context().create(new long[]{1, 2});
+        array.add(context().create("three"));
+
+        Assertions.assertEquals(3, array.length());
+        Assertions.assertTrue(array.get(0).getAsPrimitive().isLong());
+        Assertions.assertEquals("three", array.get(2).getAsString());
+        Assertions.assertFalse(array.isLongArray());
+
+        SerializationArray doubles = context().create(new double[]{1.5, 2.5});
+        doubles.set(0, context().create(true));
+        Assertions.assertTrue(doubles.get(0).getAsBoolean());
+        Assertions.assertEquals(2.5, doubles.get(1).getAsDouble());
+    }
+
+    @Test
+    void testArraysArePackedWhenBuiltElementByElement() {
+        SerializationArray array = context().createArray();
+        for (int i = 0; i < 200; i++)
+            array.add(context().create((byte) i));
+
+        Assertions.assertTrue(array.isByteArray());
+        Assertions.assertEquals(200, array.length());
+        Assertions.assertEquals((byte) 150, array.getAsByteArray()[150]);
+    }
+
+    @Test
+    void testPackedBooleanArray() {
+        boolean[] values = new boolean[130];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i % 3 == 0;
+        SerializationArray array = context().create(values);
+        Assertions.assertArrayEquals(values, array.getAsBooleanArray());
+
+        SerializationElement removed = array.remove(0);
+        Assertions.assertTrue(removed.getAsBoolean());
+        Assertions.assertEquals(129, array.length());
+        Assertions.assertFalse(array.get(0).getAsBoolean());
+        Assertions.assertTrue(array.get(2).getAsBoolean());
+        Assertions.assertTrue(array.get(128).getAsBoolean());
+        Assertions.assertFalse(array.get(127).getAsBoolean());
+    }
+
+    @Test
+    void testPackedArrayEquality() {
+        SerializationArray ints = context().create(new int[]{1, 2, 3});
+        SerializationArray longs = context().create(new long[]{1, 2, 3});
+        SerializationArray mixed = context().createArray(context().create("a"));
+        mixed.remove(0);
+        mixed.add(context().create(1));
+        mixed.add(context().create(2L));
+        mixed.add(context().create(3));
+
+        Assertions.assertEquals(ints, longs);
+        Assertions.assertEquals(ints, mixed);
+        Assertions.assertEquals(ints.hashCode(), mixed.hashCode());
+        Assertions.assertNotEquals(ints, context().create(new int[]{1, 2}));
+    }
+
+    @Test
+    void testPackedArrayIteratorRemove() {
+        SerializationArray array = context().create(new int[]{1, 2, 3, 4});
+        Iterator<SerializationElement> iterator = array.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getAsInt() % 2 == 0)
+                iterator.remove();
+        }
+        Assertions.assertArrayEquals(new int[]{1, 3}, array.getAsIntArray());
+    }
+
+    @Test
+    void testSmallArraysRetainLittleMemory() {
+        BlankSerializationContext context = new BlankSerializationContext();
+        SerializationContainer tree = context.createContainer();
+        for (int i = 0; i < 300; i++) {
+            SerializationContainer entry = context.createContainer();
+            entry.set("tags", context.createArray());
+            SerializationArray position = context.createArray();
+            position.add(context.create(i * 0.5));
+            position.add(context.create(i * 2.5));
+            entry.set("position", position);
+            SerializationArray names = context.createArray();
+            names.add(context.create("first"));
+            names.add(context.create("second"));
+            entry.set("names", names);
+            tree.set("entry" + i, entry);
+        }
+        SerializationContainer emptyTree = context.createContainer();
+        for (int i = 0; i < 300; i++)
+            emptyTree.set("entry" + i, context.createContainer());
+
+        // The retained size of the three small arrays of one entry
+        long perEntry = (GraphLayout.parseInstance(tree).totalSize() - GraphLayout.parseInstance(emptyTree).totalSize()) / 300;
+        Assertions.assertTrue(perEntry < 1024, "Three small arrays retain " + perEntry + " bytes");
+    }
+
+    @Test
+    void testKeysAreCaseInsensitive() {
+        SerializationContainer container = context().createContainer();
+        container.set("companyName", context().create("Zanamon"));
+        container.set("Ärger", context().create(1));
+        container.set("salary", context().create(5000));
+
+        Assertions.assertEquals("Zanamon", container.get("COMPANYNAME").getAsString());
+        Assertions.assertEquals(1, container.get("äRGER").getAsInt());
+        Assertions.assertTrue(container.contains("Salary"));
+        Assertions.assertEquals(List.of("companyname", "ärger", "salary"), List.copyOf(container.getChildKeys()));
+
+        container.set("CompanyName", context().create("Doogle"));
+        container.remove("ÄRGER");
+        Assertions.assertEquals(List.of("companyname", "salary"), List.copyOf(container.getChildKeys()));
+        Assertions.assertEquals("Doogle", container.get("companyname").getAsString());
+        Assertions.assertEquals(5000, container.get("SALARY").getAsInt());
+    }
+
+    @Test
+    void testMissingKeysReturnTheSharedNull() {
+        SerializationContext context = context();
+        SerializationContainer container = context.createContainer();
+
+        Assertions.assertTrue(container.get("missing").isNull());
+        Assertions.assertSame(context.createNull(), container.get("missing"));
+        Assertions.assertSame(container.get("missing"), container.get("other"));
+    }
+
+    @Test
+    void testUnboxedPrimitivesKeepTheirType() {
+        SerializationContext context = context();
+        SerializationPrimitive integer = context.create(7);
+        Assertions.assertTrue(integer.isInteger());
+        Assertions.assertFalse(integer.isLong());
+        Assertions.assertInstanceOf(Integer.class, integer.getAsNumber());
+        Assertions.assertEquals("7", integer.getAsString());
+        Assertions.assertTrue(context.create((byte) 7).isByte());
+        Assertions.assertTrue(context.create(7L).isLong());
+        Assertions.assertInstanceOf(Short.class, context.create(Short.valueOf((short) 7)).getAsNumber());
+
+        SerializationPrimitive floating = context.create(1.5f);
+        Assertions.assertTrue(floating.isFloat());
+        Assertions.assertInstanceOf(Float.class, floating.getAsNumber());
+        Assertions.assertEquals(1, floating.getAsInt());
+        Assertions.assertEquals("1.5", floating.getAsString());
+
+        SerializationPrimitive character = context.create('c');
+        Assertions.assertTrue(character.isString());
+        Assertions.assertTrue(character.isCharacter());
+        Assertions.assertEquals("c", character.getAsString());
+
+        Assertions.assertSame(context.create(true), context.create(true));
+        Assertions.assertFalse(context.create(false).getAsBoolean());
+    }
+
+    @Test
+    void testUnboxedPrimitivesEqualBoxedPrimitives() {
+        SerializationContext context = context();
+        BlankSerializationPrimitive boxed = new BlankSerializationPrimitive(context, Integer.valueOf(5));
+        Assertions.assertEquals(boxed, context.create(5));
+        Assertions.assertEquals(context.create(5), boxed);
+        Assertions.assertEquals(boxed.hashCode(), context.create(5).hashCode());
+        Assertions.assertEquals(context.create(5L), context.create((short) 5));
+
+        Assertions.assertEquals(context.create("c"), context.create('c'));
+        Assertions.assertEquals(context.create("c").hashCode(), context.create('c').hashCode());
+        Assertions.assertEquals(new BlankSerializationPrimitive(context, 2.5d), context.create(2.5d));
+        Assertions.assertEquals(new BlankSerializationPrimitive(context, true), context.create(true));
+        Assertions.assertNotEquals(context.create("5"), context.create(5));
+    }
+
+    @Test
+    void testSmallPrimitivesAreShared() {
+        SerializationContext context = context();
+        Assertions.assertSame(context.create(""), context.create(""));
+        Assertions.assertSame(context.create(-128), context.create(-128));
+        Assertions.assertSame(context.create(1023), context.create(1023));
+        Assertions.assertNotSame(context.create(1024), context.create(1024));
+        Assertions.assertSame(context.create(7), context.create(new int[]{7}).get(0));
+        Assertions.assertTrue(context.create(7).isInteger());
+    }
 }
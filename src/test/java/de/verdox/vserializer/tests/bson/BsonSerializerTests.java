@@ -1,12 +1,26 @@
 package de.verdox.vserializer.tests.bson;
 
+import com.google.gson.JsonObject;
 import de.verdox.vserializer.bson.BsonSerializationContainer;
 import de.verdox.vserializer.bson.BsonSerializerContext;
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationContainer;
 import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationWriter;
+import de.verdox.vserializer.json.JsonSerializationContainer;
+import de.verdox.vserializer.json.JsonSerializerContext;
+import de.verdox.vserializer.generic.Serializer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import de.verdox.vserializer.tests.test.SerializerTests;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class BsonSerializerTests extends SerializerTests {
     private static final SerializationContext SERIALIZATION_CONTEXT = new BsonSerializerContext();
 
@@ -34,4 +48,66 @@ public class BsonSerializerTests extends SerializerTests {
         String convertedKey = BsonSerializationContainer.toBsonConformKey("invalid.key");
         Assertions.assertEquals("invalid___dot___key", convertedKey);
     }
+
+    @Test
+    public void testStreamingWriterUsesBsonConformKeys() throws SerializationException {
+        BsonSerializerContext bsonSerializerContext = (BsonSerializerContext) context();
+        Serializer<Map<String, Integer>> serializer = Serializer.Map.create(Serializer.Primitive.STRING, Serializer.Primitive.INTEGER, HashMap::new);
+        Map<String, Integer> map = Map.of("invalid.key", 1);
+
+        String json = bsonSerializerContext.toJsonString(serializer, map);
+        Assertions.assertEquals(bsonSerializerContext.toJsonString(serializer.serialize(bsonSerializerContext, map)), json);
+        Assertions.assertTrue(json.contains("invalid___dot___key"));
+    }
+
+    @Test
+    public void testStreamedJsonElementsUseBsonConformKeys() throws IOException {
+        BsonSerializerContext bsonSerializerContext = (BsonSerializerContext) context();
+        SerializationContainer json = new JsonSerializerContext().createContainer();
+        json.set("a.b", context().create(1));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (SerializationWriter writer = bsonSerializerContext.createWriter(outputStream)) {
+            writer.element(json);
+        }
+        String streamed = outputStream.toString(StandardCharsets.UTF_8);
+        Assertions.assertEquals(bsonSerializerContext.toJsonString(bsonSerializerContext.convert(json, false)), streamed);
+        Assertions.assertTrue(streamed.contains("a___dot___b"));
+    }
+
+    @Test
+    public void testKeysAreEscapedWhenEnteringTheContext() {
+        BsonSerializerContext bsonSerializerContext = (BsonSerializerContext) context();
+        SerializationContainer container = bsonSerializerContext.fromJsonString("{\"a.b\":{\"$c\":1},\"list\":[{\"d.e\":2}]}").getAsContainer();
+
+        String json = bsonSerializerContext.toJsonString(container);
+        Assertions.assertFalse(json.contains("."));
+        Assertions.assertFalse(json.contains("$"));
+        Assertions.assertEquals(List.of("a.b", "list"), List.copyOf(container.getChildKeys()));
+        Assertions.assertEquals(1, container.get("a.b").getAsContainer().get("$c").getAsInt());
+        Assertions.assertEquals(2, container.get("list").getAsArray().get(0).getAsContainer().get("d.e").getAsInt());
+    }
+
+    @Test
+    public void testWrappedChildrenShareTheirJsonObject() {
+        BsonSerializerContext bsonSerializerContext = (BsonSerializerContext) context();
+        JsonSerializationContainer container = (JsonSerializationContainer) bsonSerializerContext.fromJsonString("{\"a.b\":{\"c\":1}}");
+
+        JsonObject child = ((JsonSerializationContainer) container.get("a.b")).getJsonElement();
+        Assertions.assertSame(child, ((JsonSerializationContainer) container.get("a.b")).getJsonElement());
+        Assertions.assertSame(child, container.getJsonElement().get("a___dot___b"));
+        Assertions.assertSame(container, container.getAsContainer());
+    }
+
+    @Test
+    public void testJsonTreesAreEscapedWhenAddedToBsonTrees() {
+        SerializationContainer json = new JsonSerializerContext().createContainer();
+        json.set("a.b", context().create(1));
+
+        SerializationContainer bson = context().createContainer();
+        bson.set("child", json);
+
+        Assertions.assertTrue(((BsonSerializerContext) context()).toJsonString(bson).contains("a___dot___b"));
+        Assertions.assertEquals(1, bson.get("child").getAsContainer().get("a.b").getAsInt());
+    }
 }
@@ -1,14 +1,189 @@
 package de.verdox.vserializer.tests.json;
 
+import de.verdox.vserializer.exception.SerializationException;
+import de.verdox.vserializer.generic.SerializationArray;
+import de.verdox.vserializer.generic.SerializationContainer;
 import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationElement;
+import de.verdox.vserializer.generic.Serializer;
 import de.verdox.vserializer.json.JsonSerializerContext;
+import de.verdox.vserializer.tests.model.Gender;
+import de.verdox.vserializer.tests.model.Job;
+import de.verdox.vserializer.tests.model.Person;
 import de.verdox.vserializer.tests.test.SerializerTests;
+import de.verdox.vserializer.tests.util.TestInputs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
 
 public class JsonSerializerTests extends SerializerTests {
-    private static final SerializationContext SERIALIZATION_CONTEXT = new JsonSerializerContext();
+    private static final JsonSerializerContext SERIALIZATION_CONTEXT = new JsonSerializerContext();
 
     @Override
     public SerializationContext context() {
         return SERIALIZATION_CONTEXT;
     }
+
+    @ParameterizedTest
+    @MethodSource("testInputsProvider")
+    void testStreamingWriterMatchesTree(TestInputs.TestInput<?> input) throws SerializationException {
+        testStreamingWriter(input);
+    }
+
+    private <T> void testStreamingWriter(TestInputs.TestInput<T> input) throws SerializationException {
+        assertSameJson(input.serializer(), input.singleInput());
+        assertSameJson(Serializer.Collection.create(input.serializer(), ArrayList::new), new ArrayList<>(input.collectionInput()));
+        assertSameJson(Serializer.Array.create(input.serializer(), input.arrayCreator()), input.arrayInput());
+        assertSameJson(Serializer.Map.create(Serializer.Primitive.STRING, input.serializer(), HashMap::new), new HashMap<>(input.mapInput()));
+    }
+
+    @Test
+    void testStreamingWriterPrimitiveArrays() throws SerializationException {
+        assertSameJson(Serializer.Primitive.INT_ARRAY, new int[]{1, 2, 3});
+        assertSameJson(Serializer.Primitive.DOUBLE_ARRAY, new double[]{1.5, 2, 3});
+        assertSameJson(Serializer.Primitive.CHAR_ARRAY, new char[]{'a', 'b'});
+        assertSameJson(Serializer.Primitive.BOOLEAN_ARRAY, new boolean[0]);
+    }
+
+    @Test
+    void testStreamingWriterSkipsNullFields() throws SerializationException {
+        assertSameJson(Person.SERIALIZER, new Person("Hans", 28, Gender.MALE));
+    }
+
+    @Test
+    void testStreamingWriteToFile(@TempDir File directory) throws SerializationException, IOException {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        File file = new File(directory, "person.json");
+
+        SERIALIZATION_CONTEXT.writeToFile(Person.SERIALIZER, person, file);
+        Assertions.assertEquals(person, Person.SERIALIZER.deserialize(SERIALIZATION_CONTEXT.readFromFile(file)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testInputsProvider")
+    void testStreamingReaderRoundTrip(TestInputs.TestInput<?> input) throws SerializationException {
+        testStreamingReader(input);
+    }
+
+    private <T> void testStreamingReader(TestInputs.TestInput<T> input) throws SerializationException {
+        Serializer<T> serializer = input.serializer();
+        Assertions.assertEquals(input.singleInput(), readStreamed(serializer, input.singleInput()));
+
+        Serializer<List<T>> collectionSerializer = Serializer.Collection.create(serializer, ArrayList::new);
+        List<T> collection = new ArrayList<>(input.collectionInput());
+        Assertions.assertEquals(collection, readStreamed(collectionSerializer, collection));
+
+        Serializer<T[]> arraySerializer = Serializer.Array.create(serializer, input.arrayCreator());
+        Assertions.assertArrayEquals(input.arrayInput(), readStreamed(arraySerializer, input.arrayInput()));
+
+        Serializer<Map<String, T>> mapSerializer = Serializer.Map.create(Serializer.Primitive.STRING, serializer, HashMap::new);
+        Map<String, T> map = new HashMap<>(input.mapInput());
+        Assertions.assertEquals(map, readStreamed(mapSerializer, map));
+    }
+
+    @Test
+    void testStreamingReaderConstructorFieldsInAnyOrder() throws SerializationException {
+        String json = "{\"unknown\": {\"nested\": [1, 2]}, \"job\": {\"salary\": 5000, \"companyName\": \"Zanamon\"}, \"gender\": \"FEMALE\", \"age\": 20, \"name\": \"Lisa\"}";
+        Person expected = new Person("Lisa", 20, Gender.FEMALE);
+        expected.setJob(new Job("Zanamon", 5000));
+
+        Assertions.assertEquals(expected, SERIALIZATION_CONTEXT.fromJsonString(Person.SERIALIZER, json));
+        Assertions.assertEquals(Person.SERIALIZER.deserialize(SERIALIZATION_CONTEXT.fromJsonString(json)), SERIALIZATION_CONTEXT.fromJsonString(Person.SERIALIZER, json));
+    }
+
+    @Test
+    void testStreamingReaderMissingFields() throws SerializationException {
+        String json = "{\"name\": \"Hans\", \"gender\": \"MALE\"}";
+        Person person = SERIALIZATION_CONTEXT.fromJsonString(Person.SERIALIZER, json);
+
+        Assertions.assertEquals(Person.SERIALIZER.deserialize(SERIALIZATION_CONTEXT.fromJsonString(json)), person);
+        Assertions.assertEquals(0, person.getAge());
+        Assertions.assertNull(person.getJob());
+    }
+
+    @Test
+    void testStreamingReaderPrimitiveArrays() throws SerializationException {
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, readStreamed(Serializer.Primitive.INT_ARRAY, new int[]{1, 2, 3}));
+        Assertions.assertArrayEquals(new double[]{1.5, 2, 3}, readStreamed(Serializer.Primitive.DOUBLE_ARRAY, new double[]{1.5, 2, 3}));
+        Assertions.assertArrayEquals(new char[]{'a', 'b'}, readStreamed(Serializer.Primitive.CHAR_ARRAY, new char[]{'a', 'b'}));
+        Assertions.assertArrayEquals(new long[40], readStreamed(Serializer.Primitive.LONG_ARRAY, new long[40]));
+        Assertions.assertArrayEquals(new boolean[0], readStreamed(Serializer.Primitive.BOOLEAN_ARRAY, new boolean[0]));
+    }
+
+    @Test
+    void testStreamingReadFromFile(@TempDir File directory) throws SerializationException, IOException {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        File file = new File(directory, "person.json");
+
+        SERIALIZATION_CONTEXT.writeToFile(Person.SERIALIZER, person, file);
+        Assertions.assertEquals(person, SERIALIZATION_CONTEXT.readFromFile(Person.SERIALIZER, file));
+    }
+
+    private static <T> T readStreamed(Serializer<T> serializer, T object) throws SerializationException {
+        return SERIALIZATION_CONTEXT.fromJsonString(serializer, SERIALIZATION_CONTEXT.toJsonString(serializer, object));
+    }
+
+    private static <T> void assertSameJson(Serializer<T> serializer, T object) throws SerializationException {
+        String expected = SERIALIZATION_CONTEXT.toJsonString(serializer.serialize(SERIALIZATION_CONTEXT, object));
+        Assertions.assertEquals(expected, SERIALIZATION_CONTEXT.toJsonString(serializer, object));
+    }
+
+    @Test
+    void testCursorReusesWrappers() {
+        SerializationArray array = SERIALIZATION_CONTEXT.fromJsonString("{\"array\":[{\"value\":1},{\"value\":2},3,4]}").getAsContainer().get("array").getAsArray();
+
+        Iterator<SerializationElement> cursor = array.cursor();
+        SerializationElement first = cursor.next();
+        Assertions.assertEquals(1, first.getAsContainer().getInt("value"));
+        SerializationElement second = cursor.next();
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(2, second.getAsContainer().getInt("value"));
+        SerializationElement third = cursor.next();
+        Assertions.assertEquals(3, third.getAsInt());
+        Assertions.assertSame(third, cursor.next());
+        Assertions.assertEquals(4, third.getAsInt());
+        Assertions.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    void testDirectGetterOfMissingKey() {
+        SerializationContainer container = SERIALIZATION_CONTEXT.createContainer();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> container.getInt("missing"));
+    }
+
+    @Test
+    void testSmallPrimitivesAreShared() {
+        JsonSerializerContext context = new JsonSerializerContext();
+        Assertions.assertSame(context.create(true), context.create(true));
+        Assertions.assertSame(context.create(""), context.create(""));
+        Assertions.assertSame(context.createNull(), context.createNull());
+        Assertions.assertSame(context.create(-128), context.create(Integer.valueOf(-128)));
+        Assertions.assertSame(context.create(1023), context.create(1023));
+        Assertions.assertNotSame(context.create(1024), context.create(1024));
+        Assertions.assertNotSame(context.create(5L), context.create(5L));
+        Assertions.assertInstanceOf(Long.class, context.create(5L).getAsNumber());
+        Assertions.assertNotSame(context.create(5), new JsonSerializerContext().create(5));
+    }
+
+    @Test
+    void testCursorDoesNotMoveSharedPrimitives() {
+        JsonSerializerContext context = new JsonSerializerContext();
+        SerializationArray array = context.createArray();
+        array.add(context.create(1));
+        array.add(context.create(2));
+
+        Iterator<SerializationElement> cursor = array.cursor();
+        while (cursor.hasNext())
+            cursor.next();
+        Assertions.assertEquals(1, context.create(1).getAsInt());
+        Assertions.assertEquals(2, context.create(2).getAsInt());
+    }
 }
@@ -4,14 +4,21 @@ import de.verdox.vserializer.SerializableField;
 import de.verdox.vserializer.exception.SerializationException;
 import de.verdox.vserializer.generic.SerializationArray;
 import de.verdox.vserializer.generic.SerializationContainer;
+import de.verdox.vserializer.generic.SerializationContext;
+import de.verdox.vserializer.generic.SerializationDiff;
 import de.verdox.vserializer.generic.SerializationElement;
 import de.verdox.vserializer.generic.Serializer;
+import de.verdox.vserializer.generic.SerializerBuilder;
+import de.verdox.vserializer.json.JsonSerializerContext;
 import de.verdox.vserializer.tests.model.Gender;
 import de.verdox.vserializer.tests.model.Job;
 import de.verdox.vserializer.tests.model.Person;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 public abstract class SerializerContextTests extends ContextBasedTest {
 
     @Test
@@ -223,4 +230,206 @@ public abstract class SerializerContextTests extends ContextBasedTest {
 
         Assertions.assertNull(jobField.read(serializationElement));
     }
+
+    @Test
+    public void testDiffOfEqualTreesIsEmpty() throws SerializationException {
+        Person person = new Person("Hans", 20, Gender.MALE);
+        person.setJob(new Job("Zanamon", 5000));
+        SerializationContainer patch = SerializationDiff.create().diff(context(), Person.SERIALIZER, person, person);
+
+        Assertions.assertTrue(SerializationDiff.isEmpty(patch));
+    }
+
+    @Test
+    public void testDiffPatchesContainers() throws SerializationException {
+        SerializationContext context = context();
+        SerializationContainer before = context.createContainer();
+        before.set("name", "Hans");
+        before.set("age", 20);
+        before.set("removed", true);
+        SerializationContainer job = context.createContainer();
+        job.set("company", "Zanamon");
+        job.set("salary", 5000);
+        before.set("job", job);
+
+        SerializationContainer after = context.convert(before, true).getAsContainer();
+        after.set("age", 21);
+        after.remove("removed");
+        after.set("added", context.createArray(context.create(1), context.create(2)));
+        after.get("job").getAsContainer().set("salary", 6000);
+
+        SerializationContainer patch = SerializationDiff.create().diff(context, before, after);
+        Assertions.assertFalse(patch.toString().contains("Hans"));
+        Assertions.assertFalse(patch.toString().contains("Zanamon"));
+        Assertions.assertSame(before, SerializationDiff.apply(before, patch));
+        Assertions.assertEquals(after, before);
+    }
+
+    @Test
+    public void testDiffPatchesArrays() throws SerializationException {
+        SerializationContext context = context();
+        SerializationArray before = context.createArray();
+        for (int i = 0; i < 10; i++)
+            before.add(context.create("element" + i));
+
+        SerializationArray grown = context.convert(before, true).getAsArray();
+        grown.set(3, context.create("changed"));
+        grown.add(context.create("element10"));
+        assertPatched(before, grown);
+
+        SerializationArray shrunk = context.convert(before, true).getAsArray();
+        shrunk.remove(9);
+        shrunk.remove(8);
+        assertPatched(before, shrunk);
+
+        SerializationArray replaced = context.createArray();
+        for (int i = 0; i < 10; i++)
+            replaced.add(context.create(i));
+        assertPatched(before, replaced);
+        assertPatched(before, context.createNull());
+    }
+
+    @Test
+    public void testKeyedDiffPatchesArraysByKey() throws SerializationException {
+        SerializationContext context = context();
+        SerializationArray before = context.createArray();
+        for (int i = 0; i < 5; i++)
+            before.add(entry(context, i, "value" + i));
+
+        // Removing the first element moves all others, a keyed diff only patches the changed entry
+        SerializationArray after = context.createArray();
+        for (int i = 4; i >= 1; i--)
+            after.add(entry(context, i, i == 2 ? "changed" : "value" + i));
+        after.add(entry(context, 5, "value5"));
+
+        SerializationContainer patch = SerializationDiff.keyedBy("id").diff(context, before, after);
+        Assertions.assertFalse(patch.toString().contains("value1"));
+        Assertions.assertTrue(patch.toString().contains("changed"));
+        Assertions.assertEquals(after, SerializationDiff.apply(context.convert(before, true), patch));
+
+        SerializationArray unordered = context.createArray(entry(context, 1, "value1"), entry(context, 1, "value1"));
+        SerializationContainer positional = SerializationDiff.keyedBy("id").diff(context, unordered, before);
+        Assertions.assertEquals(before, SerializationDiff.apply(unordered, positional));
+    }
+
+    @Test
+    public void testDiffAcrossContexts() throws SerializationException {
+        Person person = new Person("Hans", 20, Gender.MALE);
+        SerializationElement before = Person.SERIALIZER.serialize(context(), person);
+        person.setAge(21);
+        SerializationElement after = Person.SERIALIZER.serialize(new JsonSerializerContext(), person);
+
+        SerializationContainer patch = SerializationDiff.create().diff(new JsonSerializerContext(), before, after);
+        Assertions.assertFalse(patch.toString().contains("Hans"));
+        Assertions.assertEquals(person, Person.SERIALIZER.deserialize(SerializationDiff.apply(before, patch)));
+    }
+
+    @Test
+    public void testPatchUpdatesLiveObject() throws SerializationException {
+        Person person = new Person("Hans", 20, Gender.MALE);
+        person.setJob(new Job("Zanamon", 5000));
+        Person changed = new Person("Hans", 21, Gender.MALE);
+        changed.setJob(new Job("Zanamon", 6000));
+
+        SerializationContainer patch = SerializationDiff.create().diff(context(), Person.SERIALIZER, person, changed);
+        Person.SERIALIZER.updateLiveObjectFromPatch(person, patch);
+        Assertions.assertEquals(changed, person);
+
+        changed.setJob(null);
+        Person.SERIALIZER.updateLiveObjectFromPatch(person, SerializationDiff.create().diff(context(), Person.SERIALIZER, person, changed));
+        Assertions.assertEquals(changed, person);
+    }
+
+    @Test
+    public void testPatchOnlyUpdatesPatchedFields() throws SerializationException {
+        Person person = new Person("Hans", 20, Gender.MALE);
+        person.setJob(new Job("Zanamon", 5000));
+        Person changed = new Person("Hans", 30, Gender.MALE);
+        changed.setJob(new Job("Zanamon", 5000));
+
+        Person.SERIALIZER.updateLiveObjectFromPatch(person, SerializationDiff.create().diff(context(), Person.SERIALIZER, person, changed));
+        Assertions.assertEquals(changed, person);
+    }
+
+    @Test
+    public void testFullUpdateResetsMissingFields() throws SerializationException {
+        Person person = new Person("Hans", 20, Gender.MALE);
+        person.setJob(new Job("Zanamon", 5000));
+        SerializationContainer update = Person.SERIALIZER.serialize(context(), new Person("Hans", 30, Gender.MALE)).getAsContainer();
+        update.remove("job");
+
+        Person.SERIALIZER.updateLiveObjectFromJson(person, update);
+        Assertions.assertEquals(new Person("Hans", 30, Gender.MALE), person);
+    }
+
+    @Test
+    public void testIncrementalSerializationOnlyReportsChangedFields() throws SerializationException {
+        SerializerBuilder.IncrementalSerializer<Person> serializer = incrementalPersonSerializer();
+        Person person = new Person("Hans", 20, Gender.MALE);
+
+        SerializerBuilder.IncrementalSerializer.Changes first = serializer.serializeChanges(context(), person);
+        Assertions.assertEquals(Set.of("name", "age", "gender", "job"), first.changedKeys());
+        Assertions.assertEquals(Person.SERIALIZER.serialize(context(), person), first.container());
+
+        SerializerBuilder.IncrementalSerializer.Changes unchanged = serializer.serializeChanges(context(), person);
+        Assertions.assertTrue(unchanged.isEmpty());
+        Assertions.assertEquals(first.container(), unchanged.container());
+
+        person.setAge(21);
+        SerializerBuilder.IncrementalSerializer.Changes aged = serializer.serializeChanges(context(), person);
+        Assertions.assertEquals(Set.of("age"), aged.changedKeys());
+        Assertions.assertEquals(Person.SERIALIZER.serialize(context(), person), aged.container());
+
+        person.setJob(new Job("Doogle", 6000));
+        SerializerBuilder.IncrementalSerializer.Changes hired = serializer.serializeChanges(context(), person);
+        Assertions.assertEquals(Set.of("job"), hired.changedKeys());
+        Assertions.assertEquals(person, serializer.deserialize(hired.container()));
+
+        // The job is not a known immutable type, so it is serialized every time
+        SerializerBuilder.IncrementalSerializer.Changes employed = serializer.serializeChanges(context(), person);
+        Assertions.assertEquals(Set.of("job"), employed.changedKeys());
+        Assertions.assertEquals(hired.container(), employed.container());
+    }
+
+    @Test
+    public void testIncrementalSerializationWithDirtyKeys() throws SerializationException {
+        SerializerBuilder.IncrementalSerializer<Person> serializer = incrementalPersonSerializer();
+        Person person = new Person("Hans", 20, Gender.MALE);
+        serializer.serializeChanges(context(), person);
+
+        person.setName("Peter");
+        person.setAge(30);
+        SerializerBuilder.IncrementalSerializer.Changes changes = serializer.serializeChanges(context(), person, List.of("name"));
+        Assertions.assertEquals(Set.of("name"), changes.changedKeys());
+        // Fields that are not dirty are neither read nor serialized
+        Assertions.assertEquals(new Person("Peter", 20, Gender.MALE), serializer.deserialize(changes.container()));
+
+        serializer.forget(person);
+        Assertions.assertEquals(4, serializer.serializeChanges(context(), person, List.of()).changedKeys().size());
+    }
+
+    protected static SerializerBuilder.IncrementalSerializer<Person> incrementalPersonSerializer() {
+        return SerializerBuilder.create("person", Person.class)
+                .constructor(
+                        new SerializableField<>("name", Serializer.Primitive.STRING, Person::getName, Person::setName),
+                        new SerializableField<>("age", Serializer.Primitive.INTEGER, Person::getAge, Person::setAge),
+                        new SerializableField<>("gender", Serializer.Enum.create("gender", Gender.class), Person::getGender),
+                        Person::new
+                )
+                .withField("job", Job.SERIALIZER, Person::getJob, Person::setJob)
+                .buildIncremental();
+    }
+
+    private static void assertPatched(SerializationElement before, SerializationElement after) throws SerializationException {
+        SerializationContext context = before.getContext();
+        SerializationContainer patch = SerializationDiff.create().diff(context, before, after);
+        Assertions.assertEquals(after, SerializationDiff.apply(context.convert(before, true), patch));
+    }
+
+    private static SerializationContainer entry(SerializationContext context, int id, String value) {
+        SerializationContainer entry = context.createContainer();
+        entry.set("id", id);
+        entry.set("value", value);
+        return entry;
+    }
 }
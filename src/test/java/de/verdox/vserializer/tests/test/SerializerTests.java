@@ -1,9 +1,10 @@
 package de.verdox.vserializer.tests.test;
 
+import de.verdox.vserializer.SerializableField;
+import de.verdox.vserializer.blank.BlankSerializationContext;
 import de.verdox.vserializer.exception.SerializationException;
 import de.verdox.vserializer.generic.*;
 import de.verdox.vserializer.tests.model.*;
-import model.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,24 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import de.verdox.vserializer.tests.util.TestInputs;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 public abstract class SerializerTests extends ContextBasedTest {
@@ -69,6 +88,21 @@ public abstract class SerializerTests extends ContextBasedTest {
         Assertions.assertNull(deserializedPerson.getJob());
     }
 
+    @Test
+    void testBuiltSerializerIgnoresLaterBuilderChanges() throws SerializationException {
+        SerializerBuilder<Person> builder = SerializerBuilder.create("person", Person.class)
+                .constructor(
+                        SerializableField.finalField("name", Serializer.Primitive.STRING, Person::getName),
+                        name -> new Person(name, 0, Gender.MALE)
+                );
+        Serializer<Person> serializer = builder.build();
+        builder.withField("age", Serializer.Primitive.INTEGER, Person::getAge, Person::setAge);
+
+        SerializationContainer container = serializer.serialize(context(), new Person("Peter", 23, Gender.MALE)).getAsContainer();
+        Assertions.assertTrue(container.contains("name"));
+        Assertions.assertFalse(container.contains("age"));
+    }
+
     @Test
     void testSelectionSerializerWithEmpty() throws SerializationException {
         Car car = new Car();
@@ -190,5 +224,520 @@ public abstract class SerializerTests extends ContextBasedTest {
         Assertions.assertArrayEquals(data, result);
     }
 
+    @Test
+    void testAllPrimitiveArraySerialization() throws SerializationException {
+        Assertions.assertArrayEquals(new byte[]{1, -2, Byte.MAX_VALUE}, Serializer.Primitive.BYTE_ARRAY.deserialize(Serializer.Primitive.BYTE_ARRAY.serialize(context(), new byte[]{1, -2, Byte.MAX_VALUE})));
+        Assertions.assertArrayEquals(new short[]{1, -2, Short.MIN_VALUE}, Serializer.Primitive.SHORT_ARRAY.deserialize(Serializer.Primitive.SHORT_ARRAY.serialize(context(), new short[]{1, -2, Short.MIN_VALUE})));
+        Assertions.assertArrayEquals(new int[]{1, -2, Integer.MAX_VALUE}, Serializer.Primitive.INT_ARRAY.deserialize(Serializer.Primitive.INT_ARRAY.serialize(context(), new int[]{1, -2, Integer.MAX_VALUE})));
+        Assertions.assertArrayEquals(new long[]{1, -2, Long.MIN_VALUE}, Serializer.Primitive.LONG_ARRAY.deserialize(Serializer.Primitive.LONG_ARRAY.serialize(context(), new long[]{1, -2, Long.MIN_VALUE})));
+        Assertions.assertArrayEquals(new float[]{1.5f, -2}, Serializer.Primitive.FLOAT_ARRAY.deserialize(Serializer.Primitive.FLOAT_ARRAY.serialize(context(), new float[]{1.5f, -2})));
+        Assertions.assertArrayEquals(new double[]{1.5, -2, Double.MAX_VALUE}, Serializer.Primitive.DOUBLE_ARRAY.deserialize(Serializer.Primitive.DOUBLE_ARRAY.serialize(context(), new double[]{1.5, -2, Double.MAX_VALUE})));
+        Assertions.assertArrayEquals(new char[]{'a', 'ä'}, Serializer.Primitive.CHAR_ARRAY.deserialize(Serializer.Primitive.CHAR_ARRAY.serialize(context(), new char[]{'a', 'ä'})));
+    }
+
+    @Test
+    void testPrimitiveArrayMatchesElementArray() throws SerializationException {
+        SerializationArray expected = context().createArray(context().create(1), context().create(-2), context().create(3));
+        SerializationElement element = Serializer.Primitive.INT_ARRAY.serialize(context(), new int[]{1, -2, 3});
+
+        Assertions.assertEquals(3, element.getAsArray().length());
+        for (int i = 0; i < 3; i++)
+            Assertions.assertEquals(expected.get(i).getAsInt(), element.getAsArray().get(i).getAsInt());
+        Assertions.assertArrayEquals(new int[]{1, -2, 3}, Serializer.Primitive.INT_ARRAY.deserialize(expected));
+    }
+
+    @Test
+    void testElementKindFollowsMutations() {
+        SerializationArray array = context().createArray();
+        Assertions.assertEquals(ElementKind.EMPTY, array.elementKind());
+        Assertions.assertFalse(array.isIntArray());
+
+        array.add(context().create(1));
+        array.add(context().create(2));
+        Assertions.assertEquals(ElementKind.INTEGER, array.elementKind());
+        Assertions.assertTrue(array.isIntArray());
+
+        array.add(context().create("text"));
+        Assertions.assertEquals(ElementKind.MIXED, array.elementKind());
+        Assertions.assertFalse(array.isIntArray());
+
+        array.set(2, context().create(3));
+        Assertions.assertEquals(ElementKind.INTEGER, array.elementKind());
+
+        array.set(0, context().create(1L));
+        Assertions.assertEquals(ElementKind.MIXED, array.elementKind());
+        array.remove(0);
+        Assertions.assertEquals(ElementKind.INTEGER, array.elementKind());
+
+        array.remove(0);
+        array.remove(0);
+        Assertions.assertEquals(ElementKind.EMPTY, array.elementKind());
+    }
+
+    @Test
+    void testElementKindOfCharactersAndStrings() {
+        SerializationArray array = context().createArray(context().create('a'), context().create('b'));
+        Assertions.assertEquals(ElementKind.CHARACTER, array.elementKind());
+        Assertions.assertTrue(array.isCharArray());
+        Assertions.assertTrue(array.isStringArray());
+
+        array.add(context().create("text"));
+        Assertions.assertEquals(ElementKind.STRING, array.elementKind());
+        Assertions.assertFalse(array.isCharArray());
+        Assertions.assertTrue(array.isStringArray());
+    }
+
+    @Test
+    void testElementKindAfterIteratorRemove() {
+        SerializationArray array = context().createArray(context().create(1), context().createArray(), context().create(2));
+        Assertions.assertEquals(ElementKind.MIXED, array.elementKind());
+
+        Iterator<SerializationElement> iterator = array.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isArray())
+                iterator.remove();
+        }
+        Assertions.assertEquals(ElementKind.INTEGER, array.elementKind());
+        Assertions.assertArrayEquals(new int[]{1, 2}, array.getAsIntArray());
+    }
+
+    @Test
+    void testElementKindFollowsMutationsThroughOtherWrappers() {
+        SerializationContainer container = context().createContainer();
+        container.set("arr", context().createArray(context().create(1), context().create(2), context().create(3)));
+
+        SerializationArray first = container.get("arr").getAsArray();
+        Assertions.assertEquals(ElementKind.INTEGER, first.elementKind());
+
+        container.get("arr").getAsArray().add(context().create("x"));
+        Assertions.assertEquals(ElementKind.MIXED, first.elementKind());
+        Assertions.assertFalse(first.isIntArray());
+
+        SerializationArray converted = new BlankSerializationContext().convert(first, true).getAsArray();
+        Assertions.assertEquals(4, converted.length());
+        Assertions.assertEquals("x", converted.get(3).getAsString());
+    }
+
+    @Test
+    void testConvertKeepsPrimitiveArrays() {
+        SerializationArray array = context().createArray(context().create(1L), context().create(-2L));
+        SerializationElement converted = context().convert(array, true);
+
+        Assertions.assertTrue(converted.getAsArray().isLongArray());
+        Assertions.assertArrayEquals(new long[]{1, -2}, converted.getAsArray().getAsLongArray());
+    }
+
+    @Test
+    void testDirectContainerGetters() {
+        SerializationContainer container = context().createContainer();
+        container.set("boolean", true);
+        container.set("byte", (byte) -3);
+        container.set("short", (short) 300);
+        container.set("int", 70000);
+        container.set("long", Long.MAX_VALUE);
+        container.set("float", 1.5f);
+        container.set("double", -2.25);
+        container.set("char", 'x');
+        container.set("string", "text");
+
+        Assertions.assertTrue(container.getBoolean("boolean"));
+        Assertions.assertEquals((byte) -3, container.getByte("byte"));
+        Assertions.assertEquals((short) 300, container.getShort("short"));
+        Assertions.assertEquals(70000, container.getInt("int"));
+        Assertions.assertEquals(Long.MAX_VALUE, container.getLong("long"));
+        Assertions.assertEquals(1.5f, container.getFloat("float"));
+        Assertions.assertEquals(-2.25, container.getDouble("double"));
+        Assertions.assertEquals('x', container.getCharacter("char"));
+        Assertions.assertEquals("text", container.getString("string"));
+    }
+
+    @Test
+    void testCursorVisitsAllElements() {
+        SerializationContainer child = context().createContainer();
+        child.set("value", 5);
+        SerializationArray array = context().createArray(context().create(1), child, context().createNull(), context().create("text"), context().create(2), context().createArray(context().create(3)));
+
+        List<String> expected = new ArrayList<>();
+        for (SerializationElement element : array)
+            expected.add(describe(element));
+        List<String> actual = new ArrayList<>();
+        Iterator<SerializationElement> cursor = array.cursor();
+        while (cursor.hasNext())
+            actual.add(describe(cursor.next()));
+        Assertions.assertEquals(expected, actual);
+    }
+
+    private static String describe(SerializationElement element) {
+        if (element.isNull())
+            return "null";
+        else if (element.isContainer())
+            return "{" + element.getAsContainer().getInt("value") + "}";
+        else if (element.isArray())
+            return "[" + element.getAsArray().get(0).getAsInt() + "]";
+        return element.getAsString();
+    }
+
+    @Test
+    void testExceptionPathOfNestedField() throws SerializationException {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        SerializationContainer serialized = Person.SERIALIZER.serialize(context(), person).getAsContainer();
+        serialized.get("job").getAsContainer().set("salary", context().createContainer());
+
+        SerializationException exception = Assertions.assertThrows(SerializationException.class, () -> Person.SERIALIZER.deserialize(serialized));
+        Assertions.assertEquals("job.salary", exception.getPath());
+        Assertions.assertTrue(exception.getMessage().endsWith("(at job.salary)"));
+        Assertions.assertFalse(exception.getCause() instanceof SerializationException);
+    }
+
+    @Test
+    void testExceptionPathOfCollectionElement() throws SerializationException {
+        Serializer<List<Job>> serializer = Serializer.Collection.create(Job.SERIALIZER, ArrayList::new);
+        SerializationArray serialized = serializer.serialize(context(), List.of(new Job("A", 1), new Job("B", 2))).getAsArray();
+        serialized.get(1).getAsContainer().set("salary", context().createContainer());
+
+        SerializationException exception = Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(serialized));
+        Assertions.assertEquals("[1].salary", exception.getPath());
+    }
+
+    @Test
+    void testStacklessExceptions() throws SerializationException {
+        SerializationContainer serialized = Job.SERIALIZER.serialize(context(), new Job("A", 1)).getAsContainer();
+        serialized.set("salary", context().createContainer());
+
+        SerializationException stackless = Assertions.assertThrows(SerializationException.class, () -> SerializationException.withoutStackTraces(() -> Job.SERIALIZER.deserialize(serialized)));
+        Assertions.assertEquals(0, stackless.getStackTrace().length);
+        Assertions.assertEquals("salary", stackless.getPath());
+
+        SerializationException regular = Assertions.assertThrows(SerializationException.class, () -> Job.SERIALIZER.deserialize(serialized));
+        Assertions.assertNotEquals(0, regular.getStackTrace().length);
+    }
+
+    @Test
+    void testStacklessExceptionsOfParallelSerializers() throws SerializationException {
+        SerializationArray array = context().createArray();
+        for (int i = 0; i < 1000; i++)
+            array.add(context().create(i == 777 ? "UNKNOWN" : Gender.values()[i % 2].name()));
+        // A pool of its own, so the chunks run on worker threads even on a single core
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            Serializer<List<Gender>> serializer = Serializer.Collection.<Gender, List<Gender>>create(Serializer.Enum.create("gender", Gender.class), ArrayList::new).parallel(16, pool);
+
+            SerializationException stackless = Assertions.assertThrows(SerializationException.class, () -> SerializationException.withoutStackTraces(() -> serializer.deserialize(array)));
+            Assertions.assertEquals(0, stackless.getStackTrace().length);
+            Assertions.assertEquals("[777]", stackless.getPath());
+        }
+    }
+
+    @Test
+    void testExceptionsAreJavaSerializable() throws Exception {
+        Person person = new Person("Lisa", 20, Gender.FEMALE);
+        person.setJob(new Job("Zanamon", 5000));
+        SerializationContainer serialized = Person.SERIALIZER.serialize(context(), person).getAsContainer();
+        serialized.get("job").getAsContainer().set("salary", context().createContainer());
+        SerializationException exception = Assertions.assertThrows(SerializationException.class, () -> Person.SERIALIZER.deserialize(serialized));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(exception);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            SerializationException copy = (SerializationException) input.readObject();
+            Assertions.assertEquals(exception.getMessage(), copy.getMessage());
+            Assertions.assertEquals("job.salary", copy.getPath());
+            Assertions.assertEquals("person.job.salary", copy.atField("person").getPath());
+        }
+    }
+
+    @Test
+    void testTypesSerializerDispatchesByClass() throws SerializationException {
+        Serializer.Types<GroundVehicle> cars = Serializer.Types.<GroundVehicle>create("vehicle_types", GroundVehicle.class).type("car", Car.SERIALIZER);
+        Assertions.assertThrows(IllegalStateException.class, () -> cars.serialize(context(), new Motorbike()));
+
+        Serializer.Types<GroundVehicle> serializer = cars.type("motorbike", Motorbike.SERIALIZER);
+        Assertions.assertThrows(IllegalStateException.class, () -> cars.serialize(context(), new Motorbike()));
+        SerializationElement serialized = serializer.serialize(context(), new Motorbike());
+        Assertions.assertEquals("motorbike", serialized.getAsContainer().get("type").getAsString());
+        Assertions.assertInstanceOf(Motorbike.class, serializer.deserialize(serialized));
+        Assertions.assertEquals("car", serializer.serialize(context(), new Car()).getAsContainer().get("type").getAsString());
+    }
+
+    @Test
+    void testSelectionUsesVariantOfSuperType() throws SerializationException {
+        GroundVehicle sportsCar = new Car() {
+        };
+        SerializationElement serialized = GroundVehicle.VEHICLE_SELECTION_SERIALIZER.serialize(context(), sportsCar);
+        Assertions.assertEquals("car", serialized.getAsContainer().get("type").getAsString());
+    }
+
+    @Test
+    void testCompactSelectionOnlyWritesSelectedVariant() throws SerializationException {
+        Serializer.Selection<GroundVehicle> serializer = Serializer.Selection.create("vehicle_selection", GroundVehicle.class)
+                .variant("car", Car.SERIALIZER, new Car())
+                .variant("motorbike", Motorbike.SERIALIZER, new Motorbike())
+                .compact();
+
+        SerializationContainer serialized = serializer.serialize(context(), new Motorbike()).getAsContainer();
+        Assertions.assertEquals(Set.of("type", "motorbike"), Set.copyOf(serialized.getChildKeys()));
+        Assertions.assertInstanceOf(Motorbike.class, serializer.deserialize(serialized));
+        Assertions.assertInstanceOf(Motorbike.class, GroundVehicle.VEHICLE_SELECTION_SERIALIZER.deserialize(serialized));
+
+        SerializationContainer serializedNull = serializer.serialize(context(), null).getAsContainer();
+        Assertions.assertEquals(2, serializedNull.size());
+    }
+
+    @Test
+    void testSelectionTemplatesAreCopied() throws SerializationException {
+        Serializer.Selection<Object> serializer = Serializer.Selection.create("selection", Object.class)
+                .variant("job", Job.SERIALIZER, new Job("Template", 1))
+                .variant("car", Car.SERIALIZER, new Car());
+
+        SerializationContainer first = serializer.serialize(context(), new Car()).getAsContainer();
+        SerializationContainer second = serializer.serialize(context(), new Car()).getAsContainer();
+        Assertions.assertEquals(Set.of("type", "job", "car"), Set.copyOf(first.getChildKeys()));
+
+        first.get("job").getAsContainer().set("companyName", "Changed");
+        Assertions.assertEquals("Template", second.get("job").getAsContainer().get("companyName").getAsString());
+
+        SerializationContainer pickedTemplate = serializer.serialize(context(), new Car()).getAsContainer();
+        pickedTemplate.set("type", "job");
+        Assertions.assertEquals(new Job("Template", 1), serializer.deserialize(pickedTemplate));
+    }
+
+    @Test
+    void testEnumSerializerRejectsUnknownConstants() {
+        Assertions.assertThrows(SerializationException.class, () -> Serializer.Enum.create("gender", Gender.class).deserialize(context().create("OTHER")));
+        Assertions.assertThrows(SerializationException.class, () -> Serializer.Enum.createOrdinal("gender", Gender.class).deserialize(context().create(2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Serializer.Enum.createWithIds("gender", Gender.class, gender -> 1));
+    }
+
+    @Test
+    void testEnumMapWithNullValues() throws SerializationException {
+        Serializer<EnumMap<Gender, Job>> serializer = Serializer.EnumMap.create("jobs", Gender.class, Job.SERIALIZER);
+        EnumMap<Gender, Job> map = new EnumMap<>(Gender.class);
+        map.put(Gender.MALE, null);
+        map.put(Gender.FEMALE, new Job("Zanamon", 5000));
+
+        Assertions.assertEquals(map, serializer.deserialize(serializer.serialize(context(), map)));
+    }
+
+    @Test
+    void testMapWithPrimitiveKeysUsesContainerKeys() throws SerializationException {
+        Serializer.Map<Integer, String, Map<Integer, String>> numbers = Serializer.Map.create(Serializer.Primitive.INTEGER, Serializer.Primitive.STRING, HashMap::new);
+        Map<Integer, String> numberMap = Map.of(1, "one", 20, "twenty");
+        SerializationElement element = numbers.serialize(context(), numberMap);
+        Assertions.assertTrue(numbers.usesContainerKeys());
+        Assertions.assertEquals(context().hasCaseSensitiveKeys(), numbers.usesContainerKeys(context()));
+        Assertions.assertTrue(element.isContainer());
+        // Case-insensitive containers could change the case of the keys, so they get parallel arrays
+        Assertions.assertEquals(context().hasCaseSensitiveKeys(), element.getAsContainer().contains("20"));
+        Assertions.assertEquals(numberMap, numbers.deserialize(element));
+
+        Serializer.Map<UUID, Job, Map<UUID, Job>> ids = Serializer.Map.create(Serializer.UUID.INSTANCE, Job.SERIALIZER, HashMap::new);
+        Map<UUID, Job> idMap = Map.of(UUID.randomUUID(), new Job("Zanamon", 5000));
+        Assertions.assertEquals(idMap, ids.deserialize(ids.serialize(context(), idMap)));
+
+        Serializer.Map<Gender, Integer, Map<Gender, Integer>> genders = Serializer.Map.create(Serializer.Enum.createOrdinal("gender", Gender.class), Serializer.Primitive.INTEGER, HashMap::new);
+        Map<Gender, Integer> genderMap = Map.of(Gender.MALE, 3, Gender.FEMALE, 4);
+        Assertions.assertEquals(genderMap, genders.deserialize(genders.serialize(context(), genderMap)));
+    }
+
+    @Test
+    void testMapWithCaseSensitiveKeys() throws SerializationException {
+        Serializer.Map<Gender, Integer, Map<Gender, Integer>> genders = Serializer.Map.create(Serializer.Enum.create("gender", Gender.class), Serializer.Primitive.INTEGER, HashMap::new);
+        Map<Gender, Integer> genderMap = Map.of(Gender.MALE, 3, Gender.FEMALE, 4);
+        Assertions.assertEquals(genderMap, genders.deserialize(genders.serialize(context(), genderMap)));
+
+        Serializer.Map<String, Integer, Map<String, Integer>> names = Serializer.Map.create(Serializer.Primitive.STRING, Serializer.Primitive.INTEGER, HashMap::new);
+        Map<String, Integer> nameMap = Map.of("Lisa", 1, "lisa", 2, "LISA", 3);
+        Assertions.assertEquals(nameMap, names.deserialize(names.serialize(context(), nameMap)));
+    }
+
+    @Test
+    void testMapWithComplexKeysUsesParallelArrays() throws SerializationException {
+        Serializer.Map<Job, Integer, Map<Job, Integer>> serializer = Serializer.Map.create(Job.SERIALIZER, Serializer.Primitive.INTEGER, LinkedHashMap::new);
+        Map<Job, Integer> map = new LinkedHashMap<>();
+        map.put(new Job("Zanamon", 5000), 1);
+        map.put(new Job("Doogle", 7000), 2);
+
+        SerializationElement element = serializer.serialize(context(), map);
+        Assertions.assertFalse(serializer.usesContainerKeys());
+        Assertions.assertEquals(2, element.getAsContainer().get("keys").getAsArray().length());
+        Assertions.assertEquals(2, element.getAsContainer().get("values").getAsArray().length());
+        Assertions.assertEquals(map, serializer.deserialize(element));
+    }
+
+    @Test
+    void testMapReadsEntryArrays() throws SerializationException {
+        Serializer.Map<Job, Integer, Map<Job, Integer>> serializer = Serializer.Map.create(Job.SERIALIZER, Serializer.Primitive.INTEGER, HashMap::new);
+        Job job = new Job("Zanamon", 5000);
+        SerializationContainer entry = context().createContainer();
+        entry.set("key", Job.SERIALIZER.serialize(context(), job));
+        entry.set("value", context().create(7));
+        SerializationArray entries = context().createArray();
+        entries.add(entry);
+
+        Assertions.assertEquals(Map.of(job, 7), serializer.deserialize(entries));
+    }
+
+    @Test
+    void testCreatorsReceiveTheNumberOfElements() throws SerializationException {
+        List<Integer> sizes = new ArrayList<>();
+        Serializer<List<Integer>> list = Serializer.Collection.createWithCapacity(Serializer.Primitive.INTEGER, size -> {
+            sizes.add(size);
+            return new ArrayList<>(size);
+        });
+        Serializer<Map<Integer, String>> map = Serializer.Map.createWithCapacity(Serializer.Primitive.INTEGER, Serializer.Primitive.STRING, size -> {
+            sizes.add(size);
+            return HashMap.newHashMap(size);
+        });
+
+        Assertions.assertEquals(List.of(1, 2, 3), list.deserialize(list.serialize(context(), List.of(1, 2, 3))));
+        Assertions.assertEquals(Map.of(1, "one", 2, "two"), map.deserialize(map.serialize(context(), Map.of(1, "one", 2, "two"))));
+        Assertions.assertEquals(List.of(3, 2), sizes);
+    }
+
+    @Test
+    void testCollectionTypeIsOnlySuppliedOnce() {
+        int[] supplied = new int[1];
+        Serializer<List<Integer>> serializer = Serializer.Collection.create(Serializer.Primitive.INTEGER, () -> {
+            supplied[0]++;
+            return new ArrayList<>();
+        });
+
+        Assertions.assertEquals(ArrayList.class, serializer.getType());
+        Assertions.assertEquals(ArrayList.class, serializer.getType());
+        Assertions.assertEquals(1, supplied[0]);
+    }
+    @Test
+    void testParallelSerializersKeepTheOrder() throws SerializationException {
+        List<Person> people = new ArrayList<>();
+        Map<String, Person> byName = new LinkedHashMap<>();
+        Map<UUID, Integer> byId = new LinkedHashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            Person person = new Person("Person" + i, i % 100, i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+            people.add(person);
+            byName.put(person.getName(), person);
+            byId.put(new UUID(i, i), i);
+        }
+
+        Serializer.Collection<Person, List<Person>> list = Serializer.Collection.create(Person.SERIALIZER, ArrayList::new);
+        Serializer<List<Person>> parallelList = list.parallel(64);
+        SerializationElement serializedList = parallelList.serialize(context(), people);
+        Assertions.assertEquals(list.serialize(context(), people), serializedList);
+        Assertions.assertEquals(people, parallelList.deserialize(serializedList));
+
+        Serializer<Person[]> array = Serializer.Array.create(Person.SERIALIZER, Person[]::new).parallel(64);
+        Assertions.assertArrayEquals(people.toArray(), array.deserialize(array.serialize(context(), people.toArray(Person[]::new))));
+
+        Serializer.Map<String, Person, Map<String, Person>> nameMap = Serializer.Map.create(Serializer.Primitive.STRING, Person.SERIALIZER, LinkedHashMap::new);
+        Serializer<Map<String, Person>> names = nameMap.parallel(64);
+        Map<String, Person> deserializedNames = names.deserialize(names.serialize(context(), byName));
+        Assertions.assertEquals(byName, deserializedNames);
+
+        Serializer.Map<UUID, Integer, Map<UUID, Integer>> idMap = Serializer.Map.create(Serializer.UUID.INSTANCE, Serializer.Primitive.INTEGER, LinkedHashMap::new);
+        Serializer<Map<UUID, Integer>> ids = idMap.parallel(64);
+        Map<UUID, Integer> deserializedIds = ids.deserialize(ids.serialize(context(), byId));
+        Assertions.assertEquals(List.copyOf(byId.keySet()), List.copyOf(deserializedIds.keySet()));
+    }
+
+    @Test
+    void testParallelSerializersReportTheFailedIndex() throws SerializationException {
+        SerializationArray array = context().createArray();
+        for (int i = 0; i < 1000; i++)
+            array.add(context().create(i == 777 ? "UNKNOWN" : Gender.values()[i % 2].name()));
+
+        Serializer.Collection<Gender, List<Gender>> sequential = Serializer.Collection.create(Serializer.Enum.create("gender", Gender.class), ArrayList::new);
+        Serializer<List<Gender>> serializer = sequential.parallel(16);
+        SerializationException exception = Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(array));
+        Assertions.assertEquals("[777]", exception.getPath());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sequential.parallel(0));
+    }
+
+    @Test
+    void testSharedSerializersAreThreadSafe() throws Exception {
+        // Created here, so the variant lookups and templates are computed while the threads race
+        Serializer.Selection<GroundVehicle> selection = Serializer.Selection.<GroundVehicle>create("vehicle_selection", GroundVehicle.class)
+                .variant("car", Car.SERIALIZER, new Car())
+                .variant("motorbike", Motorbike.SERIALIZER, new Motorbike());
+        Serializer.Enum<Gender> gender = Serializer.Enum.create("gender", Gender.class);
+        Serializer<List<Person>> people = Serializer.Collection.create(Person.SERIALIZER, ArrayList::new);
+
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        runConcurrently(Executors.newFixedThreadPool(threads), threads, task -> {
+            for (int i = 0; i < 200; i++) {
+                Person person = new Person("person" + task, i, Gender.values()[i % 2]);
+                person.setJob(new Job("company" + i, i * 100));
+                Assertions.assertEquals(person, Person.SERIALIZER.deserialize(Person.SERIALIZER.serialize(context(), person)));
+                Assertions.assertEquals(List.of(person, person), people.deserialize(people.serialize(context(), List.of(person, person))));
+                Assertions.assertEquals(person.getGender(), gender.deserialize(gender.serialize(context(), person.getGender())));
+
+                GroundVehicle vehicle = i % 2 == 0 ? new Car() : new Motorbike();
+                SerializationContainer serialized = selection.serialize(context(), vehicle).getAsContainer();
+                Assertions.assertEquals(Set.of("type", "car", "motorbike"), Set.copyOf(serialized.getChildKeys()));
+                Assertions.assertInstanceOf(vehicle.getClass(), selection.deserialize(serialized));
+                // Registering a variant must not change the shared serializer
+                Assertions.assertNotSame(selection, selection.empty("none" + task));
+            }
+        });
+        Assertions.assertEquals(3, selection.serialize(context(), new Car()).getAsContainer().size());
+    }
+
+    @Test
+    void testSharedSerializersOnVirtualThreads() throws Exception {
+        runConcurrently(Executors.newVirtualThreadPerTaskExecutor(), 1000, task -> {
+            Person person = new Person("person" + task, task % 100, Gender.values()[task % 2]);
+            Assertions.assertEquals(person, Person.SERIALIZER.deserialize(Person.SERIALIZER.serialize(context(), person)));
+            Assertions.assertInstanceOf(Car.class, GroundVehicle.VEHICLE_SELECTION_SERIALIZER.deserialize(GroundVehicle.VEHICLE_SELECTION_SERIALIZER.serialize(context(), new Car())));
+        });
+    }
+
+    @Test
+    void testBuiltSerializerIgnoresConcurrentBuilderChanges() throws Exception {
+        SerializerBuilder<Job> builder = SerializerBuilder.create("job", Job.class)
+                .constructor(
+                        new SerializableField<>("companyName", Serializer.Primitive.STRING, Job::companyName),
+                        new SerializableField<>("salary", Serializer.Primitive.DOUBLE, Job::salary),
+                        Job::new
+                );
+        Serializer<Job> serializer = builder.build();
+        Job job = new Job("Zanamon", 5000);
+        SerializationElement expected = serializer.serialize(context(), job);
+
+        runConcurrently(Executors.newFixedThreadPool(4), 4, task -> {
+            for (int i = 0; i < 200; i++) {
+                if (task == 0)
+                    builder.withFinalField("extra" + i, Serializer.Primitive.DOUBLE, Job::salary);
+                else
+                    Assertions.assertEquals(expected, serializer.serialize(context(), job));
+            }
+        });
+        Assertions.assertEquals(2, serializer.serialize(context(), job).getAsContainer().size());
+        Assertions.assertEquals(202, builder.build().serialize(context(), job).getAsContainer().size());
+    }
 
+    /**
+     * Starts all tasks at the same time and waits until they are done. The first failure of a task is rethrown.
+     */
+    private static void runConcurrently(ExecutorService executor, int tasks, ConcurrentTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        try (executor) {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConcurrentTask {
+        void run(int task) throws Exception;
+    }
 }
@@ -32,6 +32,16 @@ public class TestInputs {
         TEST_INPUTS.add(new TestInput<>(Serializer.Primitive.STRING, "abc", List.of("bgdadsad", "asdasddad", "gfdkgkg"), Map.of("de/verdox/vserializer/tests/test", "asjgigiort"), String[]::new, "bgdadsad", "asdasddad", "gfdkgkg"));
         TEST_INPUTS.add(new TestInput<>(Person.SERIALIZER, hans, List.of(hans, lisa), Map.of("hans", hans, "lisa", lisa), Person[]::new, hans, lisa));
         TEST_INPUTS.add(new TestInput<>(Job.SERIALIZER, job1, List.of(job1, job2), Map.of("job1", job1, "job2", job2), Job[]::new, job1, job2));
+        TEST_INPUTS.add(new TestInput<>(Serializer.Enum.create("gender", Gender.class), Gender.FEMALE, List.of(Gender.MALE, Gender.FEMALE), Map.of("hans", Gender.MALE), Gender[]::new, Gender.FEMALE, Gender.MALE));
+        TEST_INPUTS.add(new TestInput<>(Serializer.Enum.createOrdinal("gender", Gender.class), Gender.FEMALE, List.of(Gender.MALE, Gender.FEMALE), Map.of("hans", Gender.MALE), Gender[]::new, Gender.FEMALE, Gender.MALE));
+        TEST_INPUTS.add(new TestInput<>(Serializer.Enum.createWithIds("gender", Gender.class, gender -> gender == Gender.MALE ? 10 : 20), Gender.FEMALE, List.of(Gender.MALE, Gender.FEMALE), Map.of("hans", Gender.MALE), Gender[]::new, Gender.FEMALE, Gender.MALE));
+        EnumSet<Character.UnicodeScript> scripts = EnumSet.of(Character.UnicodeScript.COMMON, Character.UnicodeScript.LATIN, Character.UnicodeScript.UNKNOWN);
+        TEST_INPUTS.add(new TestInput<>(Serializer.EnumSet.create("scripts", Character.UnicodeScript.class), scripts, List.of(scripts, EnumSet.noneOf(Character.UnicodeScript.class)), Map.of("scripts", scripts), EnumSet[]::new, scripts, EnumSet.allOf(Character.UnicodeScript.class)));
+        EnumSet<Gender> genders = EnumSet.of(Gender.FEMALE);
+        TEST_INPUTS.add(new TestInput<>(Serializer.EnumSet.create("genders", Gender.class), genders, List.of(genders, EnumSet.allOf(Gender.class)), Map.of("genders", genders), EnumSet[]::new, genders, EnumSet.noneOf(Gender.class)));
+        EnumMap<Gender, Job> jobs = new EnumMap<>(Map.of(Gender.FEMALE, job2));
+        EnumMap<Gender, Job> allJobs = new EnumMap<>(Map.of(Gender.MALE, job1, Gender.FEMALE, job2));
+        TEST_INPUTS.add(new TestInput<>(Serializer.EnumMap.create("jobs", Gender.class, Job.SERIALIZER), jobs, List.of(jobs, allJobs), Map.of("jobs", allJobs), EnumMap[]::new, jobs, allJobs, new EnumMap<>(Gender.class)));
         //TEST_INPUTS.add(new TestInput<>(Serializer.Primitive.BOOLEAN_ARRAY, new boolean[]{false, true}, List.of(new boolean[]{false, true}, new boolean[]{false, true}), Map.of("array1", new boolean[]{false, true}, "array2", new boolean[]{false, true}), boolean[][]::new, new boolean[]{false, true}, new boolean[]{false, true}));
     }
     public record TestInput<T>(Serializer<T> serializer, T singleInput, Collection<T> collectionInput,